@@ -0,0 +1,84 @@
+package cc.anqin.benchmark;
+
+import cc.anqin.benchmark.fixture.FixtureType;
+import cc.anqin.processor.base.ConvertMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量转换的基准测试
+ * <p>
+ * 对比逐个元素查找转换器的{@link ConvertMap#toMapList(List)}、只查找一次转换器的顺序版本
+ * 和在{@link ForkJoinPool#commonPool()}中执行的并行版本。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+
+    @Param({"SMALL", "WIDE"})
+    private FixtureType fixture;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Class<Object> type;
+
+    private List<Object> entities;
+
+    private List<Map<String, Object>> maps;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        type = (Class<Object>) fixture.getType();
+        entities = fixture.createList(size);
+        maps = ConvertMap.toMapList(entities, type);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> toMapList() {
+        return ConvertMap.toMapList(entities);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> toMapListResolved() {
+        return ConvertMap.toMapList(entities, type);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> toMapListParallel() {
+        return ConvertMap.toMapList(entities, type, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public List<Object> toBeanList() {
+        return ConvertMap.toBeanList(maps, type);
+    }
+
+    @Benchmark
+    public List<Object> toBeanListParallel() {
+        return ConvertMap.toBeanList(maps, type, ForkJoinPool.commonPool());
+    }
+}
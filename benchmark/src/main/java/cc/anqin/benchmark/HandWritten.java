@@ -0,0 +1,39 @@
+package cc.anqin.benchmark;
+
+import cc.anqin.benchmark.fixture.SmallEntity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 手写的转换代码，作为生成代码的性能上限参照
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+final class HandWritten {
+
+    private HandWritten() {
+        throw new UnsupportedOperationException("HandWritten是一个工具类，不能被实例化");
+    }
+
+    static Map<String, Object> toMap(SmallEntity entity) {
+        Map<String, Object> map = new HashMap<>(8);
+        map.put("id", entity.getId());
+        map.put("name", entity.getName());
+        map.put("age", entity.getAge());
+        map.put("score", entity.getScore());
+        map.put("active", entity.getActive());
+        return map;
+    }
+
+    static SmallEntity toBean(Map<String, Object> map) {
+        SmallEntity entity = new SmallEntity();
+        entity.setId((Long) map.get("id"));
+        entity.setName((String) map.get("name"));
+        entity.setAge((Integer) map.get("age"));
+        entity.setScore((Double) map.get("score"));
+        entity.setActive((Boolean) map.get("active"));
+        return entity;
+    }
+}
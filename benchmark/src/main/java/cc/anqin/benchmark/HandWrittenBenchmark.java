@@ -0,0 +1,82 @@
+package cc.anqin.benchmark;
+
+import cc.anqin.benchmark.fixture.FixtureType;
+import cc.anqin.benchmark.fixture.SmallEntity;
+import cc.anqin.processor.base.ConvertMap;
+import cc.anqin.processor.base.MappingConvert;
+import cn.hutool.core.bean.BeanUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 生成代码与手写代码、hutool BeanUtil 的对比
+ * <p>
+ * 使用{@link SmallEntity}，手写代码是同一转换的理论上限，BeanUtil 是基于反射的基线。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class HandWrittenBenchmark {
+
+    private SmallEntity entity;
+
+    private Map<String, Object> map;
+
+    private MappingConvert<SmallEntity> convert;
+
+    @Setup
+    public void setup() {
+        entity = (SmallEntity) FixtureType.SMALL.create(new Random(FixtureType.SEED));
+        map = HandWritten.toMap(entity);
+        convert = ConvertMap.getMappingConvert(SmallEntity.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMapHandWritten() {
+        return HandWritten.toMap(entity);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMapGenerated() {
+        return convert.toMap(entity);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMapBeanUtil() {
+        return BeanUtil.beanToMap(entity);
+    }
+
+    @Benchmark
+    public SmallEntity toBeanHandWritten() {
+        return HandWritten.toBean(map);
+    }
+
+    @Benchmark
+    public SmallEntity toBeanGenerated() {
+        return convert.toBean(map);
+    }
+
+    @Benchmark
+    public SmallEntity toBeanBeanUtil() {
+        return BeanUtil.toBean(map, SmallEntity.class);
+    }
+}
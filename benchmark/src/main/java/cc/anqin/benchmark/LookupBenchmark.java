@@ -0,0 +1,49 @@
+package cc.anqin.benchmark;
+
+import cc.anqin.benchmark.fixture.SmallEntity;
+import cc.anqin.processor.base.ConvertMap;
+import cc.anqin.processor.base.MappingConvert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 转换器查找的基准测试
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class LookupBenchmark {
+
+    /** 没有转换器的类型，测量查找失败的路径 */
+    private final Class<?> missing = String.class;
+
+    @Benchmark
+    public MappingConvert<SmallEntity> getMappingConvert() {
+        return ConvertMap.getMappingConvert(SmallEntity.class);
+    }
+
+    @Benchmark
+    public boolean exists() {
+        return ConvertMap.exists(SmallEntity.class);
+    }
+
+    @Benchmark
+    public boolean existsMissing() {
+        return ConvertMap.exists(missing);
+    }
+}
@@ -0,0 +1,58 @@
+package cc.anqin.benchmark;
+
+import cc.anqin.processor.base.MappingConvert;
+import cc.anqin.processor.util.ConfigLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 注册表加载的基准测试
+ * <p>
+ * 在已预热的 JVM 中重复执行{@link ConfigLoader}的加载逻辑，测量索引读取、类查找和实例化的稳态开销。
+ * 冷启动（首次类加载）的开销见 startup 基准测试。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RegistryBenchmark {
+
+    @Param({"false", "true"})
+    private boolean lazy;
+
+    private ClassLoader classLoader;
+
+    @Setup
+    public void setup() {
+        System.setProperty(ConfigLoader.LAZY_PROPERTY, String.valueOf(lazy));
+        classLoader = RegistryBenchmark.class.getClassLoader();
+    }
+
+    @Benchmark
+    public Map<String, MappingConvert<?>> load() {
+        return ConfigLoader.loadAllConfigsAsSingleMap(classLoader);
+    }
+
+    @Benchmark
+    public Map<String, MappingConvert<?>> scan() {
+        return ConfigLoader.scanLoadAllConfigsAsSingleMap(classLoader);
+    }
+}
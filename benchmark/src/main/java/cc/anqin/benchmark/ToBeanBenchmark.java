@@ -0,0 +1,77 @@
+package cc.anqin.benchmark;
+
+import cc.anqin.benchmark.fixture.FixtureType;
+import cc.anqin.processor.base.ConvertMap;
+import cn.hutool.core.bean.BeanUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Map到对象转换的基准测试
+ * <p>
+ * 输入为完整的Map（所有字段）和只含两个键的稀疏Map（部分更新），
+ * 对比{@link ConvertMap#toBean(Map, Class)}和 hutool {@link BeanUtil#toBean(Object, Class)}。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ToBeanBenchmark {
+
+    @Param({"SMALL", "WIDE", "DEEP", "GENERIC"})
+    private FixtureType fixture;
+
+    private Class<?> type;
+
+    private Map<String, Object> fullMap;
+
+    private Map<String, Object> sparseMap;
+
+    @Setup
+    public void setup() {
+        type = fixture.getType();
+        fullMap = new HashMap<>(ConvertMap.toMap(fixture.create(new Random(FixtureType.SEED))));
+        sparseMap = new HashMap<>();
+        fullMap.entrySet().stream().limit(2).forEach(entry -> sparseMap.put(entry.getKey(), entry.getValue()));
+    }
+
+    @Benchmark
+    public Object convertMap() {
+        return ConvertMap.toBean(fullMap, type);
+    }
+
+    @Benchmark
+    public Object convertMapSparse() {
+        return ConvertMap.toBean(sparseMap, type);
+    }
+
+    @Benchmark
+    public Object beanUtil() {
+        return BeanUtil.toBean(fullMap, type);
+    }
+
+    @Benchmark
+    public Object beanUtilSparse() {
+        return BeanUtil.toBean(sparseMap, type);
+    }
+}
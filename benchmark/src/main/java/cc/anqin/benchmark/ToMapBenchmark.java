@@ -0,0 +1,68 @@
+package cc.anqin.benchmark;
+
+import cc.anqin.benchmark.fixture.FixtureType;
+import cc.anqin.processor.base.ConvertMap;
+import cc.anqin.processor.base.MappingConvert;
+import cn.hutool.core.bean.BeanUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对象到Map转换的基准测试
+ * <p>
+ * 对比{@link ConvertMap#toMap(Object)}（含转换器查找）、直接调用生成的转换器和 hutool {@link BeanUtil#beanToMap}。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ToMapBenchmark {
+
+    @Param({"SMALL", "WIDE", "DEEP", "GENERIC"})
+    private FixtureType fixture;
+
+    private Object entity;
+
+    private MappingConvert<Object> convert;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        entity = fixture.create(new Random(FixtureType.SEED));
+        convert = (MappingConvert<Object>) ConvertMap.getMappingConvert(fixture.getType());
+    }
+
+    @Benchmark
+    public Map<String, Object> convertMap() {
+        return ConvertMap.toMap(entity);
+    }
+
+    @Benchmark
+    public Map<String, Object> mappingConvert() {
+        return convert.toMap(entity);
+    }
+
+    @Benchmark
+    public Map<String, Object> beanUtil() {
+        return BeanUtil.beanToMap(entity);
+    }
+}
@@ -0,0 +1,19 @@
+package cc.anqin.benchmark.fixture;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * 深继承实体的第二层父类
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class DeepAudited extends DeepBase {
+
+    private String updatedBy;
+    private long updatedAt;
+    private int version;
+}
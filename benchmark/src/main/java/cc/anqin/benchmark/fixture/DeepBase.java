@@ -0,0 +1,17 @@
+package cc.anqin.benchmark.fixture;
+
+import lombok.Data;
+
+/**
+ * 深继承实体的第一层父类
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+@Data
+public class DeepBase {
+
+    private long id;
+    private String createdBy;
+    private long createdAt;
+}
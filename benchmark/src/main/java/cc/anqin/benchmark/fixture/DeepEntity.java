@@ -0,0 +1,21 @@
+package cc.anqin.benchmark.fixture;
+
+import cc.anqin.processor.annotation.AutoToMap;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * 深继承实体：四层继承，字段分布在每一层
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@AutoToMap
+public class DeepEntity extends DeepTenant {
+
+    private String orderNo;
+    private Long amount;
+    private Integer status;
+}
@@ -0,0 +1,18 @@
+package cc.anqin.benchmark.fixture;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * 深继承实体的第三层父类
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class DeepTenant extends DeepAudited {
+
+    private String tenantId;
+    private String region;
+}
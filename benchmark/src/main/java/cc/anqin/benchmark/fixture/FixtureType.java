@@ -0,0 +1,148 @@
+package cc.anqin.benchmark.fixture;
+
+import cc.anqin.processor.base.ConvertMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * 基准测试使用的实体类型
+ * <p>
+ * 每种类型都能用固定种子的{@link Random}生成实例，保证每次运行、每个分叉的数据完全相同。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+public enum FixtureType {
+
+    /** 5个字段的小型实体 */
+    SMALL(SmallEntity.class, FixtureType::small),
+
+    /** 100个字段的宽实体 */
+    WIDE(WideEntity.class, FixtureType::wide),
+
+    /** 四层继承的实体 */
+    DEEP(DeepEntity.class, FixtureType::deep),
+
+    /** 含泛型集合字段的实体 */
+    GENERIC(GenericEntity.class, FixtureType::generic);
+
+    /** 生成测试数据使用的随机种子 */
+    public static final long SEED = 20250910L;
+
+    private final Class<?> type;
+    private final Function<Random, Object> factory;
+
+    FixtureType(Class<?> type, Function<Random, Object> factory) {
+        this.type = type;
+        this.factory = factory;
+    }
+
+    /**
+     * 获取实体类型
+     *
+     * @return 实体类型
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * 生成一个实体实例
+     *
+     * @param random 随机数生成器
+     * @return 实体实例
+     */
+    public Object create(Random random) {
+        return factory.apply(random);
+    }
+
+    /**
+     * 用固定种子生成一组实体实例
+     *
+     * @param size 实例数量
+     * @return 实体实例列表
+     */
+    public List<Object> createList(int size) {
+        Random random = new Random(SEED);
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(create(random));
+        }
+        return list;
+    }
+
+
+    private static SmallEntity small(Random random) {
+        SmallEntity entity = new SmallEntity();
+        entity.setId(random.nextLong());
+        entity.setName("name-" + random.nextInt(10_000));
+        entity.setAge(random.nextInt(100));
+        entity.setScore(random.nextDouble() * 100);
+        entity.setActive(random.nextBoolean());
+        return entity;
+    }
+
+    private static WideEntity wide(Random random) {
+        // 宽实体的字段较多，按类型轮换生成取值后通过转换器填充，数据准备不计入测量
+        Map<String, Object> values = new HashMap<>(256);
+        for (int i = 0; i < 100; i++) {
+            Object value;
+            switch (i % 5) {
+                case 0:
+                    value = random.nextInt();
+                    break;
+                case 1:
+                    value = random.nextLong();
+                    break;
+                case 2:
+                    value = random.nextDouble();
+                    break;
+                case 3:
+                    value = "value-" + random.nextInt(10_000);
+                    break;
+                default:
+                    value = random.nextInt(1000);
+                    break;
+            }
+            values.put("f" + i, value);
+        }
+        return ConvertMap.toBean(values, WideEntity.class);
+    }
+
+    private static DeepEntity deep(Random random) {
+        DeepEntity entity = new DeepEntity();
+        entity.setId(random.nextLong());
+        entity.setCreatedBy("user-" + random.nextInt(100));
+        entity.setCreatedAt(random.nextLong());
+        entity.setUpdatedBy("user-" + random.nextInt(100));
+        entity.setUpdatedAt(random.nextLong());
+        entity.setVersion(random.nextInt(10));
+        entity.setTenantId("tenant-" + random.nextInt(10));
+        entity.setRegion("region-" + random.nextInt(5));
+        entity.setOrderNo("NO" + random.nextInt(1_000_000));
+        entity.setAmount((long) random.nextInt(100_000));
+        entity.setStatus(random.nextInt(5));
+        return entity;
+    }
+
+    private static GenericEntity generic(Random random) {
+        GenericEntity entity = new GenericEntity();
+        entity.setId(random.nextLong());
+        entity.setTags(Arrays.asList("a" + random.nextInt(10), "b" + random.nextInt(10), "c" + random.nextInt(10)));
+        entity.setRelatedIds(new HashSet<>(Arrays.asList(random.nextLong(), random.nextLong())));
+        Map<String, Integer> counters = new HashMap<>();
+        counters.put("views", random.nextInt(1000));
+        counters.put("likes", random.nextInt(1000));
+        entity.setCounters(counters);
+        entity.setChildren(Arrays.asList(small(random), small(random)));
+        return entity;
+    }
+}
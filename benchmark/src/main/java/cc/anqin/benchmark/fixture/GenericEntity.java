@@ -0,0 +1,25 @@
+package cc.anqin.benchmark.fixture;
+
+import cc.anqin.processor.annotation.AutoToMap;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 泛型集合实体：覆盖生成代码中泛型字段的转换路径
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+@Data
+@AutoToMap
+public class GenericEntity {
+
+    private long id;
+    private List<String> tags;
+    private Set<Long> relatedIds;
+    private Map<String, Integer> counters;
+    private List<SmallEntity> children;
+}
@@ -0,0 +1,21 @@
+package cc.anqin.benchmark.fixture;
+
+import cc.anqin.processor.annotation.AutoToMap;
+import lombok.Data;
+
+/**
+ * 小型实体：5个常见类型的字段
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+@Data
+@AutoToMap
+public class SmallEntity {
+
+    private long id;
+    private String name;
+    private int age;
+    private Double score;
+    private Boolean active;
+}
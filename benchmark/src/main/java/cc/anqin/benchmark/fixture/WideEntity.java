@@ -0,0 +1,116 @@
+package cc.anqin.benchmark.fixture;
+
+import cc.anqin.processor.annotation.AutoToMap;
+import lombok.Data;
+
+/**
+ * 宽实体：100个字段，依次为 int、long、double、String、Integer
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+@Data
+@AutoToMap
+public class WideEntity {
+
+    private int f0;
+    private long f1;
+    private double f2;
+    private String f3;
+    private Integer f4;
+    private int f5;
+    private long f6;
+    private double f7;
+    private String f8;
+    private Integer f9;
+    private int f10;
+    private long f11;
+    private double f12;
+    private String f13;
+    private Integer f14;
+    private int f15;
+    private long f16;
+    private double f17;
+    private String f18;
+    private Integer f19;
+    private int f20;
+    private long f21;
+    private double f22;
+    private String f23;
+    private Integer f24;
+    private int f25;
+    private long f26;
+    private double f27;
+    private String f28;
+    private Integer f29;
+    private int f30;
+    private long f31;
+    private double f32;
+    private String f33;
+    private Integer f34;
+    private int f35;
+    private long f36;
+    private double f37;
+    private String f38;
+    private Integer f39;
+    private int f40;
+    private long f41;
+    private double f42;
+    private String f43;
+    private Integer f44;
+    private int f45;
+    private long f46;
+    private double f47;
+    private String f48;
+    private Integer f49;
+    private int f50;
+    private long f51;
+    private double f52;
+    private String f53;
+    private Integer f54;
+    private int f55;
+    private long f56;
+    private double f57;
+    private String f58;
+    private Integer f59;
+    private int f60;
+    private long f61;
+    private double f62;
+    private String f63;
+    private Integer f64;
+    private int f65;
+    private long f66;
+    private double f67;
+    private String f68;
+    private Integer f69;
+    private int f70;
+    private long f71;
+    private double f72;
+    private String f73;
+    private Integer f74;
+    private int f75;
+    private long f76;
+    private double f77;
+    private String f78;
+    private Integer f79;
+    private int f80;
+    private long f81;
+    private double f82;
+    private String f83;
+    private Integer f84;
+    private int f85;
+    private long f86;
+    private double f87;
+    private String f88;
+    private Integer f89;
+    private int f90;
+    private long f91;
+    private double f92;
+    private String f93;
+    private Integer f94;
+    private int f95;
+    private long f96;
+    private double f97;
+    private String f98;
+    private Integer f99;
+}
@@ -0,0 +1,339 @@
+package cc.anqin.benchmark.startup;
+
+import cc.anqin.processor.base.ConvertMap;
+import cc.anqin.processor.enums.LoadStrategyEnum;
+import cc.anqin.processor.util.ConfigLoader;
+import cn.hutool.json.JSONUtil;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+
+/**
+ * 转换器注册表初始化的启动测试与回归门禁
+ * <p>
+ * JMH 测量的是稳态吞吐，无法反映只发生一次的{@code ConvertMap}静态初始化，因此启动耗时单独用该程序测量：
+ * 按{@code startup.sizes}生成并编译对应数量的合成实体，然后对每种加载策略（以及服务索引、注册表策略的懒加载模式）
+ * 各启动{@code startup.forks}个全新的 JVM 运行{@link StartupProbe}，取中位数作为结果。
+ * </p>
+ * <p>
+ * 子进程不继承当前进程的类路径：基准测试模块自身的实体也带有转换器，会被一起注册并计入耗时。
+ * 子进程的类路径只包含合成实体、本库、hutool 和探针类，后三者从当前类路径中提取到{@code probe.jar}。
+ * </p>
+ *
+ * 可用的系统属性：
+ * <ul>
+ *   <li>{@code startup.sizes} - 实体数量列表，逗号分隔，默认{@code 10,100,1000,5000}</li>
+ *   <li>{@code startup.forks} - 每种组合启动的 JVM 数量，默认{@code 5}</li>
+ *   <li>{@code startup.dir} - 合成实体的工作目录，默认{@code target/startup}</li>
+ *   <li>{@code startup.result} - JSON 结果文件，默认{@code target/startup-result.json}</li>
+ *   <li>{@code startup.budget} - 耗时预算文件，默认使用类路径上的{@code startup-budget.properties}</li>
+ * </ul>
+ *
+ * 预算文件的键为{@code <策略>[.lazy].<实体数量>}，值为初始化耗时的上限（毫秒），例如{@code REGISTRY.lazy.5000=150}。
+ * 任意一项中位数超过预算时，程序以状态码1退出，可以作为回归门禁。预算与机器相关，来源见预算文件中的说明。
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+public final class StartupBenchmark {
+
+    /** 默认的预算文件 */
+    private static final String BUDGET_RESOURCE = "startup-budget.properties";
+
+    /** 子进程类路径中保留的条目：本库、hutool 和探针类 */
+    private static final String[] PROBE_ENTRIES = {
+            "cc/anqin/processor/",
+            "cn/hutool/",
+            StartupProbe.class.getName().replace('.', '/') + ".class"
+    };
+
+    /** 多版本 jar 中版本目录的前缀 */
+    private static final String VERSIONS_PREFIX = "META-INF/versions/";
+
+
+    private StartupBenchmark() {
+        throw new UnsupportedOperationException("StartupBenchmark是一个工具类，不能被实例化");
+    }
+
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = Arrays.stream(System.getProperty("startup.sizes", "10,100,1000,5000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        int forks = Integer.getInteger("startup.forks", 5);
+        if (forks <= 0) {
+            throw new IllegalArgumentException("startup.forks必须大于0");
+        }
+        Path directory = Paths.get(System.getProperty("startup.dir", "target/startup"));
+        Path resultFile = Paths.get(System.getProperty("startup.result", "target/startup-result.json"));
+        Properties budget = loadBudget();
+        Path probeJar = buildProbeJar(directory.resolve("probe.jar"));
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        List<String> violations = new ArrayList<>();
+
+        for (int size : sizes) {
+            System.out.printf("编译 %d 个合成实体...%n", size);
+            Path classes = SyntheticEntities.build(directory.resolve("n" + size), size);
+
+            for (LoadStrategyEnum strategy : LoadStrategyEnum.values()) {
+                for (boolean lazy : new boolean[]{false, true}) {
+                    // 包扫描需要加载所有类，懒加载对它不生效
+                    if (lazy && strategy == LoadStrategyEnum.SCAN) {
+                        continue;
+                    }
+                    String key = strategy.name() + (lazy ? ".lazy." : ".") + size;
+
+                    long[][] samples = new long[forks][];
+                    for (int i = 0; i < forks; i++) {
+                        samples[i] = fork(classes, probeJar, strategy, lazy);
+                    }
+                    double millis = median(samples, 0) / 1_000_000.0;
+                    long allocated = median(samples, 1);
+                    long loadedClasses = median(samples, 2);
+                    long converters = median(samples, 3);
+
+                    Map<String, Object> result = new LinkedHashMap<>();
+                    result.put("strategy", strategy.name());
+                    result.put("lazy", lazy);
+                    result.put("entities", size);
+                    result.put("forks", forks);
+                    result.put("initMillis", Math.round(millis * 100) / 100.0);
+                    result.put("allocatedBytes", allocated);
+                    result.put("loadedClasses", loadedClasses);
+                    result.put("converters", converters);
+
+                    String limit = budget.getProperty(key);
+                    if (limit != null) {
+                        double budgetMillis = Double.parseDouble(limit.trim());
+                        result.put("budgetMillis", budgetMillis);
+                        if (millis > budgetMillis) {
+                            violations.add(String.format("%s: %.2fms > %sms", key, millis, limit.trim()));
+                        }
+                    }
+                    results.add(result);
+
+                    System.out.printf("%-26s %10.2f ms %14d B %8d classes %8d converters%n",
+                            key, millis, allocated, loadedClasses, converters);
+                }
+            }
+        }
+
+        Path parent = resultFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(resultFile, JSONUtil.toJsonPrettyStr(results).getBytes(StandardCharsets.UTF_8));
+        System.out.println("结果已写入: " + resultFile);
+
+        if (!violations.isEmpty()) {
+            System.out.println("超出启动耗时预算:");
+            violations.forEach(violation -> System.out.println("  " + violation));
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 启动一个全新的 JVM 运行探针
+     *
+     * @param classes  合成实体的类目录
+     * @param probeJar 本库、hutool 和探针类组成的 jar
+     * @param strategy 加载策略
+     * @param lazy     是否懒加载
+     * @return 探针输出的测量值：耗时纳秒、分配字节、加载类数、转换器数
+     * @throws IOException           如果启动子进程失败
+     * @throws IllegalStateException 如果子进程异常退出或没有输出结果
+     */
+    private static long[] fork(Path classes, Path probeJar, LoadStrategyEnum strategy, boolean lazy)
+            throws IOException, InterruptedException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        String classpath = classes.toAbsolutePath() + File.pathSeparator + probeJar.toAbsolutePath();
+
+        Process process = new ProcessBuilder(java,
+                "-D" + ConfigLoader.STRATEGY_PROPERTY + "=" + strategy.name(),
+                "-D" + ConfigLoader.LAZY_PROPERTY + "=" + lazy,
+                "-cp", classpath,
+                StartupProbe.class.getName())
+                .redirectErrorStream(true)
+                .start();
+
+        long[] sample = null;
+        StringBuilder output = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(StartupProbe.RESULT_PREFIX)) {
+                    sample = Arrays.stream(line.substring(StartupProbe.RESULT_PREFIX.length()).trim().split(" "))
+                            .mapToLong(Long::parseLong)
+                            .toArray();
+                } else {
+                    output.append(line).append('\n');
+                }
+            }
+        }
+        int exitCode = process.waitFor();
+        if (exitCode != 0 || sample == null) {
+            throw new IllegalStateException("启动探针执行失败（" + strategy + "，退出码 " + exitCode + "）:\n" + output);
+        }
+        return sample;
+    }
+
+    /**
+     * 把本库、hutool 和探针类从当前类路径中提取到一个多版本 jar
+     * <p>
+     * 以 shade 后的{@code benchmarks.jar}运行时，这些类与基准测试的实体在同一个 jar 中，因此按条目而不是按 jar 挑选。
+     * </p>
+     *
+     * @param target 输出的 jar
+     * @return 输出的 jar
+     * @throws IOException 如果读取类路径或写入失败
+     */
+    private static Path buildProbeJar(Path target) throws IOException {
+        Set<Path> locations = new LinkedHashSet<>();
+        for (Class<?> type : new Class<?>[]{ConvertMap.class, JSONUtil.class, StartupProbe.class}) {
+            try {
+                locations.add(Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()));
+            } catch (URISyntaxException e) {
+                throw new IOException("无法定位类所在的类路径: " + type.getName(), e);
+            }
+        }
+
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().putValue("Multi-Release", "true");
+
+        Set<String> written = new HashSet<>();
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(target), manifest)) {
+            for (Path location : locations) {
+                if (Files.isDirectory(location)) {
+                    try (Stream<Path> files = Files.walk(location)) {
+                        for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                            String name = location.relativize(file).toString().replace(File.separatorChar, '/');
+                            if (isProbeEntry(name) && written.add(name)) {
+                                out.putNextEntry(new JarEntry(name));
+                                Files.copy(file, out);
+                                out.closeEntry();
+                            }
+                        }
+                    }
+                } else {
+                    try (JarFile jar = new JarFile(location.toFile())) {
+                        Enumeration<JarEntry> entries = jar.entries();
+                        while (entries.hasMoreElements()) {
+                            JarEntry entry = entries.nextElement();
+                            if (!entry.isDirectory() && isProbeEntry(entry.getName()) && written.add(entry.getName())) {
+                                out.putNextEntry(new JarEntry(entry.getName()));
+                                try (InputStream in = jar.getInputStream(entry)) {
+                                    copy(in, out);
+                                }
+                                out.closeEntry();
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return target;
+    }
+
+    /**
+     * 判断类路径条目是否需要放入探针 jar，多版本目录中的条目按去掉版本前缀后的名称判断
+     *
+     * @param name 条目名称
+     * @return 需要时返回true
+     */
+    private static boolean isProbeEntry(String name) {
+        if (name.startsWith(VERSIONS_PREFIX)) {
+            int slash = name.indexOf('/', VERSIONS_PREFIX.length());
+            return slash > 0 && isProbeEntry(name.substring(slash + 1));
+        }
+        for (String prefix : PROBE_ENTRIES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 复制输入流到输出流，不关闭任何一方
+     *
+     * @param in  输入流
+     * @param out 输出流
+     * @throws IOException 如果读写失败
+     */
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+    }
+
+    /**
+     * 计算所有样本中某一列的中位数
+     *
+     * @param samples 样本
+     * @param column  列下标
+     * @return 中位数，样本数为偶数时取较小的一个
+     */
+    private static long median(long[][] samples, int column) {
+        long[] values = new long[samples.length];
+        for (int i = 0; i < samples.length; i++) {
+            values[i] = samples[i][column];
+        }
+        Arrays.sort(values);
+        return values[(values.length - 1) / 2];
+    }
+
+    /**
+     * 读取耗时预算
+     *
+     * @return 预算，没有预算文件时为空
+     * @throws IOException 如果读取失败
+     */
+    private static Properties loadBudget() throws IOException {
+        Properties budget = new Properties();
+        String path = System.getProperty("startup.budget");
+        if (path != null) {
+            try (Reader reader = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)) {
+                budget.load(reader);
+            }
+            return budget;
+        }
+        try (InputStream in = StartupBenchmark.class.getClassLoader().getResourceAsStream(BUDGET_RESOURCE)) {
+            if (in != null) {
+                budget.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            }
+        }
+        return budget;
+    }
+}
@@ -0,0 +1,57 @@
+package cc.anqin.benchmark.startup;
+
+import cc.anqin.processor.base.ConvertMap;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * 在全新 JVM 中测量一次{@link ConvertMap}初始化的探针
+ * <p>
+ * 由{@link StartupBenchmark}以子进程方式启动，加载策略通过{@code -Dauto.mapping.strategy}、
+ * {@code -Dauto.mapping.lazy}传入。测量结果以一行{@code STARTUP <耗时纳秒> <分配字节> <加载类数> <转换器数>}输出到标准输出。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+public final class StartupProbe {
+
+    /** 结果行的前缀 */
+    static final String RESULT_PREFIX = "STARTUP ";
+
+    private StartupProbe() {
+        throw new UnsupportedOperationException("StartupProbe是一个工具类，不能被实例化");
+    }
+
+    public static void main(String[] args) throws Exception {
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        long classesBefore = classLoading.getTotalLoadedClassCount();
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+
+        // 触发 ConvertMap 的静态初始化，即完整的注册表加载过程
+        Class.forName("cc.anqin.processor.base.ConvertMap", true, StartupProbe.class.getClassLoader());
+
+        long nanos = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        long classes = classLoading.getTotalLoadedClassCount() - classesBefore;
+        int converters = ConvertMap.getRegisteredMap().size();
+
+        System.out.println(RESULT_PREFIX + nanos + " " + allocated + " " + classes + " " + converters);
+    }
+
+    /**
+     * 获取当前线程累计分配的字节数
+     *
+     * @return 字节数，JVM 不支持时返回0
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,132 @@
+package cc.anqin.benchmark.startup;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 合成实体的生成与编译
+ * <p>
+ * 按数量生成带{@code @AutoToMap}注解的实体源码，并在当前进程中用 javac 和注解处理器编译，
+ * 得到包含转换器类、服务索引和 JSON 注册表的类目录，供启动测试的子进程放到类路径上。
+ * 每个实体有8个常见类型的字段和手写的 getter、setter，不依赖 Lombok。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+final class SyntheticEntities {
+
+    /** 合成实体所在的包 */
+    static final String PACKAGE = "synthetic.startup";
+
+    /** 实体字段：类型与名称 */
+    private static final String[][] FIELDS = {
+            {"long", "id"},
+            {"String", "name"},
+            {"int", "count"},
+            {"Double", "ratio"},
+            {"String", "code"},
+            {"long", "createdAt"},
+            {"Integer", "status"},
+            {"String", "remark"},
+    };
+
+    private SyntheticEntities() {
+        throw new UnsupportedOperationException("SyntheticEntities是一个工具类，不能被实例化");
+    }
+
+
+    /**
+     * 生成并编译指定数量的实体
+     *
+     * @param directory 工作目录，会在其中创建{@code src}、{@code generated}和{@code classes}子目录
+     * @param count     实体数量
+     * @return 编译输出的类目录
+     * @throws IOException           如果读写文件失败
+     * @throws IllegalStateException 如果当前运行环境不是 JDK 或编译失败
+     */
+    static Path build(Path directory, int count) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("启动测试需要在 JDK 而不是 JRE 上运行");
+        }
+
+        Path sources = Files.createDirectories(directory.resolve("src").resolve(PACKAGE.replace('.', File.separatorChar)));
+        Path generated = Files.createDirectories(directory.resolve("generated"));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+
+        List<File> files = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String className = "Entity" + i;
+            Path file = sources.resolve(className + ".java");
+            Files.write(file, source(className).getBytes(StandardCharsets.UTF_8));
+            files.add(file.toFile());
+        }
+
+        String classpath = System.getProperty("java.class.path");
+        List<String> options = Arrays.asList(
+                "-encoding", "UTF-8",
+                "-nowarn",
+                "-classpath", classpath,
+                "-processorpath", classpath,
+                "-processor", "cc.anqin.processor.MapConverterProcessor",
+                "-s", generated.toString(),
+                "-d", classes.toString());
+
+        // 注解处理器会为每个实体输出一行日志，编译期间暂时屏蔽标准输出
+        PrintStream stdout = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+        }));
+        boolean success;
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(files);
+            success = compiler.getTask(null, fileManager, null, options, null, units).call();
+        } finally {
+            System.setOut(stdout);
+        }
+        if (!success) {
+            throw new IllegalStateException("编译合成实体失败: " + directory);
+        }
+        return classes;
+    }
+
+    /**
+     * 生成单个实体的源码
+     *
+     * @param className 类名
+     * @return 源码
+     */
+    private static String source(String className) {
+        StringBuilder builder = new StringBuilder(2048)
+                .append("package ").append(PACKAGE).append(";\n\n")
+                .append("@cc.anqin.processor.annotation.AutoToMap\n")
+                .append("public class ").append(className).append(" {\n");
+        for (String[] field : FIELDS) {
+            builder.append("    private ").append(field[0]).append(' ').append(field[1]).append(";\n");
+        }
+        for (String[] field : FIELDS) {
+            String type = field[0];
+            String name = field[1];
+            String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            builder.append("    public ").append(type).append(" get").append(suffix).append("() { return ").append(name).append("; }\n")
+                    .append("    public void set").append(suffix).append('(').append(type).append(" value) { this.")
+                    .append(name).append(" = value; }\n");
+        }
+        return builder.append("}\n").toString();
+    }
+}
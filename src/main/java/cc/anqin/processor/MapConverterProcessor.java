@@ -2,8 +2,11 @@ package cc.anqin.processor;
 
 import cc.anqin.processor.annotation.AutoToMap;
 import cc.anqin.processor.base.ConvertMap;
+import cc.anqin.processor.enums.MapTypeEnum;
+import cc.anqin.processor.util.BeanCreator;
 import cc.anqin.processor.util.CollectFields;
 import cc.anqin.processor.util.ConfigLoader;
+import cc.anqin.processor.util.FieldAccessors;
 import cn.hutool.core.util.StrUtil;
 import com.squareup.javapoet.*;
 
@@ -12,16 +15,25 @@ import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import static cc.anqin.processor.util.ConfigLoader.PACKAGE_PREFIX;
 
@@ -51,7 +63,6 @@ import static cc.anqin.processor.util.ConfigLoader.PACKAGE_PREFIX;
  * @see ConvertMap
  */
 @SupportedAnnotationTypes("cc.anqin.processor.annotation.AutoToMap")
-@SupportedSourceVersion(SourceVersion.RELEASE_8)
 public class MapConverterProcessor extends AbstractProcessor {
 
     /**
@@ -59,9 +70,36 @@ public class MapConverterProcessor extends AbstractProcessor {
      * <p>
      * 用于保存所有生成的转换器信息，键为原始类的全限定名，值为生成的转换器类名。
      * 此注册表用于生成元数据文件，便于运行时快速查找转换器。
+     * 每次编译使用新的处理器实例，同一JVM中的多次编译不会共享注册表。
      * </p>
      */
-    private static final Map<String, String> converterRegistry = new HashMap<>();
+    private final Map<String, String> converterRegistry = new HashMap<>();
+
+    /** 泛型集合字段的快速路径需要未检查的强制转换 */
+    private static final AnnotationSpec UNCHECKED = AnnotationSpec.builder(SuppressWarnings.class)
+            .addMember("value", "$S", "unchecked")
+            .build();
+
+    /** 生成的转换器中对象到Map转换的键表常量的名称 */
+    private static final String MAP_KEYS = "MAP_KEYS";
+
+    /** 生成的转换器中Map到对象转换的键表常量的名称 */
+    private static final String BEAN_KEYS = "BEAN_KEYS";
+
+
+    /**
+     * 获取支持的源码版本
+     * <p>
+     * 生成的代码只使用 Java 8 的语法，但需要在更高版本的源码中处理 record 等新的类型，
+     * 因此声明支持当前编译器的最新版本，避免编译时出现源码版本的警告。
+     * </p>
+     *
+     * @return 当前编译器支持的最新源码版本
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
 
 
     /**
@@ -82,16 +120,17 @@ public class MapConverterProcessor extends AbstractProcessor {
                 TypeElement typeElement = (TypeElement) element;
                 generateMethod(typeElement);
 
-                // 注册转换器信息
-                String originalClassName = typeElement.getQualifiedName().toString();
+                // 注册转换器信息：以二进制名为键，与运行时的 Class#getName() 一致
+                String originalClassName = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
 
                 converterRegistry.put(originalClassName, PACKAGE_PREFIX + originalClassName);
             }
         }
 
-        // 在所有注解处理完成后生成注册表
+        // 在所有注解处理完成后生成注册表和服务索引
         if (roundEnv.processingOver()) {
             generateJsonRegistryFile();
+            generateServiceFile();
         }
 
         return true;
@@ -114,10 +153,13 @@ public class MapConverterProcessor extends AbstractProcessor {
      */
     private void generateMethod(TypeElement typeElement) {
 
-        String className = typeElement.getSimpleName().toString();
-
         String packageName = processingEnv.getElementUtils().getPackageOf(typeElement).toString();
 
+        // 生成的类名取实体类二进制名去掉包名的部分，嵌套类为 Outer$Inner，
+        // 使转换器全限定名始终等于前缀加实体类的二进制名，也不会与同包中同名的顶层类冲突
+        String binaryName = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+        String className = binaryName.substring(binaryName.lastIndexOf('.') + 1);
+
         // 创建  @Generated 注解
         AnnotationSpec componentAnnotation = AnnotationSpec
                 .builder(ClassName.get("cc.anqin.processor.annotation", "Generated"))
@@ -129,19 +171,87 @@ public class MapConverterProcessor extends AbstractProcessor {
                 .build();
 
 
+        // 对象到Map转换的键表，供按下标访问字段的方法共用
+        List<Map.Entry<String, VariableElement>> mapSchema =
+                new ArrayList<>(CollectFields.toMapSchema(typeElement, processingEnv).entrySet());
+        // Map到对象转换的键表，供按下标写入字段的方法共用
+        List<Map.Entry<String, VariableElement>> beanSchema =
+                new ArrayList<>(CollectFields.toBeanSchema(typeElement, processingEnv).entrySet());
+
+        AutoToMap autoToMap = typeElement.getAnnotation(AutoToMap.class);
+
         // 创建实现 MappingConvert 接口的类
-        TypeSpec mapConverterClass = TypeSpec.classBuilder(className)
+        TypeSpec.Builder mapConverterClass = TypeSpec.classBuilder(className)
                 .addModifiers(Modifier.PUBLIC)
                 .addAnnotation(componentAnnotation)
                 .addSuperinterface(ParameterizedTypeName.get(
                         ClassName.get("cc.anqin.processor.base", "MappingConvert"),
                         TypeName.get(typeElement.asType())
                 ))
+                .addField(keysField(MAP_KEYS, mapSchema))
+                .addField(keysField(BEAN_KEYS, beanSchema))
+                .addFields(CollectFields.toBeanTypeConstants(typeElement, processingEnv))
+                .addMethod(getTargetClass(typeElement))
                 .addMethod(toMap(typeElement))
                 .addMethod(toBean(typeElement))
-                .build();
+                .addMethod(keys("mapKeys", MAP_KEYS))
+                .addMethod(keys("beanKeys", BEAN_KEYS));
 
-        write(PACKAGE_PREFIX + packageName, mapConverterClass);
+        // 稀疏Map的转换方法只在toBean可能转交时生成
+        if (CollectFields.toBeanSchema(typeElement, processingEnv).size() / 2 > 0) {
+            mapConverterClass.addMethod(toBeanSparse(typeElement));
+        }
+
+        // 以下方法按注解开启，未开启时使用 MappingConvert 的默认实现
+        if (autoToMap.view() || autoToMap.primitives() || MapTypeEnum.COMPACT.equals(autoToMap.mapType())) {
+            mapConverterClass.addMethod(keyIndex("mapKeyIndex", mapSchema));
+        }
+        if (autoToMap.view()) {
+            mapConverterClass.addMethod(readField(typeElement, mapSchema))
+                    .addMethod(toMapView(typeElement));
+        }
+        if (autoToMap.primitives()) {
+            mapConverterClass.addMethod(keyIndex("beanKeyIndex", beanSchema))
+                    .addMethod(primitiveGetter(typeElement, mapSchema, "getInt", TypeKind.INT))
+                    .addMethod(primitiveGetter(typeElement, mapSchema, "getLong", TypeKind.LONG))
+                    .addMethod(primitiveGetter(typeElement, mapSchema, "getDouble", TypeKind.DOUBLE))
+                    .addMethod(primitiveGetter(typeElement, mapSchema, "getBoolean", TypeKind.BOOLEAN))
+                    .addMethod(primitiveSetter(typeElement, beanSchema, "setInt", TypeKind.INT))
+                    .addMethod(primitiveSetter(typeElement, beanSchema, "setLong", TypeKind.LONG))
+                    .addMethod(primitiveSetter(typeElement, beanSchema, "setDouble", TypeKind.DOUBLE))
+                    .addMethod(primitiveSetter(typeElement, beanSchema, "setBoolean", TypeKind.BOOLEAN))
+                    .addMethod(writePrimitives(typeElement, mapSchema));
+        }
+        if (autoToMap.sink()) {
+            mapConverterClass.addMethod(writeTo(typeElement, mapSchema));
+        }
+        if (autoToMap.fieldSource()) {
+            mapConverterClass.addMethod(toBeanFromSource(typeElement));
+        }
+        if (autoToMap.errors()) {
+            mapConverterClass.addMethod(toBeanWithErrors(typeElement));
+        }
+
+        write(PACKAGE_PREFIX + packageName, mapConverterClass.build());
+    }
+
+    /**
+     * 生成getTargetClass方法的实现
+     * <p>
+     * 直接返回实体类的{@code Class}字面量，使运行时通过包扫描或{@link java.util.ServiceLoader}加载转换器时，
+     * 无需反射解析{@link cc.anqin.processor.base.MappingConvert}的泛型参数即可完成注册。
+     * </p>
+     *
+     * @param typeElement 要处理的类型元素，表示需要生成转换方法的实体类
+     * @return 生成的getTargetClass方法定义
+     */
+    private MethodSpec getTargetClass(TypeElement typeElement) {
+        return MethodSpec.methodBuilder("getTargetClass")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .returns(ParameterizedTypeName.get(ClassName.get(Class.class), TypeName.get(typeElement.asType())))
+                .addStatement("return $T.class", ClassName.get(typeElement))
+                .build();
     }
 
     /**
@@ -150,7 +260,8 @@ public class MapConverterProcessor extends AbstractProcessor {
      * 该方法负责生成将实体对象转换为Map的方法实现。生成的方法会：
      * <ul>
      *   <li>添加空值检查，当输入为null时返回空Map</li>
-     *   <li>创建一个新的HashMap实例用于存储转换结果</li>
+     *   <li>按{@link AutoToMap#mapType()}创建HashMap或LinkedHashMap实例用于存储转换结果，
+     *       容量根据编译期已知的字段数量预先设置，保证转换过程中不会扩容</li>
      *   <li>通过{@link CollectFields#toMapCollectFields}方法收集实体类的字段并生成转换代码</li>
      * </ul>
      * </p>
@@ -170,8 +281,18 @@ public class MapConverterProcessor extends AbstractProcessor {
                 .addStatement("    return $T.emptyMap()", ClassName.get("java.util", "Collections")) // 如果 dataMap 为空，返回新实例
                 .endControlFlow();
 
-        // 初始化 Map
-        toMapBuilder.addStatement("$T<String, Object> map = new $T<>()", Map.class, HashMap.class);
+        MapTypeEnum mapTypeEnum = typeElement.getAnnotation(AutoToMap.class).mapType();
+        if (MapTypeEnum.COMPACT.equals(mapTypeEnum)) {
+            return compactToMap(toMapBuilder, typeElement);
+        }
+
+        // 初始化 Map：字段数量在编译期已知，预先设置容量以避免转换过程中扩容
+        int fieldCount = CollectFields.toMapFields(typeElement, processingEnv).size();
+        int initialCapacity = (int) (fieldCount / 0.75f) + 1;
+        Class<?> mapType = MapTypeEnum.LINKED_HASH_MAP.equals(mapTypeEnum)
+                ? LinkedHashMap.class
+                : HashMap.class;
+        toMapBuilder.addStatement("$T<String, Object> map = new $T<>($L)", Map.class, mapType, initialCapacity);
 
         // 遍历字段（包含父类）
         CollectFields.toMapCollectFields(typeElement, toMapBuilder, processingEnv);
@@ -181,12 +302,38 @@ public class MapConverterProcessor extends AbstractProcessor {
         return toMapBuilder.build();
     }
 
+    /**
+     * 生成返回紧凑Map的toMap方法体
+     * <p>
+     * 字段值按键表下标写入长度恰好等于字段数量的数组，再包装为{@link cc.anqin.processor.base.FieldArrayMap}，
+     * 键表是转换器的静态常量，不随结果复制。
+     * </p>
+     *
+     * @param toMapBuilder 已完成空值检查的toMap方法构建器
+     * @param typeElement  要处理的类型元素，表示需要生成转换方法的实体类
+     * @return 生成的toMap方法定义
+     */
+    private MethodSpec compactToMap(MethodSpec.Builder toMapBuilder, TypeElement typeElement) {
+        toMapBuilder.addStatement("Object[] values = new Object[$L.length]", MAP_KEYS);
+
+        int index = 0;
+        for (VariableElement field : CollectFields.toMapSchema(typeElement, processingEnv).values()) {
+            toMapBuilder.addCode("//  $L\n", field.getSimpleName());
+            toMapBuilder.addStatement("values[$L] = $L", index++, FieldAccessors.read(field, "entity", processingEnv));
+            toMapBuilder.addCode("\n");
+        }
+
+        toMapBuilder.addStatement("return new $T(this, values)", ClassName.get("cc.anqin.processor.base", "FieldArrayMap"));
+        return toMapBuilder.build();
+    }
+
     /**
      * 生成toBean方法的实现
      * <p>
      * 该方法负责生成将Map转换为实体对象的方法实现。生成的方法会：
      * <ul>
      *   <li>添加空值检查，当输入为空Map时返回新的实体实例</li>
+     *   <li>Map的大小不超过字段数量的一半、且按键的{@code equals}查找时，转交给{@link #toBeanSparse}只遍历Map中的条目</li>
      *   <li>创建一个新的实体实例用于设置属性</li>
      *   <li>通过{@link CollectFields#toBeanCollectFields}方法收集实体类的字段并生成转换代码</li>
      * </ul>
@@ -198,24 +345,428 @@ public class MapConverterProcessor extends AbstractProcessor {
      */
     private MethodSpec toBean(TypeElement typeElement) {
         TypeMirror targetType = typeElement.asType();
+        BeanCreator creator = BeanCreator.of(typeElement, processingEnv);
         // 创建 toBean 方法
         MethodSpec.Builder toBeanMethodBuilder = MethodSpec.methodBuilder("toBean")
                 .addModifiers(Modifier.PUBLIC)
                 .addAnnotation(Override.class)
+                .addAnnotation(UNCHECKED)
                 .addParameter(ParameterizedTypeName.get(Map.class, String.class, Object.class), "dataMap")
                 .returns(TypeVariableName.get(targetType))
                 .beginControlFlow("if ($T.isEmpty(dataMap))", ClassName.get("cn.hutool.core.collection", "CollUtil")) // 添加空检查
-                .addStatement("    return new $T()", targetType) // 如果 dataMap 为空，返回新实例
-                .endControlFlow()
-                .addStatement("$T bean = new $T()", targetType, targetType); // 初始化 Bean
+                .addStatement("    return $L", creator.empty()) // 如果 dataMap 为空，返回新实例
+                .endControlFlow();
+
+        // 稀疏的Map（例如部分更新）只遍历其中的条目，避免为每个字段调用一次 dataMap.get；
+        // 忽略大小写等自定义键匹配的Map遍历条目时结果与 get 不同，仍然逐个字段查找
+        int sparseThreshold = CollectFields.toBeanSchema(typeElement, processingEnv).size() / 2;
+        if (sparseThreshold > 0) {
+            toBeanMethodBuilder.beginControlFlow("if (dataMap.size() <= $L && $T.isEqualsKeyed(dataMap))",
+                            sparseThreshold, ClassName.get("cc.anqin.processor.base", "ConvertSupport"))
+                    .addStatement("return toBeanSparse(dataMap)")
+                    .endControlFlow();
+        }
+
+        creator.declare(toBeanMethodBuilder); // 初始化 Bean
 
         // 遍历Map的 字段
         CollectFields.toBeanCollectFields(typeElement, toBeanMethodBuilder, processingEnv);
 
-        toBeanMethodBuilder.addStatement("return bean");
+        toBeanMethodBuilder.addStatement("return $L", creator.create());
         return toBeanMethodBuilder.build();
     }
 
+    /**
+     * 生成稀疏Map的toBean方法的实现
+     * <p>
+     * 生成私有方法{@code toBeanSparse}，只遍历一次{@code dataMap.entrySet()}并按键 switch 分派到字段，
+     * 查找次数与Map的大小而不是字段数量成正比。由{@link #toBean(TypeElement)}在运行时根据Map的大小和类型选择，
+     * 只用于按键的{@code equals}查找的Map（见{@code ConvertSupport.isEqualsKeyed}）。
+     * </p>
+     *
+     * @param typeElement 要处理的类型元素，表示需要生成转换方法的实体类
+     * @return 生成的toBeanSparse方法定义
+     * @see CollectFields#toBeanSparseCollectFields
+     */
+    private MethodSpec toBeanSparse(TypeElement typeElement) {
+        TypeMirror targetType = typeElement.asType();
+        BeanCreator creator = BeanCreator.of(typeElement, processingEnv);
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("toBeanSparse")
+                .addModifiers(Modifier.PRIVATE)
+                .addAnnotation(UNCHECKED)
+                .addParameter(ParameterizedTypeName.get(Map.class, String.class, Object.class), "dataMap")
+                .returns(TypeVariableName.get(targetType));
+        creator.declare(builder);
+
+        CollectFields.toBeanSparseCollectFields(typeElement, builder, processingEnv);
+
+        builder.addStatement("return $L", creator.create());
+        return builder.build();
+    }
+
+    /**
+     * 生成收集转换错误的toBean方法的实现
+     * <p>
+     * 生成{@code toBean(Map, ConversionErrors)}，字段的快速路径与{@link #toBean(TypeElement)}相同，
+     * 通用转换失败时把错误记录到收集器而不是抛出异常。收集器为null时转交给普通的{@code toBean}。
+     * </p>
+     *
+     * @param typeElement 要处理的类型元素，表示需要生成转换方法的实体类
+     * @return 生成的toBean(Map, ConversionErrors)方法定义
+     * @see CollectFields#toBeanCollectFieldsWithErrors
+     */
+    private MethodSpec toBeanWithErrors(TypeElement typeElement) {
+        TypeMirror targetType = typeElement.asType();
+        BeanCreator creator = BeanCreator.of(typeElement, processingEnv);
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("toBean")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .addAnnotation(UNCHECKED)
+                .addParameter(ParameterizedTypeName.get(Map.class, String.class, Object.class), "dataMap")
+                .addParameter(ClassName.get("cc.anqin.processor.base", "ConversionErrors"), "errors")
+                .returns(TypeVariableName.get(targetType))
+                .beginControlFlow("if (errors == null)")
+                .addStatement("return toBean(dataMap)")
+                .endControlFlow()
+                .beginControlFlow("if ($T.isEmpty(dataMap))", ClassName.get("cn.hutool.core.collection", "CollUtil"))
+                .addStatement("return $L", creator.empty())
+                .endControlFlow();
+        creator.declare(builder);
+
+        CollectFields.toBeanCollectFieldsWithErrors(typeElement, builder, processingEnv);
+
+        builder.addStatement("return $L", creator.create());
+        return builder.build();
+    }
+
+    /**
+     * 生成从字段数据源转换的toBean方法的实现
+     * <p>
+     * 转换代码与{@link #toBean(TypeElement)}相同，字段值通过{@code source.get(下标, 键名)}读取，
+     * 下标对应{@code beanKeys()}，数据源可以借此跳过按键名查找。
+     * </p>
+     *
+     * @param typeElement 要处理的类型元素，表示需要生成转换方法的实体类
+     * @return 生成的toBean(FieldSource)方法定义
+     */
+    private MethodSpec toBeanFromSource(TypeElement typeElement) {
+        TypeMirror targetType = typeElement.asType();
+        BeanCreator creator = BeanCreator.of(typeElement, processingEnv);
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("toBean")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .addAnnotation(UNCHECKED)
+                .addParameter(ClassName.get("cc.anqin.processor.base", "FieldSource"), "source")
+                .returns(TypeVariableName.get(targetType))
+                .beginControlFlow("if (source == null)")
+                .addStatement("return $L", creator.empty())
+                .endControlFlow();
+        creator.declare(builder);
+
+        CollectFields.toBeanCollectFields(typeElement, builder, processingEnv,
+                (index, key) -> CodeBlock.of("source.get($L, $S)", index, key));
+
+        builder.addStatement("return $L", creator.create());
+        return builder.build();
+    }
+
+    /**
+     * 生成键表常量
+     * <p>
+     * 键表是{@code private static final String[]}常量，所有实例共享，数组下标即字段下标。
+     * </p>
+     *
+     * @param name   常量名称
+     * @param schema 键与字段的对应关系
+     * @return 生成的常量定义
+     */
+    private FieldSpec keysField(String name, List<Map.Entry<String, VariableElement>> schema) {
+        CodeBlock.Builder keys = CodeBlock.builder().add("{");
+        for (int i = 0; i < schema.size(); i++) {
+            keys.add(i == 0 ? "$S" : ", $S", schema.get(i).getKey());
+        }
+        return FieldSpec.builder(String[].class, name, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer(keys.add("}").build())
+                .build();
+    }
+
+    /**
+     * 生成返回键表常量的方法（mapKeys、beanKeys）
+     *
+     * @param methodName 方法名称
+     * @param fieldName  键表常量的名称
+     * @return 生成的方法定义
+     */
+    private MethodSpec keys(String methodName, String fieldName) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .returns(String[].class)
+                .addStatement("return $L", fieldName)
+                .build();
+    }
+
+    /**
+     * 生成键名到下标的查找方法（mapKeyIndex、beanKeyIndex）
+     * <p>
+     * 使用编译期的字符串 switch 把键名映射为下标，不需要运行时的哈希表。
+     * </p>
+     *
+     * @param methodName 方法名称
+     * @param schema     键与字段的对应关系
+     * @return 生成的方法定义
+     */
+    private MethodSpec keyIndex(String methodName, List<Map.Entry<String, VariableElement>> schema) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .returns(int.class)
+                .addParameter(String.class, "key")
+                .beginControlFlow("if (key == null)")
+                .addStatement("return -1")
+                .endControlFlow()
+                .beginControlFlow("switch (key)");
+        for (int i = 0; i < schema.size(); i++) {
+            builder.addStatement("case $S: return $L", schema.get(i).getKey(), i);
+        }
+        return builder.addStatement("default: return -1")
+                .endControlFlow()
+                .build();
+    }
+
+    /**
+     * 生成readField方法的实现
+     * <p>
+     * 按下标 switch 分派到对应字段的 getter，供{@link cc.anqin.processor.base.FieldMapView}等按需读取字段。
+     * </p>
+     *
+     * @param typeElement 要处理的类型元素，表示需要生成转换方法的实体类
+     * @param mapSchema   对象到Map转换的键表
+     * @return 生成的readField方法定义
+     */
+    private MethodSpec readField(TypeElement typeElement, List<Map.Entry<String, VariableElement>> mapSchema) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("readField")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .returns(Object.class)
+                .addParameter(TypeName.get(typeElement.asType()), "entity")
+                .addParameter(int.class, "index")
+                .beginControlFlow("switch (index)");
+        for (int i = 0; i < mapSchema.size(); i++) {
+            builder.addStatement("case $L: return $L", i, FieldAccessors.read(mapSchema.get(i).getValue(), "entity", processingEnv));
+        }
+        return builder.addStatement("default: throw new $T(\"Field index out of range: \" + index)", IndexOutOfBoundsException.class)
+                .endControlFlow()
+                .build();
+    }
+
+    /**
+     * 生成以基本类型读取字段的方法（getInt、getLong、getDouble、getBoolean）
+     * <p>
+     * 只有基本类型且可以拓宽为返回类型的字段才会生成分支，分支直接返回 getter 的结果，不装箱。
+     * 其他下标在运行时抛出{@link IllegalArgumentException}。
+     * </p>
+     *
+     * @param typeElement 要处理的类型元素，表示需要生成转换方法的实体类
+     * @param mapSchema   对象到Map转换的键表
+     * @param methodName  方法名称
+     * @param kind        返回的基本类型
+     * @return 生成的方法定义
+     */
+    private MethodSpec primitiveGetter(TypeElement typeElement, List<Map.Entry<String, VariableElement>> mapSchema,
+                                       String methodName, TypeKind kind) {
+        Types types = processingEnv.getTypeUtils();
+        PrimitiveType returnType = types.getPrimitiveType(kind);
+
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .returns(TypeName.get(returnType))
+                .addParameter(TypeName.get(typeElement.asType()), "entity")
+                .addParameter(int.class, "index")
+                .beginControlFlow("switch (index)");
+        for (int i = 0; i < mapSchema.size(); i++) {
+            VariableElement field = mapSchema.get(i).getValue();
+            TypeMirror fieldType = field.asType();
+            if (fieldType.getKind().isPrimitive() && types.isAssignable(fieldType, returnType)) {
+                builder.addStatement("case $L: return $L", i, FieldAccessors.read(field, "entity", processingEnv));
+            }
+        }
+        return builder.addStatement("default: throw new $T(\"Field \" + index + \" is not readable as $L\")",
+                        IllegalArgumentException.class, returnType)
+                .endControlFlow()
+                .build();
+    }
+
+    /**
+     * 生成以基本类型写入字段的方法（setInt、setLong、setDouble、setBoolean）
+     * <p>
+     * 只有基本类型且可以接受参数类型拓宽赋值的字段才会生成分支，分支直接调用 setter，不装箱。
+     * 其他下标在运行时抛出{@link IllegalArgumentException}。record 等通过构造函数创建的实体类
+     * 不生成分支，调用时抛出{@link UnsupportedOperationException}。
+     * </p>
+     *
+     * @param typeElement 要处理的类型元素，表示需要生成转换方法的实体类
+     * @param beanSchema  Map到对象转换的键表
+     * @param methodName  方法名称
+     * @param kind        参数的基本类型
+     * @return 生成的方法定义
+     */
+    private MethodSpec primitiveSetter(TypeElement typeElement, List<Map.Entry<String, VariableElement>> beanSchema,
+                                       String methodName, TypeKind kind) {
+        Types types = processingEnv.getTypeUtils();
+        PrimitiveType valueType = types.getPrimitiveType(kind);
+
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .addParameter(TypeName.get(typeElement.asType()), "bean")
+                .addParameter(int.class, "index")
+                .addParameter(TypeName.get(valueType), "value");
+        // 通过构造函数创建的实体对象创建后不能再写入字段
+        if (!BeanCreator.of(typeElement, processingEnv).isMutable()) {
+            return builder.addStatement("throw new $T($S)", UnsupportedOperationException.class,
+                            typeElement.getQualifiedName() + " is immutable")
+                    .build();
+        }
+        builder.beginControlFlow("switch (index)");
+        for (int i = 0; i < beanSchema.size(); i++) {
+            VariableElement field = beanSchema.get(i).getValue();
+            TypeMirror fieldType = field.asType();
+            if (fieldType.getKind().isPrimitive() && types.isAssignable(valueType, fieldType)) {
+                builder.addStatement("case $L: $L; return", i, FieldAccessors.write(field, "bean", CodeBlock.of("value"), processingEnv));
+            }
+        }
+        return builder.addStatement("default: throw new $T(\"Field \" + index + \" is not writable as $L\")",
+                        IllegalArgumentException.class, valueType)
+                .endControlFlow()
+                .build();
+    }
+
+    /**
+     * 生成writePrimitives方法的实现
+     * <p>
+     * 按键表顺序把基本类型字段推送给{@link cc.anqin.processor.base.PrimitiveFieldSink}，
+     * 回调按字段类型在编译期选定，值不装箱。
+     * </p>
+     *
+     * @param typeElement 要处理的类型元素，表示需要生成转换方法的实体类
+     * @param mapSchema   对象到Map转换的键表
+     * @return 生成的writePrimitives方法定义
+     */
+    private MethodSpec writePrimitives(TypeElement typeElement, List<Map.Entry<String, VariableElement>> mapSchema) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("writePrimitives")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .addParameter(TypeName.get(typeElement.asType()), "entity")
+                .addParameter(ClassName.get("cc.anqin.processor.base", "PrimitiveFieldSink"), "sink");
+        for (int i = 0; i < mapSchema.size(); i++) {
+            VariableElement field = mapSchema.get(i).getValue();
+            String callback = primitiveCallback(field.asType().getKind());
+            if (callback != null) {
+                builder.addStatement("sink.$L($L, $S, $L)",
+                        callback, i, mapSchema.get(i).getKey(), FieldAccessors.read(field, "entity", processingEnv));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 生成writeTo方法的实现
+     * <p>
+     * 按键表顺序把所有字段推送给{@link cc.anqin.processor.base.FieldSink}，不创建中间的Map：
+     * 只有{@code int}、{@code long}、{@code double}、{@code boolean}字段使用类型化回调，
+     * 其他字段（包括{@code byte}、{@code short}、{@code char}、{@code float}）使用{@code accept}，
+     * 使接收器收到的值类型与{@code toMap}一致。
+     * </p>
+     *
+     * @param typeElement 要处理的类型元素，表示需要生成转换方法的实体类
+     * @param mapSchema   对象到Map转换的键表
+     * @return 生成的writeTo方法定义
+     */
+    private MethodSpec writeTo(TypeElement typeElement, List<Map.Entry<String, VariableElement>> mapSchema) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("writeTo")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .addParameter(TypeName.get(typeElement.asType()), "entity")
+                .addParameter(ClassName.get("cc.anqin.processor.base", "FieldSink"), "sink");
+        for (int i = 0; i < mapSchema.size(); i++) {
+            VariableElement field = mapSchema.get(i).getValue();
+            String callback = exactPrimitiveCallback(field.asType().getKind());
+            builder.addStatement("sink.$L($L, $S, $L)", callback == null ? "accept" : callback,
+                    i, mapSchema.get(i).getKey(), FieldAccessors.read(field, "entity", processingEnv));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 获取基本类型字段对应的{@link cc.anqin.processor.base.PrimitiveFieldSink}回调方法名
+     *
+     * @param kind 字段类型
+     * @return 回调方法名，非基本类型时返回null
+     */
+    private static String primitiveCallback(TypeKind kind) {
+        switch (kind) {
+            case BYTE:
+            case SHORT:
+            case CHAR:
+            case INT:
+                return "acceptInt";
+            case LONG:
+                return "acceptLong";
+            case FLOAT:
+            case DOUBLE:
+                return "acceptDouble";
+            case BOOLEAN:
+                return "acceptBoolean";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 获取与回调参数类型完全一致的基本类型字段对应的回调方法名
+     * <p>
+     * 需要拓宽的类型（如{@code char}到{@code int}）返回null，避免装箱后的值类型与{@code toMap}不同。
+     * </p>
+     *
+     * @param kind 字段类型
+     * @return 回调方法名，没有完全匹配的回调时返回null
+     */
+    private static String exactPrimitiveCallback(TypeKind kind) {
+        switch (kind) {
+            case INT:
+            case LONG:
+            case DOUBLE:
+            case BOOLEAN:
+                return primitiveCallback(kind);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 生成toMapView方法的实现
+     * <p>
+     * 返回直接包装实体对象的{@link cc.anqin.processor.base.FieldMapView}，不复制字段。
+     * </p>
+     *
+     * @param typeElement 要处理的类型元素，表示需要生成转换方法的实体类
+     * @return 生成的toMapView方法定义
+     */
+    private MethodSpec toMapView(TypeElement typeElement) {
+        return MethodSpec.methodBuilder("toMapView")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .returns(ParameterizedTypeName.get(Map.class, String.class, Object.class))
+                .addParameter(TypeName.get(typeElement.asType()), "entity")
+                .beginControlFlow("if (entity == null)")
+                .addStatement("return $T.emptyMap()", ClassName.get("java.util", "Collections"))
+                .endControlFlow()
+                .addStatement("return new $T<>(this, entity)", ClassName.get("cc.anqin.processor.base", "FieldMapView"))
+                .build();
+    }
+
     /**
      * 将生成的类写入文件
      * <p>
@@ -305,6 +856,71 @@ public class MapConverterProcessor extends AbstractProcessor {
         }
     }
 
+    /**
+     * 生成转换器的服务索引文件
+     * <p>
+     * 该方法将所有生成的转换器类名写入{@code META-INF/services/cc.anqin.processor.base.MappingConvert}，
+     * 运行时通过{@link java.util.ServiceLoader}即可加载全部转换器，无需扫描类路径或解析 JSON 注册表。
+     * 该文件同样可被 GraalVM native-image 直接识别。
+     * </p>
+     * <p>
+     * 输出目录中已经存在该文件时（例如项目在资源目录中为手写的转换器声明了服务），先读取其中的类名并与生成的类名合并，
+     * 不会覆盖或丢失已有的条目。
+     * </p>
+     */
+    private void generateServiceFile() {
+        if (converterRegistry.isEmpty()) {
+            return;
+        }
+
+        Set<String> classNames = new TreeSet<>(converterRegistry.values());
+        classNames.addAll(readExistingServiceFile());
+
+        try {
+            FileObject fileObject = processingEnv.getFiler().createResource(
+                    StandardLocation.CLASS_OUTPUT,
+                    "",
+                    ConfigLoader.SERVICE_FILE_PATH
+            );
+
+            try (Writer writer = fileObject.openWriter()) {
+                for (String converterClassName : classNames) {
+                    writer.write(converterClassName);
+                    writer.write("\n");
+                }
+            }
+
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "Generated service index with " + classNames.size() + " entries");
+
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate service index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 读取输出目录中已经存在的服务索引
+     *
+     * @return 其中的类名，文件不存在或无法读取时返回空集合
+     */
+    private Set<String> readExistingServiceFile() {
+        Set<String> classNames = new TreeSet<>();
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(
+                    StandardLocation.CLASS_OUTPUT,
+                    "",
+                    ConfigLoader.SERVICE_FILE_PATH
+            );
+            try (Reader reader = existing.openReader(true)) {
+                ConfigLoader.readServiceIndex(reader, classNames);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // 文件不存在，只写入生成的转换器
+        }
+        return classNames;
+    }
+
     /**
      * 对JSON字符串进行转义处理
      * <p>
@@ -1,5 +1,6 @@
 package cc.anqin.processor.annotation;
 
+import cc.anqin.processor.enums.MapTypeEnum;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -36,10 +37,85 @@ import java.lang.annotation.Target;
  * @see AutoKeyMapping
  * @see IgnoreToMap
  * @see IgnoreToBean
+ * @see MapTypeEnum
  */
 @Retention(RetentionPolicy.SOURCE)
 @Target(ElementType.TYPE)
 public @interface AutoToMap {
 
+    /**
+     * 结果Map类型
+     * <p>
+     * 控制生成的{@code toMap}方法返回的Map实现，生成代码会按字段数量预先设置容量。
+     * </p>
+     *
+     * @return Map类型，默认为{@link MapTypeEnum#HASH_MAP}
+     */
+    MapTypeEnum mapType() default MapTypeEnum.HASH_MAP;
 
+    /**
+     * 是否忽略静态字段
+     * <p>
+     * 默认与之前的版本一致：非 final 的静态字段也参与转换，通过其访问方法读写（static final 常量始终不参与）。
+     * 开启后所有静态字段都不参与转换，{@code toMap}的结果中不再包含这类键。
+     * </p>
+     *
+     * @return 是否忽略，默认为false
+     */
+    boolean ignoreStatic() default false;
+
+    /**
+     * 是否生成只读Map视图
+     * <p>
+     * 开启后生成按下标读取字段的{@code readField}和返回{@link cc.anqin.processor.base.FieldMapView}的{@code toMapView}，
+     * 视图不复制字段。未开启时{@link cc.anqin.processor.base.MappingConvert#toMapView}退化为{@code toMap}结果的不可修改包装。
+     * </p>
+     *
+     * @return 是否生成，默认为false
+     */
+    boolean view() default false;
+
+    /**
+     * 是否生成基本类型的字段读写方法
+     * <p>
+     * 开启后生成不装箱的{@code getInt}、{@code setInt}等按下标读写字段的方法和{@code writePrimitives}。
+     * 未开启时读取方法通过{@code readField}拆箱，写入方法和{@code writePrimitives}不可用。
+     * </p>
+     *
+     * @return 是否生成，默认为false
+     */
+    boolean primitives() default false;
+
+    /**
+     * 是否生成推送字段的{@code writeTo}方法
+     * <p>
+     * 开启后{@code writeTo}直接调用 getter 把字段推送给{@link cc.anqin.processor.base.FieldSink}，
+     * 未开启时遍历{@code toMap}的结果推送。
+     * </p>
+     *
+     * @return 是否生成，默认为false
+     */
+    boolean sink() default false;
+
+    /**
+     * 是否生成从字段数据源转换的{@code toBean(FieldSource)}方法
+     * <p>
+     * 开启后字段值直接从{@link cc.anqin.processor.base.FieldSource}读取，
+     * 未开启时先按{@code beanKeys}把数据源中的值复制到Map，再调用{@code toBean(Map)}。
+     * </p>
+     *
+     * @return 是否生成，默认为false
+     */
+    boolean fieldSource() default false;
+
+    /**
+     * 是否生成收集字段转换错误的{@code toBean(Map, ConversionErrors)}方法
+     * <p>
+     * 开启后字段转换失败时记录到{@link cc.anqin.processor.base.ConversionErrors}，
+     * 未开启时直接调用{@code toBean(Map)}，转换失败时抛出异常。
+     * </p>
+     *
+     * @return 是否生成，默认为false
+     */
+    boolean errors() default false;
 }
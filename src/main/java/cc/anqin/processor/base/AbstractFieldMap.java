@@ -0,0 +1,187 @@
+package cc.anqin.processor.base;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 按键表下标存取值的固定结构Map基类
+ * <p>
+ * 键来自转换器的静态键表{@link MappingConvert#mapKeys()}，按键查找通过{@link MappingConvert#mapKeyIndex(String)}得到下标，
+ * 子类只需按下标提供值。条目集合、迭代器和条目都在这里实现，迭代时按下标逐个生成条目。
+ * </p>
+ * <p>
+ * 键集合是固定的，不能新增或删除键；子类未重写{@link #setValueAt(int, Object)}时，修改值也会抛出{@link UnsupportedOperationException}。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see FieldArrayMap
+ * @see FieldMapView
+ */
+abstract class AbstractFieldMap extends AbstractMap<String, Object> {
+
+    /** 提供键表和键下标查找的转换器 */
+    private final MappingConvert<?> convert;
+
+    /** 键表，与转换器共享 */
+    final String[] keys;
+
+    /** 懒创建的条目集合 */
+    private Set<Map.Entry<String, Object>> entrySet;
+
+
+    AbstractFieldMap(MappingConvert<?> convert) {
+        this.convert = convert;
+        this.keys = convert.mapKeys();
+    }
+
+    /**
+     * 读取指定下标的值
+     *
+     * @param index 键表下标
+     * @return 值，可以为null
+     */
+    abstract Object valueAt(int index);
+
+    /**
+     * 修改指定下标的值，默认不支持
+     *
+     * @param index 键表下标
+     * @param value 新值
+     * @return 旧值
+     * @throws UnsupportedOperationException 如果不支持修改
+     */
+    Object setValueAt(int index, Object value) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " 是只读的");
+    }
+
+    /**
+     * 查找键在键表中的下标
+     *
+     * @param key 键名
+     * @return 下标，不存在时返回-1
+     */
+    final int indexOf(String key) {
+        return convert.mapKeyIndex(key);
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        int index = indexOf((String) key);
+        return index < 0 ? null : valueAt(index);
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        Set<Map.Entry<String, Object>> entries = entrySet;
+        if (entries == null) {
+            entries = new EntrySet();
+            entrySet = entries;
+        }
+        return entries;
+    }
+
+
+    /**
+     * 条目集合，迭代时按下标逐个生成条目
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new Iterator<Map.Entry<String, Object>>() {
+
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < keys.length;
+                }
+
+                @Override
+                public Map.Entry<String, Object> next() {
+                    if (index >= keys.length) {
+                        throw new NoSuchElementException();
+                    }
+                    return new IndexEntry(index++);
+                }
+            };
+        }
+    }
+
+    /**
+     * 按下标访问的条目，读写都委托给{@link #valueAt(int)}和{@link #setValueAt(int, Object)}
+     */
+    private final class IndexEntry implements Map.Entry<String, Object> {
+
+        /** 键表下标 */
+        private final int index;
+
+        IndexEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return keys[index];
+        }
+
+        @Override
+        public Object getValue() {
+            return valueAt(index);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return setValueAt(index, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            Object value = getValue();
+            return getKey().equals(e.getKey()) && (value == null ? e.getValue() == null : value.equals(e.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = getValue();
+            return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package cc.anqin.processor.base;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 异步分块批量转换
+ * <p>
+ * 供{@link ConvertMap}的异步批量转换方法使用。源列表按固定大小切分为块，每块作为一个任务提交到调用方提供的
+ * {@link Executor}，同一时刻最多有{@code maxInFlight}个块在执行或排队；一个块完成后才提交下一个块，
+ * 因此不会一次性向线程池塞入全部任务，也不会阻塞任何线程等待。
+ * </p>
+ * <p>
+ * 提交通过{@link #drain()}串行进行：块完成时只登记一次提交请求，由当前负责提交的线程在循环中执行。
+ * 这样在调用线程中直接执行任务的线程池（如{@code Runnable::run}）下，块的执行与提交不会相互递归导致栈溢出。
+ * </p>
+ * <p>
+ * 只依赖 Java 8 的{@link CompletableFuture}和{@link Executor}，在 Java 21 上可以直接传入
+ * {@code Executors.newVirtualThreadPerTaskExecutor()}，每个块在独立的虚拟线程中执行。
+ * </p>
+ *
+ * 完成规则：
+ * <ul>
+ *   <li>所有块转换完成后，返回的{@link CompletableFuture}以结果列表完成，顺序与源列表一致</li>
+ *   <li>任一元素转换失败或线程池拒绝任务时，以该异常异常完成，不再提交剩余的块</li>
+ *   <li>调用方取消返回的{@link CompletableFuture}后，不再提交剩余的块；已在执行的块会继续执行完</li>
+ * </ul>
+ *
+ * @param <S> 源元素类型
+ * @param <R> 结果元素类型
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see ConvertMap#toMapListAsync
+ * @see ConvertMap#toBeanListAsync
+ */
+final class AsyncBatchConvert<S, R> {
+
+    /** 默认的块大小 */
+    static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    /** 默认的最大并发块数量 */
+    static final int DEFAULT_MAX_IN_FLIGHT = Runtime.getRuntime().availableProcessors();
+
+    private final List<? extends S> sources;
+    private final Function<? super S, ? extends R> mapper;
+    private final Executor executor;
+    private final int chunkSize;
+    private final int chunkCount;
+
+    /** 转换结果，每个块写入自己的下标区间 */
+    private final Object[] results;
+
+    /** 下一个待提交的块 */
+    private final AtomicInteger nextChunk = new AtomicInteger();
+
+    /** 已请求但尚未执行的提交次数 */
+    private final AtomicInteger requestedSubmits = new AtomicInteger();
+
+    /** 是否有线程正在执行提交 */
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /** 尚未完成的块数量 */
+    private final AtomicInteger remainingChunks;
+
+    /** 返回给调用方的结果 */
+    private final CompletableFuture<List<R>> future = new CompletableFuture<>();
+
+
+    private AsyncBatchConvert(List<? extends S> sources, Function<? super S, ? extends R> mapper,
+                              Executor executor, int chunkSize) {
+        this.sources = sources;
+        this.mapper = mapper;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.chunkCount = (sources.size() + chunkSize - 1) / chunkSize;
+        this.results = new Object[sources.size()];
+        this.remainingChunks = new AtomicInteger(chunkCount);
+    }
+
+
+    /**
+     * 异步分块转换
+     *
+     * @param <S>         源元素类型
+     * @param <R>         结果元素类型
+     * @param sources     源列表，转换完成前不能修改
+     * @param mapper      单个元素的转换函数，必须是线程安全的
+     * @param executor    执行转换的线程池
+     * @param chunkSize   每块的元素数量，必须大于0
+     * @param maxInFlight 同时执行或排队的最大块数量，必须大于0
+     * @return 转换结果，列表大小固定
+     */
+    @SuppressWarnings("unchecked")
+    static <S, R> CompletableFuture<List<R>> convert(List<? extends S> sources, Function<? super S, ? extends R> mapper,
+                                                     Executor executor, int chunkSize, int maxInFlight) {
+        if (sources.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        List<? extends S> input = sources instanceof RandomAccess ? sources : (List<S>) Arrays.asList(sources.toArray());
+
+        AsyncBatchConvert<S, R> batch = new AsyncBatchConvert<>(input, mapper, executor, chunkSize);
+        batch.requestSubmit(Math.min(maxInFlight, batch.chunkCount));
+        return batch.future;
+    }
+
+
+    /**
+     * 请求提交若干个块，并在没有其他线程负责提交时由当前线程执行
+     *
+     * @param count 请求提交的块数量
+     */
+    private void requestSubmit(int count) {
+        requestedSubmits.addAndGet(count);
+        drain();
+    }
+
+    /**
+     * 执行所有已请求的提交
+     * <p>
+     * 同一时刻只有一个线程在循环中提交，其他线程（包括提交过程中被同步执行的块）只登记请求后立即返回，
+     * 由正在提交的线程接着处理。释放标志后再次检查请求数量，避免遗漏在释放前登记的请求。
+     * </p>
+     */
+    private void drain() {
+        while (draining.compareAndSet(false, true)) {
+            try {
+                while (requestedSubmits.get() > 0) {
+                    requestedSubmits.decrementAndGet();
+                    submitNext();
+                }
+            } finally {
+                draining.set(false);
+            }
+            if (requestedSubmits.get() == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 提交下一个块，所有块都已提交或结果已完成（失败、取消）时什么也不做
+     */
+    private void submitNext() {
+        if (future.isDone()) {
+            return;
+        }
+        int chunk = nextChunk.getAndIncrement();
+        if (chunk >= chunkCount) {
+            return;
+        }
+        try {
+            executor.execute(() -> runChunk(chunk));
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 转换一个块，完成后请求提交下一个块
+     *
+     * @param chunk 块序号
+     */
+    @SuppressWarnings("unchecked")
+    private void runChunk(int chunk) {
+        if (future.isDone()) {
+            return;
+        }
+        int from = chunk * chunkSize;
+        int to = Math.min(from + chunkSize, results.length);
+        try {
+            for (int i = from; i < to; i++) {
+                results[i] = mapper.apply(sources.get(i));
+            }
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            return;
+        }
+
+        if (remainingChunks.decrementAndGet() == 0) {
+            future.complete((List<R>) Arrays.asList(results));
+        } else {
+            requestSubmit(1);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package cc.anqin.processor.base;
+
+import cc.anqin.processor.util.ConfigLoader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * 批量转换的执行器
+ * <p>
+ * 供{@link ConvertMap}的批量转换方法使用。调用方先解析好转换器，再把单个元素的转换函数交给该类执行，
+ * 批量转换过程中不再逐个元素查找转换器，结果列表按输入大小一次分配。
+ * </p>
+ *
+ * 执行方式：
+ * <ul>
+ *   <li>{@link #sequential} - 在调用线程中顺序转换，结果为预先分配容量的{@link ArrayList}</li>
+ *   <li>{@link #parallel} - 元素数量达到{@link #PARALLEL_THRESHOLD}时，在指定的{@link ForkJoinPool}中
+ *       按下标区间拆分并行转换，每个任务直接写入结果数组的对应位置，不需要合并</li>
+ * </ul>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see ConfigLoader#PARALLEL_THRESHOLD_PROPERTY
+ */
+final class BatchConvert {
+
+    /** 并行转换的最小元素数量，小于该值时顺序执行 */
+    static final int PARALLEL_THRESHOLD = Math.max(1, Integer.getInteger(ConfigLoader.PARALLEL_THRESHOLD_PROPERTY, 2048));
+
+    /** 并行转换时单个任务的最小元素数量 */
+    private static final int MIN_CHUNK_SIZE = 256;
+
+    /** 每个工作线程平均分到的任务数量，多拆分几份以平衡不同元素的转换耗时 */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+
+    /**
+     * 私有构造函数防止实例化
+     */
+    private BatchConvert() {
+        throw new UnsupportedOperationException("BatchConvert是一个工具类，不能被实例化");
+    }
+
+
+    /**
+     * 在调用线程中顺序转换
+     *
+     * @param <S>     源元素类型
+     * @param <R>     结果元素类型
+     * @param sources 源列表
+     * @param mapper  单个元素的转换函数
+     * @return 转换结果，顺序与源列表一致
+     */
+    static <S, R> List<R> sequential(List<? extends S> sources, Function<? super S, ? extends R> mapper) {
+        List<R> results = new ArrayList<>(sources.size());
+        for (S source : sources) {
+            results.add(mapper.apply(source));
+        }
+        return results;
+    }
+
+    /**
+     * 在指定的线程池中并行转换
+     * <p>
+     * 元素数量小于{@link #PARALLEL_THRESHOLD}时在调用线程中顺序执行。
+     * 源列表不支持随机访问时，会先复制为数组再拆分。
+     * 任一元素转换失败时，异常会在调用线程中重新抛出。
+     * </p>
+     *
+     * @param <S>     源元素类型
+     * @param <R>     结果元素类型
+     * @param sources 源列表
+     * @param mapper  单个元素的转换函数，必须是线程安全的
+     * @param pool    执行转换的线程池，为null时使用{@link ForkJoinPool#commonPool()}
+     * @return 转换结果，顺序与源列表一致，列表大小固定
+     */
+    @SuppressWarnings("unchecked")
+    static <S, R> List<R> parallel(List<? extends S> sources, Function<? super S, ? extends R> mapper, ForkJoinPool pool) {
+        int size = sources.size();
+        Object[] results = new Object[size];
+        List<?> input = sources instanceof RandomAccess ? sources : Arrays.asList(sources.toArray());
+
+        if (size < PARALLEL_THRESHOLD) {
+            for (int i = 0; i < size; i++) {
+                results[i] = mapper.apply((S) input.get(i));
+            }
+        } else {
+            ForkJoinPool executor = pool == null ? ForkJoinPool.commonPool() : pool;
+            int chunkSize = Math.max(MIN_CHUNK_SIZE, size / (executor.getParallelism() * CHUNKS_PER_THREAD));
+            executor.invoke(new ConvertTask<>((List<? extends S>) input, mapper, results, 0, size, chunkSize));
+        }
+        return (List<R>) Arrays.asList(results);
+    }
+
+
+    /**
+     * 转换一个下标区间的任务，区间超过单个任务的大小时对半拆分
+     *
+     * @param <S> 源元素类型
+     * @param <R> 结果元素类型
+     */
+    private static final class ConvertTask<S, R> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends S> sources;
+        private final Function<? super S, ? extends R> mapper;
+        private final Object[] results;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        ConvertTask(List<? extends S> sources, Function<? super S, ? extends R> mapper, Object[] results,
+                    int from, int to, int chunkSize) {
+            this.sources = sources;
+            this.mapper = mapper;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                for (int i = from; i < to; i++) {
+                    results[i] = mapper.apply(sources.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConvertTask<>(sources, mapper, results, from, middle, chunkSize),
+                    new ConvertTask<>(sources, mapper, results, middle, to, chunkSize));
+        }
+    }
+}
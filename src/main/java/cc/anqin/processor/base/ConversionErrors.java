@@ -0,0 +1,195 @@
+package cc.anqin.processor.base;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+/**
+ * 可复用的字段转换错误收集器
+ * <p>
+ * 生成的{@link MappingConvert#toBean(Map, ConversionErrors)}在某个字段无法转换时不抛出异常，
+ * 而是把字段名、原始值和目标类型追加到收集器中，该字段保持默认值，其余字段照常转换。
+ * 错误按列分别保存在预先分配的数组中，记录一条错误不创建任何对象，容量不足时才扩容。
+ * </p>
+ * <p>
+ * 批量导入时可以为每个线程创建一个收集器，每行转换前调用{@link #clear()}复用。该类不是线程安全的。
+ * </p>
+ *
+ * 使用示例：
+ * <pre>{@code
+ * ConversionErrors errors = new ConversionErrors();
+ * for (Map<String, Object> row : rows) {
+ *     errors.clear();
+ *     User user = converter.toBean(row, errors);
+ *     for (int i = 0; i < errors.size(); i++) {
+ *         log.warn("{}: {} -> {}", errors.getField(i), errors.getValue(i), errors.getTargetType(i));
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see ConvertMap#toBeanWithErrors(Map, Class)
+ */
+public final class ConversionErrors {
+
+    /** 默认容量 */
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /** 字段名 */
+    private String[] fields;
+
+    /** 原始值 */
+    private Object[] values;
+
+    /** 目标类型 */
+    private Type[] targetTypes;
+
+    /** 错误数量 */
+    private int size;
+
+
+    /**
+     * 创建默认容量的收集器
+     */
+    public ConversionErrors() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 创建指定初始容量的收集器
+     *
+     * @param capacity 初始容量，通常取实体的字段数即可避免扩容
+     * @throws IllegalArgumentException 如果容量小于0
+     */
+    public ConversionErrors(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("容量不能小于0: " + capacity);
+        }
+        this.fields = new String[capacity];
+        this.values = new Object[capacity];
+        this.targetTypes = new Type[capacity];
+    }
+
+
+    /**
+     * 记录一个字段的转换错误
+     *
+     * @param field      字段名
+     * @param value      无法转换的原始值
+     * @param targetType 字段的目标类型
+     */
+    public void add(String field, Object value, Type targetType) {
+        if (size == fields.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, size * 2);
+            fields = Arrays.copyOf(fields, capacity);
+            values = Arrays.copyOf(values, capacity);
+            targetTypes = Arrays.copyOf(targetTypes, capacity);
+        }
+        fields[size] = field;
+        values[size] = value;
+        targetTypes[size] = targetType;
+        size++;
+    }
+
+    /**
+     * 获取错误数量
+     *
+     * @return 错误数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 是否没有任何错误
+     *
+     * @return 没有错误时返回true
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 获取第{@code index}个错误的字段名
+     *
+     * @param index 错误下标
+     * @return 字段名
+     * @throws IndexOutOfBoundsException 如果下标越界
+     */
+    public String getField(int index) {
+        checkIndex(index);
+        return fields[index];
+    }
+
+    /**
+     * 获取第{@code index}个错误的原始值
+     *
+     * @param index 错误下标
+     * @return 原始值
+     * @throws IndexOutOfBoundsException 如果下标越界
+     */
+    public Object getValue(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * 获取第{@code index}个错误的原始值类型
+     *
+     * @param index 错误下标
+     * @return 原始值的类型
+     * @throws IndexOutOfBoundsException 如果下标越界
+     */
+    public Class<?> getSourceType(int index) {
+        checkIndex(index);
+        return values[index] == null ? null : values[index].getClass();
+    }
+
+    /**
+     * 获取第{@code index}个错误的目标类型
+     *
+     * @param index 错误下标
+     * @return 字段的目标类型
+     * @throws IndexOutOfBoundsException 如果下标越界
+     */
+    public Type getTargetType(int index) {
+        checkIndex(index);
+        return targetTypes[index];
+    }
+
+    /**
+     * 清空所有错误，保留已分配的容量
+     * <p>
+     * 同时释放对原始值的引用。
+     * </p>
+     */
+    public void clear() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * 检查下标
+     *
+     * @param index 错误下标
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("错误下标越界: " + index + ", 错误数量: " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("ConversionErrors[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(fields[i]).append(": ")
+                    .append(getSourceType(i) == null ? "null" : getSourceType(i).getName())
+                    .append(" -> ").append(targetTypes[i].getTypeName());
+        }
+        return builder.append(']').toString();
+    }
+}
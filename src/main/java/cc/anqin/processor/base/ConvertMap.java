@@ -1,15 +1,23 @@
 package cc.anqin.processor.base;
 
+import cc.anqin.processor.enums.ConvertOperationEnum;
 import cc.anqin.processor.util.ConfigLoader;
-import cn.hutool.core.date.StopWatch;
+import cc.anqin.processor.util.ConvertEvents;
+import cn.hutool.core.util.ClassUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.log.Log;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static cc.anqin.processor.util.ConfigLoader.PACKAGE_PREFIX;
 
@@ -40,6 +48,12 @@ import static cc.anqin.processor.util.ConfigLoader.PACKAGE_PREFIX;
  * // 批量转换
  * List<Map<String, Object>> maps = ConvertMap.toMapList(users);
  * List<User> users = ConvertMap.toBeanList(maps, User.class);
+ *
+ * // 在线程池中并行批量转换
+ * List<User> users = ConvertMap.toBeanList(maps, User.class, ForkJoinPool.commonPool());
+ *
+ * // 流式转换，元素在消费时才转换
+ * ConvertMap.toMapStream(userStream, User.class).forEach(writer::write);
  * }</pre>
  *
  *
@@ -55,23 +69,30 @@ public class ConvertMap {
 
 
     /**
-     * 转换器映射表
+     * 初始化转换器注册表
      * <p>
-     * 存储类名与对应转换器实例的映射关系。该映射表在类加载时初始化，
-     * 通过文件配置或包扫描方式加载所有实现了{@link MappingConvert}接口的类来填充。
-     * 映射表是线程安全的，且初始化后不可修改。
+     * 类加载时通过文件配置或包扫描方式加载所有实现了{@link MappingConvert}接口的类，
+     * 并注册到按类加载器分区的{@link ConverterRegistry}中。
      * </p>
      * <p>
-     * 加载策略：优先使用文件配置方式（高性能），失败时降级到包扫描方式（兼容性），
+     * 加载策略：优先使用编译期生成的服务索引（无需扫描和解析），
+     * 其次使用文件配置方式（高性能），失败时降级到包扫描方式（兼容性），
      * 最终失败时使用空映射保障系统可用性。
      * </p>
+     * <p>
+     * 开启懒加载（{@code -Dauto.mapping.lazy=true}）时，注册的是
+     * {@link cc.anqin.processor.util.LazyMappingConvert}，转换器在第一次转换时才被加载和实例化。
+     * </p>
+     * <p>
+     * 启动之后，其他类加载器（例如热部署的模块）中生成的转换器会在第一次使用时按生成规则自动发现，
+     * 也可以通过{@link #register(Class, MappingConvert)}、{@link #registerClassLoader(ClassLoader)}显式注册。
+     * </p>
      */
-    private static final Map<String, MappingConvert<?>> CONVERT_MAP;
-
     static {
         long startTime = System.currentTimeMillis();
 
-        CONVERT_MAP = ConfigLoader.scanLoadAllConfigsAsSingleMap();
+        ClassLoader classLoader = ClassUtil.getClassLoader();
+        ConverterRegistry.registerAll(classLoader, ConfigLoader.loadAllConfigsAsSingleMap(classLoader));
 
         log.info("转换器初始化总耗时: {}ms", System.currentTimeMillis() - startTime);
     }
@@ -122,16 +143,94 @@ public class ConvertMap {
         if (source == null) {
             throw new IllegalArgumentException("源对象不能为null");
         }
-        if (exists(clazz)) {
-            MappingConvert convert = getMappingConvert(clazz);
-            return convert.toMap(source);
+        MappingConvert convert = findMappingConvert(clazz);
+        if (convert == null) {
+            convert = findMappingConvert(defaultClazz);
+            if (convert == null) {
+                throw new IllegalArgumentException("目标 clazz 为空，且 defaultClazz 不存在: " + defaultClazz);
+            }
+        }
+        Object event = ConvertEvents.beginConversion();
+        Map<String, Object> result = convert.toMap(source);
+        ConvertEvents.endConversion(event, source.getClass(), ConvertOperationEnum.TO_MAP, result.size());
+        return result;
+    }
+
+    /**
+     * 获取对象的只读Map视图
+     *
+     * @param source 源对象，不能为null
+     * @return 直接包装源对象的只读Map视图
+     * @throws IllegalArgumentException 如果源对象为null或找不到对应的转换器
+     * @see #toMapView(Object, Class)
+     */
+    public static Map<String, Object> toMapView(Object source) {
+        if (source == null) {
+            throw new IllegalArgumentException("源对象不能为null");
+        }
+        return toMapView(source, source.getClass());
+    }
+
+    /**
+     * 获取对象的只读Map视图
+     * <p>
+     * 与{@link #toMap(Object, Class)}不同，返回的视图直接包装源对象，不复制字段、不分配 HashMap，
+     * 只有读取某个值时才会调用对应的 getter。视图反映源对象的当前状态，
+     * 适用于模板渲染、日志、JSON 序列化等只读场景。
+     * 实体类未开启{@link cc.anqin.processor.annotation.AutoToMap#view()}时，返回{@code toMap}结果的只读包装。
+     * </p>
+     *
+     * @param source 源对象，不能为null
+     * @param clazz 对象类型，不能为null
+     * @return 直接包装源对象的只读Map视图
+     * @throws IllegalArgumentException 如果参数为null或找不到对应的转换器
+     * @see MappingConvert#toMapView(Object)
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> toMapView(Object source, Class<?> clazz) {
+        if (source == null) {
+            throw new IllegalArgumentException("源对象不能为null");
         }
+        return ((MappingConvert<Object>) getMappingConvert(clazz)).toMapView(source);
+    }
 
-        if (nonExists(defaultClazz)) {
-            throw new IllegalArgumentException("目标 clazz 为空，且 defaultClazz 不存在: " + defaultClazz);
+    /**
+     * 把对象的字段逐个推送给接收器
+     *
+     * @param source 源对象，不能为null
+     * @param sink   接收器，不能为null
+     * @throws IllegalArgumentException 如果参数为null或找不到对应的转换器
+     * @see #writeTo(Object, Class, FieldSink)
+     */
+    public static void writeTo(Object source, FieldSink sink) {
+        if (source == null) {
+            throw new IllegalArgumentException("源对象不能为null");
         }
-        MappingConvert convert = getMappingConvert(defaultClazz);
-        return convert.toMap(source);
+        writeTo(source, source.getClass(), sink);
+    }
+
+    /**
+     * 把对象的字段逐个推送给接收器
+     * <p>
+     * 与{@link #toMap(Object, Class)}写入的键值相同，但不创建中间的Map，
+     * 适用于转换结果只被遍历一次就写往别处（Redis HSET、日志行、SQL 参数等）的场景。
+     * </p>
+     *
+     * @param source 源对象，不能为null
+     * @param clazz  对象类型，不能为null
+     * @param sink   接收器，不能为null
+     * @throws IllegalArgumentException 如果参数为null或找不到对应的转换器
+     * @see MappingConvert#writeTo(Object, FieldSink)
+     */
+    @SuppressWarnings("unchecked")
+    public static void writeTo(Object source, Class<?> clazz, FieldSink sink) {
+        if (source == null) {
+            throw new IllegalArgumentException("源对象不能为null");
+        }
+        if (sink == null) {
+            throw new IllegalArgumentException("接收器不能为null");
+        }
+        ((MappingConvert<Object>) getMappingConvert(clazz)).writeTo(source, sink);
     }
 
     /**
@@ -148,6 +247,33 @@ public class ConvertMap {
     }
 
 
+    /**
+     * 从字段数据源转换为指定类型的对象
+     * <p>
+     * 数据无需先复制到Map中，适用于 JDBC 结果集、Redis 哈希回复等数据源。
+     * </p>
+     *
+     * @param <T> 目标类型
+     * @param source 字段数据源，不能为null
+     * @param clazz 目标类型，不能为null
+     * @return 转换后的对象
+     * @throws IllegalArgumentException 如果参数为null或找不到对应的转换器
+     * @see MappingConvert#toBean(FieldSource)
+     * @see MapFieldSource
+     * @see ResultSetFieldSource
+     */
+    public static <T> T toBean(FieldSource source, Class<T> clazz) {
+        if (source == null) {
+            throw new IllegalArgumentException("字段数据源不能为null");
+        }
+        MappingConvert<T> convert = getMappingConvert(clazz);
+        Object event = ConvertEvents.beginConversion();
+        T bean = convert.toBean(source);
+        ConvertEvents.endConversion(event, clazz, ConvertOperationEnum.TO_BEAN, beanFieldCount(convert));
+        return bean;
+    }
+
+
     /**
      * 将Map转换为指定类型的对象
      *
@@ -161,19 +287,69 @@ public class ConvertMap {
         if (dataMap == null) {
             throw new IllegalArgumentException("源对象不能为null");
         }
-        if (exists(clazz)) {
-            return getMappingConvert(clazz).toBean(dataMap);
-        }
-
-        if (nonExists(defaultClazz)) {
-            throw new IllegalArgumentException("目标 clazz 为空，且 defaultClazz 不存在: " + defaultClazz);
+        MappingConvert<?> convert = findMappingConvert(clazz);
+        if (convert == null) {
+            convert = findMappingConvert(defaultClazz);
+            if (convert == null) {
+                throw new IllegalArgumentException("目标 clazz 为空，且 defaultClazz 不存在: " + defaultClazz);
+            }
         }
+        Object event = ConvertEvents.beginConversion();
         @SuppressWarnings("unchecked")
-        T bean = (T) getMappingConvert(defaultClazz).toBean(dataMap);
+        T bean = (T) convert.toBean(dataMap);
+        ConvertEvents.endConversion(event, bean == null ? clazz : bean.getClass(), ConvertOperationEnum.TO_BEAN, dataMap.size());
         return bean;
 
     }
 
+    /**
+     * 将Map转换为指定类型的对象，并收集字段转换错误
+     * <p>
+     * 某个字段的值无法转换时不抛出异常，该字段保持默认值，错误（字段名、原始值、目标类型）记录在返回结果中。
+     * 需要实体类开启{@link cc.anqin.processor.annotation.AutoToMap#errors()}，否则转换失败时仍然抛出异常。
+     * 每次调用都会创建新的错误收集器，批量转换时可以使用{@link #toBeanWithErrors(Map, Class, ConversionErrors)}复用收集器。
+     * </p>
+     *
+     * @param <T> 目标类型
+     * @param dataMap 包含数据的Map，不能为null
+     * @param clazz 目标类型，不能为null
+     * @return 转换后的对象及转换错误
+     * @throws IllegalArgumentException 如果参数为null或找不到对应的转换器
+     * @see MappingConvert#toBean(Map, ConversionErrors)
+     */
+    public static <T> ConvertResult<T> toBeanWithErrors(Map<String, Object> dataMap, Class<T> clazz) {
+        return toBeanWithErrors(dataMap, clazz, new ConversionErrors());
+    }
+
+    /**
+     * 使用指定的错误收集器将Map转换为指定类型的对象
+     * <p>
+     * 转换前会先{@link ConversionErrors#clear() 清空}收集器，返回结果中的错误就是该收集器，
+     * 下一次复用后内容随之改变，需要保留时请在复用前处理完毕。
+     * </p>
+     *
+     * @param <T> 目标类型
+     * @param dataMap 包含数据的Map，不能为null
+     * @param clazz 目标类型，不能为null
+     * @param errors 错误收集器，不能为null
+     * @return 转换后的对象及转换错误
+     * @throws IllegalArgumentException 如果参数为null或找不到对应的转换器
+     */
+    public static <T> ConvertResult<T> toBeanWithErrors(Map<String, Object> dataMap, Class<T> clazz, ConversionErrors errors) {
+        if (dataMap == null) {
+            throw new IllegalArgumentException("源对象不能为null");
+        }
+        if (errors == null) {
+            throw new IllegalArgumentException("错误收集器不能为null");
+        }
+        MappingConvert<T> convert = getMappingConvert(clazz);
+        errors.clear();
+        Object event = ConvertEvents.beginConversion();
+        T bean = convert.toBean(dataMap, errors);
+        ConvertEvents.endConversion(event, clazz, ConvertOperationEnum.TO_BEAN, dataMap.size());
+        return new ConvertResult<>(bean, errors);
+    }
+
     /**
      * 检查指定类型是否存在对应的转换器
      *
@@ -181,7 +357,7 @@ public class ConvertMap {
      * @return 如果存在对应的转换器返回true，否则返回false
      */
     public static boolean exists(Class<?> clazz) {
-        return clazz != null && CONVERT_MAP.containsKey(clazz.getName());
+        return findMappingConvert(clazz) != null;
     }
 
     /**
@@ -199,36 +375,90 @@ public class ConvertMap {
      * 批量转换对象列表到Map列表
      * <p>
      * 将给定的对象列表中的每个对象转换为对应的Map，并返回包含这些Map的列表。
-     * 转换过程使用{@link #toMap(Object)}方法，保持与单个对象转换的一致性。
+     * 转换规则与{@link #toMap(Object)}一致；相邻元素类型相同时复用已查找到的转换器，
+     * 列表中可以混合不同类型的对象。
      * </p>
      *
      * @param sources 需要转换的源对象列表
      * @param <T> 对象类型
-     * @return 转换后的Map列表，如果输入为null则返回null
+     * @return 转换后的Map列表
+     * @throws IllegalArgumentException 如果sources或其中的元素为null，或找不到对应的转换器
      * @see #toMap(Object)
      */
+    @SuppressWarnings("unchecked")
     public static <T> List<Map<String, Object>> toMapList(List<T> sources) {
         if (sources == null) {
             throw new IllegalArgumentException("输入参数 sources 不能为 null");
         }
 
-        return sources.stream()
-                .map(ConvertMap::toMap)
-                .collect(Collectors.toList());
+        List<Map<String, Object>> results = new ArrayList<>(sources.size());
+        Class<?> lastClass = null;
+        MappingConvert<Object> convert = null;
+        for (T source : sources) {
+            if (source == null) {
+                throw new IllegalArgumentException("源对象不能为null");
+            }
+            if (source.getClass() != lastClass) {
+                lastClass = source.getClass();
+                convert = (MappingConvert<Object>) getMappingConvert(lastClass);
+            }
+            results.add(convert.toMap(source));
+        }
+        return results;
+    }
+
+    /**
+     * 批量转换对象列表到Map列表
+     * <p>
+     * 转换器只按{@code clazz}查找一次，所有元素都使用该转换器；结果列表按输入大小一次分配。
+     * </p>
+     *
+     * @param sources 需要转换的源对象列表，不能为null
+     * @param clazz 对象类型，不能为null
+     * @param <T> 对象类型
+     * @return 转换后的Map列表，顺序与源列表一致
+     * @throws IllegalArgumentException 如果参数或其中的元素为null，或找不到对应的转换器
+     */
+    public static <T> List<Map<String, Object>> toMapList(List<? extends T> sources, Class<T> clazz) {
+        if (sources == null) {
+            throw new IllegalArgumentException("输入参数 sources 不能为 null");
+        }
+        return BatchConvert.sequential(sources, toMapFunction(getMappingConvert(clazz)));
+    }
+
+    /**
+     * 在{@link ForkJoinPool}中并行批量转换对象列表到Map列表
+     * <p>
+     * 转换器只查找一次，列表按下标区间拆分到线程池中转换，每个区间直接写入结果的对应位置。
+     * 元素数量小于{@link ConfigLoader#PARALLEL_THRESHOLD_PROPERTY}配置的阈值（默认2048）时，在调用线程中顺序执行。
+     * </p>
+     *
+     * @param sources 需要转换的源对象列表，不能为null
+     * @param clazz 对象类型，不能为null
+     * @param pool 执行转换的线程池，为null时使用{@link ForkJoinPool#commonPool()}
+     * @param <T> 对象类型
+     * @return 转换后的Map列表，顺序与源列表一致，列表大小固定
+     * @throws IllegalArgumentException 如果参数或其中的元素为null，或找不到对应的转换器
+     */
+    public static <T> List<Map<String, Object>> toMapList(List<? extends T> sources, Class<T> clazz, ForkJoinPool pool) {
+        if (sources == null) {
+            throw new IllegalArgumentException("输入参数 sources 不能为 null");
+        }
+        return BatchConvert.parallel(sources, toMapFunction(getMappingConvert(clazz)), pool);
     }
 
     /**
      * 批量转换Map列表到对象列表
      * <p>
      * 将给定的Map列表中的每个Map转换为指定类型的对象，并返回包含这些对象的列表。
-     * 转换过程使用{@link #toBean(Map, Class)}方法，保持与单个Map转换的一致性。
+     * 转换规则与{@link #toBean(Map, Class)}一致，转换器只查找一次，结果列表按输入大小一次分配。
      * </p>
      *
      * @param dataMaps 需要转换的Map列表
      * @param clazz 目标对象类型的Class对象
      * @param <T> 目标对象类型
-     * @return 转换后的对象列表，如果输入参数任一为null则返回null
-     * @throws IllegalArgumentException 如果找不到对应的转换器
+     * @return 转换后的对象列表
+     * @throws IllegalArgumentException 如果参数或其中的元素为null，或找不到对应的转换器
      * @see #toBean(Map, Class)
      */
     public static <T> List<T> toBeanList(List<Map<String, Object>> dataMaps, Class<T> clazz) {
@@ -239,9 +469,306 @@ public class ConvertMap {
             throw new IllegalArgumentException("输入参数 clazz 不能为 null");
         }
 
-        return dataMaps.stream()
-                .map(map -> toBean(map, clazz))
-                .collect(Collectors.toList());
+        return BatchConvert.sequential(dataMaps, toBeanFunction(getMappingConvert(clazz), clazz));
+    }
+
+    /**
+     * 在{@link ForkJoinPool}中并行批量转换Map列表到对象列表
+     * <p>
+     * 执行方式与{@link #toMapList(List, Class, ForkJoinPool)}相同。
+     * </p>
+     *
+     * @param dataMaps 需要转换的Map列表，不能为null
+     * @param clazz 目标对象类型的Class对象，不能为null
+     * @param pool 执行转换的线程池，为null时使用{@link ForkJoinPool#commonPool()}
+     * @param <T> 目标对象类型
+     * @return 转换后的对象列表，顺序与源列表一致，列表大小固定
+     * @throws IllegalArgumentException 如果参数或其中的元素为null，或找不到对应的转换器
+     */
+    public static <T> List<T> toBeanList(List<Map<String, Object>> dataMaps, Class<T> clazz, ForkJoinPool pool) {
+        if (dataMaps == null) {
+            throw new IllegalArgumentException("输入参数 dataMaps 不能为 null");
+        }
+        if (clazz == null) {
+            throw new IllegalArgumentException("输入参数 clazz 不能为 null");
+        }
+
+        return BatchConvert.parallel(dataMaps, toBeanFunction(getMappingConvert(clazz), clazz), pool);
+    }
+
+    /**
+     * 异步批量转换对象列表到Map列表
+     * <p>
+     * 使用默认的块大小（1024）和最大并发块数量（CPU核数），详见
+     * {@link #toMapListAsync(List, Class, Executor, int, int)}。
+     * </p>
+     *
+     * @param sources 需要转换的源对象列表，转换完成前不能修改
+     * @param clazz 对象类型，不能为null
+     * @param executor 执行转换的线程池，不能为null
+     * @param <T> 对象类型
+     * @return 转换结果
+     * @throws IllegalArgumentException 如果参数为null或找不到对应的转换器
+     */
+    public static <T> CompletableFuture<List<Map<String, Object>>> toMapListAsync(List<? extends T> sources, Class<T> clazz,
+                                                                                  Executor executor) {
+        return toMapListAsync(sources, clazz, executor, AsyncBatchConvert.DEFAULT_CHUNK_SIZE, AsyncBatchConvert.DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * 异步批量转换对象列表到Map列表
+     * <p>
+     * 源列表按{@code chunkSize}切分为块，每块作为一个任务提交到{@code executor}，同一时刻最多有
+     * {@code maxInFlight}个块在执行或排队，一个块完成后才提交下一个块。调用线程不会被阻塞，
+     * 适用于异步的 Web 处理器转换大批量数据；在 Java 21 上可以传入{@code Executors.newVirtualThreadPerTaskExecutor()}。
+     * </p>
+     * <p>
+     * 任一元素转换失败或线程池拒绝任务时，返回的{@link CompletableFuture}以该异常异常完成，剩余的块不再提交；
+     * 取消返回的{@link CompletableFuture}同样会停止提交剩余的块。
+     * </p>
+     *
+     * @param sources 需要转换的源对象列表，转换完成前不能修改
+     * @param clazz 对象类型，不能为null
+     * @param executor 执行转换的线程池，不能为null
+     * @param chunkSize 每块的元素数量，必须大于0
+     * @param maxInFlight 同时执行或排队的最大块数量，必须大于0
+     * @param <T> 对象类型
+     * @return 转换结果，顺序与源列表一致，列表大小固定
+     * @throws IllegalArgumentException 如果参数不合法或找不到对应的转换器
+     */
+    public static <T> CompletableFuture<List<Map<String, Object>>> toMapListAsync(List<? extends T> sources, Class<T> clazz,
+                                                                                  Executor executor, int chunkSize, int maxInFlight) {
+        if (sources == null) {
+            throw new IllegalArgumentException("输入参数 sources 不能为 null");
+        }
+        checkAsyncArguments(executor, chunkSize, maxInFlight);
+        return AsyncBatchConvert.convert(sources, toMapFunction(getMappingConvert(clazz)), executor, chunkSize, maxInFlight);
+    }
+
+    /**
+     * 异步批量转换Map列表到对象列表
+     * <p>
+     * 使用默认的块大小（1024）和最大并发块数量（CPU核数），详见
+     * {@link #toBeanListAsync(List, Class, Executor, int, int)}。
+     * </p>
+     *
+     * @param dataMaps 需要转换的Map列表，转换完成前不能修改
+     * @param clazz 目标对象类型，不能为null
+     * @param executor 执行转换的线程池，不能为null
+     * @param <T> 目标对象类型
+     * @return 转换结果
+     * @throws IllegalArgumentException 如果参数为null或找不到对应的转换器
+     */
+    public static <T> CompletableFuture<List<T>> toBeanListAsync(List<Map<String, Object>> dataMaps, Class<T> clazz,
+                                                                 Executor executor) {
+        return toBeanListAsync(dataMaps, clazz, executor, AsyncBatchConvert.DEFAULT_CHUNK_SIZE, AsyncBatchConvert.DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * 异步批量转换Map列表到对象列表
+     * <p>
+     * 执行方式与{@link #toMapListAsync(List, Class, Executor, int, int)}相同。
+     * </p>
+     *
+     * @param dataMaps 需要转换的Map列表，转换完成前不能修改
+     * @param clazz 目标对象类型，不能为null
+     * @param executor 执行转换的线程池，不能为null
+     * @param chunkSize 每块的元素数量，必须大于0
+     * @param maxInFlight 同时执行或排队的最大块数量，必须大于0
+     * @param <T> 目标对象类型
+     * @return 转换结果，顺序与源列表一致，列表大小固定
+     * @throws IllegalArgumentException 如果参数不合法或找不到对应的转换器
+     */
+    public static <T> CompletableFuture<List<T>> toBeanListAsync(List<Map<String, Object>> dataMaps, Class<T> clazz,
+                                                                 Executor executor, int chunkSize, int maxInFlight) {
+        if (dataMaps == null) {
+            throw new IllegalArgumentException("输入参数 dataMaps 不能为 null");
+        }
+        checkAsyncArguments(executor, chunkSize, maxInFlight);
+        return AsyncBatchConvert.convert(dataMaps, toBeanFunction(getMappingConvert(clazz), clazz), executor, chunkSize, maxInFlight);
+    }
+
+    /**
+     * 校验异步批量转换的参数
+     *
+     * @param executor 执行转换的线程池
+     * @param chunkSize 每块的元素数量
+     * @param maxInFlight 同时执行或排队的最大块数量
+     * @throws IllegalArgumentException 如果参数不合法
+     */
+    private static void checkAsyncArguments(Executor executor, int chunkSize, int maxInFlight) {
+        if (executor == null) {
+            throw new IllegalArgumentException("输入参数 executor 不能为 null");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize 必须大于0: " + chunkSize);
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight 必须大于0: " + maxInFlight);
+        }
+    }
+
+    /**
+     * 流式转换对象到Map
+     * <p>
+     * 返回的流在消费时才逐个转换元素，不会物化整个数据集，适用于从游标读取、写往输出的导出场景。
+     * 转换器只查找一次；源流是并行流时，转换同样并行执行。
+     * </p>
+     *
+     * @param sources 源对象流，不能为null
+     * @param clazz 对象类型，不能为null
+     * @param <T> 对象类型
+     * @return 转换后的Map流
+     * @throws IllegalArgumentException 如果参数为null或找不到对应的转换器；流中的null元素在消费时抛出
+     */
+    public static <T> Stream<Map<String, Object>> toMapStream(Stream<? extends T> sources, Class<T> clazz) {
+        if (sources == null) {
+            throw new IllegalArgumentException("输入参数 sources 不能为 null");
+        }
+        return sources.map(toMapFunction(getMappingConvert(clazz)));
+    }
+
+    /**
+     * 流式转换Map到对象
+     *
+     * @param dataMaps Map流，不能为null
+     * @param clazz 目标对象类型，不能为null
+     * @param <T> 目标对象类型
+     * @return 转换后的对象流
+     * @throws IllegalArgumentException 如果参数为null或找不到对应的转换器；流中的null元素在消费时抛出
+     * @see #toMapStream(Stream, Class)
+     */
+    public static <T> Stream<T> toBeanStream(Stream<? extends Map<String, Object>> dataMaps, Class<T> clazz) {
+        if (dataMaps == null) {
+            throw new IllegalArgumentException("输入参数 dataMaps 不能为 null");
+        }
+        return dataMaps.map(toBeanFunction(getMappingConvert(clazz), clazz));
+    }
+
+    /**
+     * 逐个转换迭代器中的对象到Map
+     * <p>
+     * 每次调用{@code next()}时才转换一个元素，{@code remove()}转交给源迭代器。
+     * </p>
+     *
+     * @param sources 源对象迭代器，不能为null
+     * @param clazz 对象类型，不能为null
+     * @param <T> 对象类型
+     * @return 转换后的Map迭代器
+     * @throws IllegalArgumentException 如果参数为null或找不到对应的转换器；null元素在读取时抛出
+     */
+    public static <T> Iterator<Map<String, Object>> toMapIterator(Iterator<? extends T> sources, Class<T> clazz) {
+        if (sources == null) {
+            throw new IllegalArgumentException("输入参数 sources 不能为 null");
+        }
+        return StreamConvert.iterator(sources, toMapFunction(getMappingConvert(clazz)));
+    }
+
+    /**
+     * 逐个转换迭代器中的Map到对象
+     *
+     * @param dataMaps Map迭代器，不能为null
+     * @param clazz 目标对象类型，不能为null
+     * @param <T> 目标对象类型
+     * @return 转换后的对象迭代器
+     * @throws IllegalArgumentException 如果参数为null或找不到对应的转换器；null元素在读取时抛出
+     * @see #toMapIterator(Iterator, Class)
+     */
+    public static <T> Iterator<T> toBeanIterator(Iterator<? extends Map<String, Object>> dataMaps, Class<T> clazz) {
+        if (dataMaps == null) {
+            throw new IllegalArgumentException("输入参数 dataMaps 不能为 null");
+        }
+        return StreamConvert.iterator(dataMaps, toBeanFunction(getMappingConvert(clazz), clazz));
+    }
+
+    /**
+     * 逐个转换可拆分迭代器中的对象到Map
+     * <p>
+     * 拆分转交给源可拆分迭代器，可以通过{@link java.util.stream.StreamSupport#stream(Spliterator, boolean)}
+     * 构建并行流；转换后的元素保留源的大小和顺序特性。
+     * </p>
+     *
+     * @param sources 源对象的可拆分迭代器，不能为null
+     * @param clazz 对象类型，不能为null
+     * @param <T> 对象类型
+     * @return 转换后的Map可拆分迭代器
+     * @throws IllegalArgumentException 如果参数为null或找不到对应的转换器；null元素在读取时抛出
+     */
+    public static <T> Spliterator<Map<String, Object>> toMapSpliterator(Spliterator<? extends T> sources, Class<T> clazz) {
+        if (sources == null) {
+            throw new IllegalArgumentException("输入参数 sources 不能为 null");
+        }
+        return StreamConvert.spliterator(sources, toMapFunction(getMappingConvert(clazz)));
+    }
+
+    /**
+     * 逐个转换可拆分迭代器中的Map到对象
+     *
+     * @param dataMaps Map的可拆分迭代器，不能为null
+     * @param clazz 目标对象类型，不能为null
+     * @param <T> 目标对象类型
+     * @return 转换后的对象可拆分迭代器
+     * @throws IllegalArgumentException 如果参数为null或找不到对应的转换器；null元素在读取时抛出
+     * @see #toMapSpliterator(Spliterator, Class)
+     */
+    public static <T> Spliterator<T> toBeanSpliterator(Spliterator<? extends Map<String, Object>> dataMaps, Class<T> clazz) {
+        if (dataMaps == null) {
+            throw new IllegalArgumentException("输入参数 dataMaps 不能为 null");
+        }
+        return StreamConvert.spliterator(dataMaps, toBeanFunction(getMappingConvert(clazz), clazz));
+    }
+
+    /**
+     * 创建使用指定转换器的对象到Map转换函数，与{@link #toMap(Object)}一样拒绝null元素
+     *
+     * @param convert 已解析的转换器
+     * @param <T> 对象类型
+     * @return 转换函数
+     */
+    private static <T> Function<T, Map<String, Object>> toMapFunction(MappingConvert<T> convert) {
+        return source -> {
+            if (source == null) {
+                throw new IllegalArgumentException("源对象不能为null");
+            }
+            Object event = ConvertEvents.beginConversion();
+            Map<String, Object> result = convert.toMap(source);
+            ConvertEvents.endConversion(event, source.getClass(), ConvertOperationEnum.TO_MAP, result.size());
+            return result;
+        };
+    }
+
+    /**
+     * 创建使用指定转换器的Map到对象转换函数，与{@link #toBean(Map, Class)}一样拒绝null元素
+     *
+     * @param convert 已解析的转换器
+     * @param clazz 目标类型，转换结果为null时用于记录慢转换事件
+     * @param <T> 目标对象类型
+     * @return 转换函数
+     */
+    private static <T> Function<Map<String, Object>, T> toBeanFunction(MappingConvert<T> convert, Class<T> clazz) {
+        return dataMap -> {
+            if (dataMap == null) {
+                throw new IllegalArgumentException("源对象不能为null");
+            }
+            Object event = ConvertEvents.beginConversion();
+            T bean = convert.toBean(dataMap);
+            ConvertEvents.endConversion(event, bean == null ? clazz : bean.getClass(), ConvertOperationEnum.TO_BEAN, dataMap.size());
+            return bean;
+        };
+    }
+
+    /**
+     * 获取转换器从数据源读取的字段数，用于记录慢转换事件
+     *
+     * @param convert 转换器
+     * @return {@link MappingConvert#beanKeys()}的长度，转换器没有键表时返回0
+     */
+    private static int beanFieldCount(MappingConvert<?> convert) {
+        try {
+            return convert.beanKeys().length;
+        } catch (UnsupportedOperationException e) {
+            return 0;
+        }
     }
 
     /**
@@ -258,7 +785,7 @@ public class ConvertMap {
             throw new IllegalArgumentException("clazz不能为null");
         }
 
-        MappingConvert<?> converter = CONVERT_MAP.get(clazz.getName());
+        MappingConvert<?> converter = ConverterRegistry.find(clazz);
 
         if (converter == null) {
             throw new IllegalArgumentException("找不到类型 " + clazz.getName() + " 的转换器");
@@ -267,13 +794,99 @@ public class ConvertMap {
         return (MappingConvert<T>) converter;
     }
 
+    /**
+     * 查找指定类型的转换器
+     * <p>
+     * 与{@link #getMappingConvert(Class)}不同，找不到转换器时返回{@code null}而不是抛出异常，
+     * 供转换方法在一次查找中同时完成存在性判断和取值。
+     * 转换器挂在{@link Class}对象上，同一类型第一次查找后，后续查找只是一次字段读取。
+     * </p>
+     *
+     * @param clazz 目标类型的Class对象，可以为null
+     * @return 对应类型的转换器实例，clazz为null或找不到转换器时返回null
+     */
+    private static MappingConvert<?> findMappingConvert(Class<?> clazz) {
+        return clazz == null ? null : ConverterRegistry.find(clazz);
+    }
+
+    /**
+     * 注册或替换指定类型的转换器
+     * <p>
+     * 转换器按实体类的{@link Class}对象注册，不同类加载器中的同名实体类互不影响，
+     * 实体类所在的模块卸载后，转换器随之被回收。
+     * </p>
+     *
+     * @param <T> 实体类型
+     * @param clazz 实体类型，不能为null
+     * @param convert 转换器实例，不能为null
+     * @throws IllegalArgumentException 如果参数为null
+     */
+    public static <T> void register(Class<T> clazz, MappingConvert<T> convert) {
+        if (clazz == null) {
+            throw new IllegalArgumentException("clazz不能为null");
+        }
+        if (convert == null) {
+            throw new IllegalArgumentException("convert不能为null");
+        }
+        ConverterRegistry.register(clazz, convert);
+    }
+
+    /**
+     * 注销指定类型的转换器
+     *
+     * @param clazz 实体类型，不能为null
+     * @throws IllegalArgumentException 如果clazz为null
+     */
+    public static void unregister(Class<?> clazz) {
+        if (clazz == null) {
+            throw new IllegalArgumentException("clazz不能为null");
+        }
+        ConverterRegistry.unregister(clazz);
+    }
+
+    /**
+     * 加载并注册指定类加载器中的所有转换器
+     * <p>
+     * 加载策略与启动时相同，适用于运行时新部署的模块。
+     * 不调用此方法时，模块中的转换器也会在第一次使用时按生成规则被自动发现。
+     * </p>
+     *
+     * @param classLoader 模块的类加载器，不能为null
+     * @throws IllegalArgumentException 如果classLoader为null
+     */
+    public static void registerClassLoader(ClassLoader classLoader) {
+        if (classLoader == null) {
+            throw new IllegalArgumentException("classLoader不能为null");
+        }
+        ConverterRegistry.registerAll(classLoader, ConfigLoader.loadAllConfigsAsSingleMap(classLoader));
+    }
+
+    /**
+     * 注销指定类加载器中的所有转换器
+     * <p>
+     * 通常在模块卸载时调用。注册表对类加载器只持有弱引用，即使不调用，模块卸载后也不会泄漏。
+     * </p>
+     *
+     * @param classLoader 模块的类加载器，不能为null
+     * @throws IllegalArgumentException 如果classLoader为null
+     */
+    public static void unregisterClassLoader(ClassLoader classLoader) {
+        if (classLoader == null) {
+            throw new IllegalArgumentException("classLoader不能为null");
+        }
+        ConverterRegistry.unregisterAll(classLoader);
+    }
+
     /**
      * 获取所有注册的转换器
+     * <p>
+     * 返回调用时刻的快照，不同类加载器中存在同名实体类时只保留其中一个。
+     * </p>
      *
      * @return 包含所有已注册转换器名称的不可修改集合
      */
     public static Map<String, MappingConvert<?>> getRegisteredMap() {
-        return CONVERT_MAP;
+        return ConverterRegistry.snapshot();
     }
 
 
@@ -287,6 +900,6 @@ public class ConvertMap {
      * @return 包含所有已注册转换器名称的不可修改集合
      */
     public static Set<String> getRegisteredConverterNames() {
-        return Collections.unmodifiableSet(CONVERT_MAP.keySet());
+        return ConverterRegistry.snapshot().keySet();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package cc.anqin.processor.base;
+
+/**
+ * 带字段转换错误的转换结果
+ * <p>
+ * 由{@link ConvertMap#toBeanWithErrors}返回。即使存在错误也总会得到实体对象，无法转换的字段保持默认值。
+ * </p>
+ *
+ * @param <T> 实体类型
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see ConversionErrors
+ */
+public final class ConvertResult<T> {
+
+    /** 转换后的实体对象 */
+    private final T bean;
+
+    /** 转换错误 */
+    private final ConversionErrors errors;
+
+
+    /**
+     * 创建转换结果
+     *
+     * @param bean   转换后的实体对象
+     * @param errors 转换错误
+     */
+    ConvertResult(T bean, ConversionErrors errors) {
+        this.bean = bean;
+        this.errors = errors;
+    }
+
+
+    /**
+     * 获取转换后的实体对象
+     *
+     * @return 实体对象
+     */
+    public T getBean() {
+        return bean;
+    }
+
+    /**
+     * 获取转换错误
+     * <p>
+     * 使用调用方传入的收集器转换时，返回的就是该收集器，下一次复用后内容随之改变。
+     * </p>
+     *
+     * @return 转换错误
+     */
+    public ConversionErrors getErrors() {
+        return errors;
+    }
+
+    /**
+     * 所有字段是否都转换成功
+     *
+     * @return 没有转换错误时返回true
+     */
+    public boolean isSuccess() {
+        return errors.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ConvertResult{" + bean + ", " + errors + "}";
+    }
+}
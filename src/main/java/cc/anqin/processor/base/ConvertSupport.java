@@ -0,0 +1,156 @@
+package cc.anqin.processor.base;
+
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.convert.Convert;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 生成代码使用的转换辅助方法
+ * <p>
+ * 该工具类供注解处理器生成的转换器在运行时调用，用于判断值是否已经是目标类型，
+ * 从而跳过 hutool {@code Convert.convert} 的通用转换。方法均不抛出异常。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see cc.anqin.processor.util.CollectFields#addConvertCode
+ */
+public final class ConvertSupport {
+
+    /**
+     * 私有构造函数防止实例化
+     */
+    private ConvertSupport() {
+        throw new UnsupportedOperationException("ConvertSupport是一个工具类，不能被实例化");
+    }
+
+
+    /**
+     * 判断Map是否按键的{@code equals}查找
+     * <p>
+     * 只有这类Map才能用遍历{@code entrySet()}加字符串 switch 的方式代替逐个字段的{@code get}，
+     * 两者的结果才一致。{@code TreeMap(String.CASE_INSENSITIVE_ORDER)}、hutool {@code CaseInsensitiveMap}
+     * 等自定义了键匹配规则的Map（包括子类）都返回false，生成代码对它们仍然逐个字段调用{@code get}。
+     * </p>
+     *
+     * @param map Map，不能为null
+     * @return 是{@link HashMap}、{@link LinkedHashMap}或{@link FieldArrayMap}本身时返回true
+     */
+    public static boolean isEqualsKeyed(Map<?, ?> map) {
+        Class<?> type = map.getClass();
+        return type == HashMap.class || type == LinkedHashMap.class || type == FieldArrayMap.class;
+    }
+
+    /**
+     * 顺序查找键在键表中的下标
+     * <p>
+     * 供{@link MappingConvert#mapKeyIndex(String)}等默认实现使用，未生成字符串 switch 的转换器按此查找。
+     * </p>
+     *
+     * @param keys 键表，不能为null
+     * @param key  键名
+     * @return 键的下标，键不存在或为null时返回-1
+     */
+    public static int indexOf(String[] keys, String key) {
+        if (key == null) {
+            return -1;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (key.equals(keys[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 判断集合中的所有元素是否都是指定类型
+     * <p>
+     * null元素视为匹配。元素全部匹配时，集合可以不经转换直接赋值给{@code List<E>}等泛型字段。
+     * </p>
+     *
+     * @param elements    集合，不能为null
+     * @param elementType 元素类型，为null时不检查
+     * @return 所有元素都是指定类型时返回true
+     */
+    public static boolean allInstanceOf(Iterable<?> elements, Class<?> elementType) {
+        if (elementType == null) {
+            return true;
+        }
+        for (Object element : elements) {
+            if (element != null && !elementType.isInstance(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 判断Map中的所有键和值是否都是指定类型
+     * <p>
+     * null键和null值视为匹配。全部匹配时，Map可以不经转换直接赋值给{@code Map<K, V>}等泛型字段。
+     * </p>
+     *
+     * @param map       Map，不能为null
+     * @param keyType   键类型，为null时不检查
+     * @param valueType 值类型，为null时不检查
+     * @return 所有键和值都是指定类型时返回true
+     */
+    public static boolean allInstanceOf(Map<?, ?> map, Class<?> keyType, Class<?> valueType) {
+        if (keyType == null && valueType == null) {
+            return true;
+        }
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object key = entry.getKey();
+            if (keyType != null && key != null && !keyType.isInstance(key)) {
+                return false;
+            }
+            Object value = entry.getValue();
+            if (valueType != null && value != null && !valueType.isInstance(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 不抛出异常的通用转换，供收集转换错误的{@code toBean}使用
+     * <p>
+     * 脏数据中最常见的失败是把{@code "N/A"}、{@code "-"}这类不含任何数字的字符串转换为数值类型，
+     * 这种情况在调用 hutool 之前直接判定为失败，不会构造和展开异常。
+     * 其他情况交给{@code Convert.convertWithCheck}的静默模式，失败时返回null。
+     * </p>
+     *
+     * @param type  目标类型
+     * @param value 原始值，不能为null
+     * @return 转换结果，转换失败或结果为null时返回null
+     */
+    public static Object convertQuietly(Type type, Object value) {
+        if (value instanceof CharSequence && type instanceof Class
+                && Number.class.isAssignableFrom(BasicType.wrap((Class<?>) type))
+                && !containsDigit((CharSequence) value)) {
+            return null;
+        }
+        return Convert.convertWithCheck(type, value, null, true);
+    }
+
+    /**
+     * 判断字符序列中是否含有数字
+     *
+     * @param text 字符序列
+     * @return 含有至少一个十进制数字时返回true
+     */
+    private static boolean containsDigit(CharSequence text) {
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
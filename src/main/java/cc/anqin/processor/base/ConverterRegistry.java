@@ -0,0 +1,417 @@
+package cc.anqin.processor.base;
+
+import cc.anqin.processor.metrics.ConvertMetricsSupport;
+import cc.anqin.processor.util.ConfigLoader;
+import cc.anqin.processor.util.LazyMappingConvert;
+import cn.hutool.log.Log;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static cc.anqin.processor.util.ConfigLoader.PACKAGE_PREFIX;
+
+/**
+ * 按类加载器分区的转换器注册表
+ *
+ * <p>在应用服务器等每个部署使用独立类加载器的环境中，不同部署里可能存在同名的实体类。
+ * 该注册表把转换器直接挂在实体类的{@link Class}对象上（通过{@link ClassValue}），
+ * 因此查找天然按类加载器隔离，且转换器随所属模块的类一起被回收，不会泄漏元空间。</p>
+ *
+ * 存储结构：
+ * <ul>
+ *   <li>{@link #SLOTS} - 实体类到转换器的槽位，读取无锁，是转换时唯一经过的路径</li>
+ *   <li>{@link #PARTITIONS} - 以弱引用类加载器为键的分区索引，只保存类名、实体类的弱引用和未加载的懒转换器，
+ *       不会强引用任何类加载器，用于按名称查找和枚举已注册的转换器，以及把之后登记的懒转换器写入已有的槽位</li>
+ * </ul>
+ *
+ * 开启{@link ConvertMetricsSupport#ENABLED 指标统计}时，转换器在放入槽位前被包装，查找路径本身不做任何判断。
+ *
+ * 实体类第一次被查找时，按以下顺序解析转换器：
+ * <ol>
+ *   <li>实体类所属类加载器分区中，通过{@link #register}或{@link #registerAll}登记的转换器；
+ *       懒转换器也可能登记在能加载到该实体类的子类加载器分区中</li>
+ *   <li>按生成规则在实体类所属类加载器中查找转换器类（{@code auto.mappings.<实体类全限定名>}），
+ *       使新部署的模块无需显式注册即可使用</li>
+ * </ol>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see ConvertMap
+ */
+final class ConverterRegistry {
+
+    /** 日志 */
+    private static final Log log = Log.get(ConverterRegistry.class);
+
+    /**
+     * 实体类到转换器的槽位
+     * <p>
+     * 槽位挂在实体类的{@link Class}对象上，与实体类同生命周期。
+     * 转换器在槽位中以 volatile 字段发布，注册和注销只需一次写入，读取方无需加锁。
+     * </p>
+     */
+    private static final ClassValue<Slot> SLOTS = new ClassValue<Slot>() {
+        @Override
+        protected Slot computeValue(Class<?> type) {
+            return new Slot(ConvertMetricsSupport.instrument(type, resolve(type)));
+        }
+    };
+
+    /**
+     * 类加载器分区索引，所有访问都需要在该对象上同步
+     * <p>
+     * 键为弱引用，值中不保存对类加载器的强引用，因此模块卸载后对应的分区会被自动清理。
+     * </p>
+     */
+    private static final Map<ClassLoader, Partition> PARTITIONS = new WeakHashMap<>();
+
+
+    /**
+     * 私有构造函数防止实例化
+     */
+    private ConverterRegistry() {
+        throw new UnsupportedOperationException("ConverterRegistry是一个工具类，不能被实例化");
+    }
+
+
+    /**
+     * 查找指定类型的转换器
+     *
+     * @param clazz 实体类型，不能为null
+     * @return 对应的转换器，不存在时返回null
+     */
+    static MappingConvert<?> find(Class<?> clazz) {
+        return SLOTS.get(clazz).convert;
+    }
+
+    /**
+     * 注册或替换指定类型的转换器
+     *
+     * @param clazz   实体类型
+     * @param convert 转换器实例
+     */
+    static void register(Class<?> clazz, MappingConvert<?> convert) {
+        register(clazz, convert, clazz.getClassLoader());
+    }
+
+    /**
+     * 注册或替换指定类型的转换器，并记录在登记它的类加载器分区中
+     * <p>
+     * 登记的类加载器可能是实体类定义类加载器的子加载器，记录后注销该子加载器时也会清空这个槽位。
+     * </p>
+     *
+     * @param clazz       实体类型
+     * @param convert     转换器实例
+     * @param classLoader 登记转换器的类加载器
+     */
+    private static void register(Class<?> clazz, MappingConvert<?> convert, ClassLoader classLoader) {
+        String name = clazz.getName();
+        // 先登记为待取用，槽位首次创建时会直接取走它，避免再按生成规则查找并实例化一次
+        synchronized (PARTITIONS) {
+            partition(clazz.getClassLoader()).pending.put(name, convert);
+        }
+        Slot slot = SLOTS.get(clazz);
+        synchronized (PARTITIONS) {
+            Partition partition = partition(clazz.getClassLoader());
+            partition.pending.remove(name);
+            partition.empty.remove(name);
+            partition.resolved.put(name, new WeakReference<>(clazz));
+            partition(classLoader).resolved.put(name, new WeakReference<>(clazz));
+        }
+        slot.convert = ConvertMetricsSupport.instrument(clazz, convert);
+    }
+
+    /**
+     * 批量注册从指定类加载器加载的转换器
+     * <p>
+     * 已实例化的转换器直接挂到其实体类上。懒加载的转换器不加载实体类：实体类已经有槽位时
+     * （例如之前查找未命中，或所属类加载器被注销后重新注册）直接写入槽位，与{@link #register}相同；
+     * 否则登记到分区中，实体类第一次被查找时才会被取用。
+     * </p>
+     *
+     * @param classLoader 加载这些转换器的类加载器
+     * @param converters  实体类全限定名与转换器的映射
+     */
+    static void registerAll(ClassLoader classLoader, Map<String, MappingConvert<?>> converters) {
+        for (Map.Entry<String, MappingConvert<?>> entry : converters.entrySet()) {
+            MappingConvert<?> convert = entry.getValue();
+            if (convert instanceof LazyMappingConvert) {
+                Class<?> known;
+                synchronized (PARTITIONS) {
+                    known = knownClass(classLoader, entry.getKey());
+                    if (known == null) {
+                        partition(classLoader).pending.put(entry.getKey(), convert);
+                    }
+                }
+                if (known != null) {
+                    register(known, convert, classLoader);
+                }
+            } else {
+                register(ConfigLoader.resolveTargetClass(convert), convert, classLoader);
+            }
+        }
+    }
+
+    /**
+     * 注销指定类型的转换器
+     *
+     * @param clazz 实体类型
+     */
+    static void unregister(Class<?> clazz) {
+        synchronized (PARTITIONS) {
+            Partition partition = partition(clazz.getClassLoader());
+            partition.resolved.remove(clazz.getName());
+            partition.pending.remove(clazz.getName());
+            partition.empty.put(clazz.getName(), new WeakReference<>(clazz));
+        }
+        SLOTS.get(clazz).convert = null;
+    }
+
+    /**
+     * 注销指定类加载器下的所有转换器
+     * <p>
+     * 通常在模块卸载时调用。即使不调用，分区也会在类加载器被回收后自动清理，
+     * 显式注销可以让仍然存活的实体类立即停止使用旧的转换器。
+     * 这些实体类的槽位仍然会被记录，之后重新注册该类加载器时可以直接写回。
+     * </p>
+     *
+     * @param classLoader 类加载器
+     */
+    static void unregisterAll(ClassLoader classLoader) {
+        List<Class<?>> classes = new ArrayList<>();
+        synchronized (PARTITIONS) {
+            Partition partition = PARTITIONS.get(classLoader);
+            if (partition == null) {
+                return;
+            }
+            partition.pending.clear();
+            for (WeakReference<Class<?>> reference : partition.resolved.values()) {
+                Class<?> clazz = reference.get();
+                if (clazz != null) {
+                    classes.add(clazz);
+                }
+            }
+            partition.resolved.clear();
+            for (Class<?> clazz : classes) {
+                // 父类加载器中的实体类同时记录在其定义类加载器的分区中
+                Partition owner = partition(clazz.getClassLoader());
+                owner.resolved.remove(clazz.getName());
+                owner.empty.put(clazz.getName(), new WeakReference<>(clazz));
+            }
+        }
+        for (Class<?> clazz : classes) {
+            SLOTS.get(clazz).convert = null;
+        }
+    }
+
+    /**
+     * 获取所有已注册转换器的快照
+     * <p>
+     * 不同类加载器中存在同名实体类时，只保留其中一个。
+     * </p>
+     *
+     * @return 实体类全限定名与转换器的不可修改映射
+     */
+    static Map<String, MappingConvert<?>> snapshot() {
+        Map<String, MappingConvert<?>> snapshot = new HashMap<>();
+        synchronized (PARTITIONS) {
+            for (Partition partition : PARTITIONS.values()) {
+                for (Map.Entry<String, WeakReference<Class<?>>> entry : partition.resolved.entrySet()) {
+                    Class<?> clazz = entry.getValue().get();
+                    MappingConvert<?> convert = clazz == null ? null : SLOTS.get(clazz).convert;
+                    if (convert != null) {
+                        snapshot.putIfAbsent(entry.getKey(), convert);
+                    }
+                }
+                for (Map.Entry<String, MappingConvert<?>> entry : partition.pending.entrySet()) {
+                    snapshot.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+
+    /**
+     * 获取或创建类加载器对应的分区，调用方需持有{@link #PARTITIONS}的锁
+     *
+     * @param classLoader 类加载器，null表示引导类加载器
+     * @return 分区
+     */
+    private static Partition partition(ClassLoader classLoader) {
+        return PARTITIONS.computeIfAbsent(classLoader, key -> new Partition());
+    }
+
+    /**
+     * 在指定类加载器及其父类加载器的分区中查找已经有槽位的实体类，调用方需持有{@link #PARTITIONS}的锁
+     *
+     * @param classLoader 类加载器
+     * @param name        实体类全限定名
+     * @return 实体类，没有槽位时返回null
+     */
+    private static Class<?> knownClass(ClassLoader classLoader, String name) {
+        for (ClassLoader loader : ancestors(classLoader)) {
+            Partition partition = PARTITIONS.get(loader);
+            if (partition == null) {
+                continue;
+            }
+            for (Map<String, WeakReference<Class<?>>> slots : Arrays.asList(partition.resolved, partition.empty)) {
+                WeakReference<Class<?>> reference = slots.get(name);
+                Class<?> clazz = reference == null ? null : reference.get();
+                if (clazz != null) {
+                    return clazz;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取类加载器及其所有父类加载器
+     *
+     * @param classLoader 类加载器，null表示引导类加载器
+     * @return 从自身到引导类加载器（null）的列表
+     */
+    private static List<ClassLoader> ancestors(ClassLoader classLoader) {
+        List<ClassLoader> loaders = new ArrayList<>();
+        for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+            loaders.add(loader);
+        }
+        loaders.add(null);
+        return loaders;
+    }
+
+    /**
+     * 为第一次查找的实体类解析转换器
+     * <p>
+     * 懒加载的转换器登记在调用{@link #registerAll}时传入的类加载器的分区中，该类加载器可能是实体类定义类加载器的子加载器，
+     * 因此除实体类自己的分区外，还会检查子加载器的分区，并确认该子加载器按名称加载到的正是这个实体类。
+     * </p>
+     *
+     * @param type 实体类型
+     * @return 转换器，找不到时返回null
+     */
+    private static MappingConvert<?> resolve(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        String name = type.getName();
+
+        List<ClassLoader> candidates = new ArrayList<>();
+        synchronized (PARTITIONS) {
+            Partition own = partition(classLoader);
+            // 先记录槽位，之后登记的懒转换器可以直接写入
+            own.empty.put(name, new WeakReference<>(type));
+            MappingConvert<?> convert = own.pending.remove(name);
+            if (convert != null) {
+                own.empty.remove(name);
+                own.resolved.put(name, new WeakReference<>(type));
+                return convert;
+            }
+            for (Map.Entry<ClassLoader, Partition> entry : PARTITIONS.entrySet()) {
+                if (entry.getValue().pending.containsKey(name) && ancestors(entry.getKey()).contains(classLoader)) {
+                    candidates.add(entry.getKey());
+                }
+            }
+        }
+
+        // 在锁外确认子加载器中的同名类就是该实体类，子加载器可能优先加载自己的同名类
+        for (ClassLoader candidate : candidates) {
+            if (!loadsSameClass(candidate, type)) {
+                continue;
+            }
+            synchronized (PARTITIONS) {
+                Partition partition = PARTITIONS.get(candidate);
+                MappingConvert<?> convert = partition == null ? null : partition.pending.remove(name);
+                if (convert != null) {
+                    Partition own = partition(classLoader);
+                    own.empty.remove(name);
+                    own.resolved.put(name, new WeakReference<>(type));
+                    partition.resolved.put(name, new WeakReference<>(type));
+                    return convert;
+                }
+            }
+        }
+
+        if (type.isPrimitive() || type.isArray() || classLoader == null) {
+            return null;
+        }
+
+        // 按生成规则在实体类自己的类加载器中查找，新部署的模块无需显式注册
+        Class<?> converterClass;
+        try {
+            converterClass = Class.forName(PACKAGE_PREFIX + name, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+        if (!MappingConvert.class.isAssignableFrom(converterClass)) {
+            return null;
+        }
+
+        MappingConvert<?> convert;
+        try {
+            convert = (MappingConvert<?>) converterClass.getDeclaredConstructor().newInstance();
+        } catch (Exception e) {
+            log.warn("创建转换器实例失败: {}, {}", converterClass.getName(), e.getMessage());
+            return null;
+        }
+        if (ConfigLoader.resolveTargetClass(convert) != type) {
+            return null;
+        }
+
+        synchronized (PARTITIONS) {
+            Partition own = partition(classLoader);
+            own.empty.remove(name);
+            own.resolved.put(name, new WeakReference<>(type));
+        }
+        return convert;
+    }
+
+    /**
+     * 判断类加载器按名称加载到的是否是指定的类
+     *
+     * @param classLoader 类加载器
+     * @param type        类
+     * @return 是同一个类时返回true
+     */
+    private static boolean loadsSameClass(ClassLoader classLoader, Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, classLoader) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+
+    /**
+     * 实体类上的转换器槽位
+     */
+    private static final class Slot {
+
+        /** 当前生效的转换器，null表示没有转换器 */
+        volatile MappingConvert<?> convert;
+
+        Slot(MappingConvert<?> convert) {
+            this.convert = convert;
+        }
+    }
+
+    /**
+     * 单个类加载器的分区索引
+     */
+    private static final class Partition {
+
+        /** 已挂到实体类槽位上的转换器，只保存实体类的弱引用 */
+        final Map<String, WeakReference<Class<?>>> resolved = new HashMap<>();
+
+        /** 尚未被查找过的懒加载转换器，不持有类加载器的强引用 */
+        final Map<String, MappingConvert<?>> pending = new HashMap<>();
+
+        /** 已经有槽位但没有转换器的实体类（查找未命中或已注销），只保存实体类的弱引用 */
+        final Map<String, WeakReference<Class<?>>> empty = new HashMap<>();
+    }
+}
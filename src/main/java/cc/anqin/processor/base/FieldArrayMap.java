@@ -0,0 +1,65 @@
+package cc.anqin.processor.base;
+
+/**
+ * 紧凑的数组结构Map
+ * <p>
+ * 当{@link cc.anqin.processor.annotation.AutoToMap#mapType()}为{@link cc.anqin.processor.enums.MapTypeEnum#COMPACT}时，
+ * 生成的{@code toMap}返回该实现：键使用转换器的静态键表{@link MappingConvert#mapKeys()}（同一转换器的所有实例共享），
+ * 值存放在长度恰好等于字段数量的{@code Object[]}中，按键查找通过生成代码中的字符串 switch 完成。
+ * 与{@link java.util.HashMap}相比没有桶数组和条目对象，批量转换时内存占用和分配量显著降低。
+ * </p>
+ * <p>
+ * 键集合是固定的：可以通过{@link #put}修改已有键的值，但不能新增或删除键，
+ * 这些操作会抛出{@link UnsupportedOperationException}。所有键始终存在，值可以为null。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see cc.anqin.processor.enums.MapTypeEnum#COMPACT
+ */
+public final class FieldArrayMap extends AbstractFieldMap {
+
+    /** 字段值，下标与键表一致 */
+    private final Object[] values;
+
+
+    /**
+     * 创建数组结构的Map
+     *
+     * @param convert 生成的转换器
+     * @param values  字段值数组，长度必须与{@link MappingConvert#mapKeys()}一致，直接使用不复制
+     */
+    public FieldArrayMap(MappingConvert<?> convert, Object[] values) {
+        super(convert);
+        this.values = values;
+    }
+
+    @Override
+    Object valueAt(int index) {
+        return values[index];
+    }
+
+    @Override
+    Object setValueAt(int index, Object value) {
+        Object old = values[index];
+        values[index] = value;
+        return old;
+    }
+
+    /**
+     * 修改已有键的值
+     *
+     * @param key   键名，必须是键表中的键
+     * @param value 新值
+     * @return 旧值
+     * @throws UnsupportedOperationException 如果键不在键表中
+     */
+    @Override
+    public Object put(String key, Object value) {
+        int index = indexOf(key);
+        if (index < 0) {
+            throw new UnsupportedOperationException("FieldArrayMap 不支持新增键: " + key);
+        }
+        return setValueAt(index, value);
+    }
+}
@@ -0,0 +1,46 @@
+package cc.anqin.processor.base;
+
+/**
+ * 固定结构的实体Map视图
+ * <p>
+ * 该视图直接包装实体对象，键来自转换器的静态键表{@link MappingConvert#mapKeys()}，
+ * 取值时通过生成代码中的 switch 分派调用对应的 getter。创建视图时不复制任何字段，
+ * 也不会装箱，只有真正读取某个值时才会产生开销。
+ * </p>
+ * <p>
+ * 视图是只读的，所有修改操作都会抛出{@link UnsupportedOperationException}；
+ * 读取到的值反映实体对象的当前状态。
+ * </p>
+ *
+ * @param <T> 实体类型
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see MappingConvert#toMapView(Object)
+ * @see ConvertMap#toMapView(Object)
+ */
+public final class FieldMapView<T> extends AbstractFieldMap {
+
+    /** 提供字段读取的转换器 */
+    private final MappingConvert<T> convert;
+
+    /** 被包装的实体对象 */
+    private final T entity;
+
+
+    /**
+     * 创建实体对象的Map视图
+     *
+     * @param convert 生成的转换器
+     * @param entity  实体对象，不能为null
+     */
+    public FieldMapView(MappingConvert<T> convert, T entity) {
+        super(convert);
+        this.convert = convert;
+        this.entity = entity;
+    }
+
+    @Override
+    Object valueAt(int index) {
+        return convert.readField(entity, index);
+    }
+}
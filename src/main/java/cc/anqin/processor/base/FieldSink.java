@@ -0,0 +1,58 @@
+package cc.anqin.processor.base;
+
+/**
+ * 字段接收器
+ * <p>
+ * 生成的转换器通过{@link MappingConvert#writeTo}把实体对象的字段逐个推送给接收器，
+ * 不创建中间的Map、条目对象和迭代器，适用于把字段直接写入 Redis HSET、日志行、SQL 参数等透传场景。
+ * </p>
+ * <p>
+ * {@code int}、{@code long}、{@code double}、{@code boolean}字段通过{@link PrimitiveFieldSink}中对应的回调推送，
+ * 默认实现把值装箱后转交给{@link #accept}；关心性能的接收器可以覆盖这些回调以避免装箱。
+ * 其他字段（包括{@code byte}、{@code short}、{@code char}、{@code float}和包装类型）直接通过{@link #accept}推送，
+ * 值的类型与{@link MappingConvert#toMap}中一致，可能为null。
+ * </p>
+ *
+ * 使用示例：
+ * <pre>
+ * StringBuilder line = new StringBuilder();
+ * ConvertMap.writeTo(user, (index, key, value) -&gt; line.append(key).append('=').append(value).append(' '));
+ * </pre>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see MappingConvert#writeTo
+ * @see ConvertMap#writeTo(Object, FieldSink)
+ */
+@FunctionalInterface
+public interface FieldSink extends PrimitiveFieldSink {
+
+    /**
+     * 接收一个字段
+     *
+     * @param index 字段下标，对应{@link MappingConvert#mapKeys()}
+     * @param key   键名
+     * @param value 字段值，可能为null
+     */
+    void accept(int index, String key, Object value);
+
+    @Override
+    default void acceptInt(int index, String key, int value) {
+        accept(index, key, value);
+    }
+
+    @Override
+    default void acceptLong(int index, String key, long value) {
+        accept(index, key, value);
+    }
+
+    @Override
+    default void acceptDouble(int index, String key, double value) {
+        accept(index, key, value);
+    }
+
+    @Override
+    default void acceptBoolean(int index, String key, boolean value) {
+        accept(index, key, value);
+    }
+}
@@ -0,0 +1,48 @@
+package cc.anqin.processor.base;
+
+/**
+ * 字段数据源
+ * <p>
+ * {@link MappingConvert#toBean(FieldSource)}从数据源按键读取字段值，数据无需先复制到{@link java.util.Map}中。
+ * JDBC 结果集、Redis 哈希回复、解析后的协议帧等都可以通过实现该接口直接转换为实体对象。
+ * </p>
+ * <p>
+ * 生成的转换器读取字段时会同时传入字段下标（对应{@link MappingConvert#beanKeys()}）和键名，
+ * 能够预先按下标解析位置的数据源（例如{@link ResultSetFieldSource}）可以覆盖{@link #get(int, String)}跳过按键名查找。
+ * </p>
+ *
+ * 内置的适配器：
+ * <ul>
+ *   <li>{@link MapFieldSource} - 任意{@link java.util.Map}</li>
+ *   <li>{@link ResultSetFieldSource} - JDBC {@link java.sql.ResultSet}的当前行</li>
+ * </ul>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see MappingConvert#toBean(FieldSource)
+ */
+@FunctionalInterface
+public interface FieldSource {
+
+    /**
+     * 按键名读取字段值
+     *
+     * @param key 键名，即实体类的字段名
+     * @return 字段值，不存在时返回null
+     */
+    Object get(String key);
+
+    /**
+     * 按字段下标读取字段值
+     * <p>
+     * 默认实现忽略下标，按键名读取。
+     * </p>
+     *
+     * @param index 字段下标，对应{@link MappingConvert#beanKeys()}
+     * @param key   键名，即实体类的字段名
+     * @return 字段值，不存在时返回null
+     */
+    default Object get(int index, String key) {
+        return get(key);
+    }
+}
@@ -0,0 +1,44 @@
+package cc.anqin.processor.base;
+
+import java.util.Map;
+
+/**
+ * 以{@link Map}为数据源的字段数据源
+ * <p>
+ * 直接读取被包装的Map，不复制数据。Map的键类型不限，适用于键为{@code String}以外类型
+ * 或值类型不是{@code Object}、无法直接传给{@link MappingConvert#toBean(Map)}的Map。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see FieldSource
+ */
+public final class MapFieldSource implements FieldSource {
+
+    /** 被包装的Map */
+    private final Map<?, ?> map;
+
+
+    /**
+     * 创建以Map为数据源的字段数据源
+     *
+     * @param map 被包装的Map，不能为null
+     * @throws IllegalArgumentException 如果map为null
+     */
+    public MapFieldSource(Map<?, ?> map) {
+        if (map == null) {
+            throw new IllegalArgumentException("map不能为null");
+        }
+        this.map = map;
+    }
+
+    @Override
+    public Object get(String key) {
+        return map.get(key);
+    }
+
+    @Override
+    public String toString() {
+        return "MapFieldSource" + map;
+    }
+}
@@ -1,5 +1,7 @@
 package cc.anqin.processor.base;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -43,4 +45,360 @@ public interface MappingConvert<T> {
      * @throws ClassCastException 如果Map中的值类型与实体属性类型不匹配
      */
     T toBean(Map<String, Object> dataMap);
+
+    /**
+     * 从字段数据源转换为实体对象
+     * <p>
+     * 与{@link #toBean(Map)}的转换规则相同，但字段值直接从数据源读取，
+     * JDBC 结果集、协议帧等数据无需先复制到Map中。生成的转换器会把字段下标一并传给
+     * {@link FieldSource#get(int, String)}，数据源可以借此跳过按键名查找。
+     * </p>
+     * <p>
+     * 默认实现按{@link #beanKeys()}把数据源中非null的值复制到Map后调用{@link #toBean(Map)}；
+     * 实体类开启{@link cc.anqin.processor.annotation.AutoToMap#fieldSource()}时，生成的转换器直接从数据源读取。
+     * </p>
+     *
+     * @param source 字段数据源，为null时返回新的空实例
+     * @return 转换后的实体对象实例
+     * @throws UnsupportedOperationException 如果转换器不是由注解处理器生成的
+     * @see MapFieldSource
+     * @see ResultSetFieldSource
+     */
+    default T toBean(FieldSource source) {
+        if (source == null) {
+            return toBean(Collections.emptyMap());
+        }
+        String[] keys = beanKeys();
+        Map<String, Object> dataMap = new HashMap<>((int) (keys.length / 0.75f) + 1);
+        for (int i = 0; i < keys.length; i++) {
+            Object value = source.get(i, keys[i]);
+            if (value != null) {
+                dataMap.put(keys[i], value);
+            }
+        }
+        return toBean(dataMap);
+    }
+
+    /**
+     * 将Map转换为实体对象，并收集字段转换错误
+     * <p>
+     * 与{@link #toBean(Map)}的转换规则相同，但某个字段的值无法转换（或转换结果为null）时不抛出异常，
+     * 而是把字段名、原始值和目标类型记录到{@code errors}中，该字段保持默认值，其余字段照常转换。
+     * 适用于批量导入脏数据，避免为每个坏值构造和展开异常。
+     * </p>
+     * <p>
+     * 默认实现直接调用{@link #toBean(Map)}，不收集错误；
+     * 实体类开启{@link cc.anqin.processor.annotation.AutoToMap#errors()}时，生成的转换器会覆盖此方法。
+     * </p>
+     *
+     * @param dataMap 包含实体属性的Map
+     * @param errors  错误收集器，为null时等同于{@link #toBean(Map)}
+     * @return 转换后的实体对象实例
+     * @see ConversionErrors
+     */
+    default T toBean(Map<String, Object> dataMap, ConversionErrors errors) {
+        return toBean(dataMap);
+    }
+
+    /**
+     * 获取转换器对应的实体类型
+     * <p>
+     * 生成的转换器会直接返回实体类的{@code Class}字面量，运行时注册转换器时无需再通过反射解析泛型参数。
+     * 手写的转换器可以不覆盖此方法，此时返回{@code null}，由加载器回退到泛型解析。
+     * </p>
+     *
+     * @return 实体类型，未知时返回{@code null}
+     */
+    default Class<T> getTargetClass() {
+        return null;
+    }
+
+    /**
+     * 获取对象到Map转换的键表
+     * <p>
+     * 返回生成代码中的静态常量数组，所有实例共享，数组下标即字段下标，调用方不得修改。
+     * 键的顺序与{@link #toMap}的写入顺序一致，重复的键只保留一个。
+     * </p>
+     *
+     * @return 键表
+     * @throws UnsupportedOperationException 如果转换器不是由注解处理器生成的
+     */
+    default String[] mapKeys() {
+        throw new UnsupportedOperationException(getClass().getName() + " 不支持按下标访问字段");
+    }
+
+    /**
+     * 获取键在{@link #mapKeys()}中的下标
+     * <p>
+     * 默认实现顺序查找键表；需要按下标访问字段的转换器（开启{@link cc.anqin.processor.annotation.AutoToMap#view()}、
+     * {@link cc.anqin.processor.annotation.AutoToMap#primitives()}或使用紧凑Map）使用编译期的字符串 switch 实现。
+     * </p>
+     *
+     * @param key 键名
+     * @return 键的下标，键不存在或为null时返回-1
+     * @throws UnsupportedOperationException 如果转换器不是由注解处理器生成的
+     */
+    default int mapKeyIndex(String key) {
+        return ConvertSupport.indexOf(mapKeys(), key);
+    }
+
+    /**
+     * 读取实体对象指定下标的字段值
+     * <p>
+     * 默认实现从{@link #toMap}的结果中取值；实体类开启{@link cc.anqin.processor.annotation.AutoToMap#view()}时，
+     * 生成的转换器直接调用对应的 getter。
+     * </p>
+     *
+     * @param entity 实体对象，不能为null
+     * @param index  字段下标，对应{@link #mapKeys()}
+     * @return 字段值，基本类型会被装箱
+     * @throws IndexOutOfBoundsException     如果下标越界
+     * @throws UnsupportedOperationException 如果转换器不是由注解处理器生成的
+     */
+    default Object readField(T entity, int index) {
+        return toMap(entity).get(mapKeys()[index]);
+    }
+
+    /**
+     * 获取Map到对象转换的键表
+     * <p>
+     * 与{@link #mapKeys()}不同，该键表的键是实体类的字段名（即{@link #toBean}读取的键），
+     * 数组下标即{@code setInt}等写入方法使用的字段下标，调用方不得修改。
+     * </p>
+     *
+     * @return 键表
+     * @throws UnsupportedOperationException 如果转换器不是由注解处理器生成的
+     */
+    default String[] beanKeys() {
+        throw new UnsupportedOperationException(getClass().getName() + " 不支持按下标访问字段");
+    }
+
+    /**
+     * 获取键在{@link #beanKeys()}中的下标
+     * <p>
+     * 默认实现顺序查找键表，开启{@link cc.anqin.processor.annotation.AutoToMap#primitives()}时使用编译期的字符串 switch 实现。
+     * </p>
+     *
+     * @param key 键名
+     * @return 键的下标，键不存在或为null时返回-1
+     * @throws UnsupportedOperationException 如果转换器不是由注解处理器生成的
+     */
+    default int beanKeyIndex(String key) {
+        return ConvertSupport.indexOf(beanKeys(), key);
+    }
+
+    /**
+     * 以{@code int}读取实体对象指定下标的字段值，不装箱
+     * <p>
+     * 适用于{@code byte}、{@code short}、{@code char}、{@code int}类型的字段。
+     * </p>
+     * <p>
+     * 默认实现通过{@link #readField}读取后拆箱，开启{@link cc.anqin.processor.annotation.AutoToMap#primitives()}时不装箱。
+     * </p>
+     *
+     * @param entity 实体对象，不能为null
+     * @param index  字段下标，对应{@link #mapKeys()}
+     * @return 字段值
+     * @throws IllegalArgumentException      如果下标越界或字段不能以{@code int}读取
+     * @throws UnsupportedOperationException 如果转换器不是由注解处理器生成的
+     */
+    default int getInt(T entity, int index) {
+        Object value = readField(entity, index);
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        throw new IllegalArgumentException("字段 " + index + " 不能以int读取");
+    }
+
+    /**
+     * 以{@code long}读取实体对象指定下标的字段值，不装箱
+     * <p>
+     * 适用于所有整数类型（含{@code char}）的字段，较窄的类型会被拓宽。
+     * </p>
+     * <p>
+     * 默认实现通过{@link #readField}读取后拆箱，开启{@link cc.anqin.processor.annotation.AutoToMap#primitives()}时不装箱。
+     * </p>
+     *
+     * @param entity 实体对象，不能为null
+     * @param index  字段下标，对应{@link #mapKeys()}
+     * @return 字段值
+     * @throws IllegalArgumentException      如果下标越界或字段不能以{@code long}读取
+     * @throws UnsupportedOperationException 如果转换器不是由注解处理器生成的
+     */
+    default long getLong(T entity, int index) {
+        Object value = readField(entity, index);
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        throw new IllegalArgumentException("字段 " + index + " 不能以long读取");
+    }
+
+    /**
+     * 以{@code double}读取实体对象指定下标的字段值，不装箱
+     * <p>
+     * 适用于所有数值类型的字段，较窄的类型会被拓宽。
+     * </p>
+     * <p>
+     * 默认实现通过{@link #readField}读取后拆箱，开启{@link cc.anqin.processor.annotation.AutoToMap#primitives()}时不装箱。
+     * </p>
+     *
+     * @param entity 实体对象，不能为null
+     * @param index  字段下标，对应{@link #mapKeys()}
+     * @return 字段值
+     * @throws IllegalArgumentException      如果下标越界或字段不能以{@code double}读取
+     * @throws UnsupportedOperationException 如果转换器不是由注解处理器生成的
+     */
+    default double getDouble(T entity, int index) {
+        Object value = readField(entity, index);
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        throw new IllegalArgumentException("字段 " + index + " 不能以double读取");
+    }
+
+    /**
+     * 以{@code boolean}读取实体对象指定下标的字段值，不装箱
+     * <p>
+     * 默认实现通过{@link #readField}读取后拆箱，开启{@link cc.anqin.processor.annotation.AutoToMap#primitives()}时不装箱。
+     * </p>
+     *
+     * @param entity 实体对象，不能为null
+     * @param index  字段下标，对应{@link #mapKeys()}
+     * @return 字段值
+     * @throws IllegalArgumentException      如果下标越界或字段不是{@code boolean}类型
+     * @throws UnsupportedOperationException 如果转换器不是由注解处理器生成的
+     */
+    default boolean getBoolean(T entity, int index) {
+        Object value = readField(entity, index);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        throw new IllegalArgumentException("字段 " + index + " 不能以boolean读取");
+    }
+
+    /**
+     * 以{@code int}写入实体对象指定下标的字段，不装箱
+     * <p>
+     * 适用于{@code int}、{@code long}、{@code float}、{@code double}类型的字段，值会被拓宽。
+     * </p>
+     *
+     * @param bean  实体对象，不能为null
+     * @param index 字段下标，对应{@link #beanKeys()}
+     * @param value 字段值
+     * @throws IllegalArgumentException      如果下标越界或字段不能以{@code int}写入
+     * @throws UnsupportedOperationException 如果未开启{@link cc.anqin.processor.annotation.AutoToMap#primitives()}，或实体类是 record 等不可变类型
+     */
+    default void setInt(T bean, int index, int value) {
+        throw new UnsupportedOperationException(getClass().getName() + " 未生成基本类型字段方法，请开启 @AutoToMap(primitives = true)");
+    }
+
+    /**
+     * 以{@code long}写入实体对象指定下标的字段，不装箱
+     * <p>
+     * 适用于{@code long}、{@code float}、{@code double}类型的字段，值会被拓宽。
+     * </p>
+     *
+     * @param bean  实体对象，不能为null
+     * @param index 字段下标，对应{@link #beanKeys()}
+     * @param value 字段值
+     * @throws IllegalArgumentException      如果下标越界或字段不能以{@code long}写入
+     * @throws UnsupportedOperationException 如果未开启{@link cc.anqin.processor.annotation.AutoToMap#primitives()}，或实体类是 record 等不可变类型
+     */
+    default void setLong(T bean, int index, long value) {
+        throw new UnsupportedOperationException(getClass().getName() + " 未生成基本类型字段方法，请开启 @AutoToMap(primitives = true)");
+    }
+
+    /**
+     * 以{@code double}写入实体对象指定下标的字段，不装箱
+     *
+     * @param bean  实体对象，不能为null
+     * @param index 字段下标，对应{@link #beanKeys()}
+     * @param value 字段值
+     * @throws IllegalArgumentException      如果下标越界或字段不是{@code double}类型
+     * @throws UnsupportedOperationException 如果未开启{@link cc.anqin.processor.annotation.AutoToMap#primitives()}，或实体类是 record 等不可变类型
+     */
+    default void setDouble(T bean, int index, double value) {
+        throw new UnsupportedOperationException(getClass().getName() + " 未生成基本类型字段方法，请开启 @AutoToMap(primitives = true)");
+    }
+
+    /**
+     * 以{@code boolean}写入实体对象指定下标的字段，不装箱
+     *
+     * @param bean  实体对象，不能为null
+     * @param index 字段下标，对应{@link #beanKeys()}
+     * @param value 字段值
+     * @throws IllegalArgumentException      如果下标越界或字段不是{@code boolean}类型
+     * @throws UnsupportedOperationException 如果未开启{@link cc.anqin.processor.annotation.AutoToMap#primitives()}，或实体类是 record 等不可变类型
+     */
+    default void setBoolean(T bean, int index, boolean value) {
+        throw new UnsupportedOperationException(getClass().getName() + " 未生成基本类型字段方法，请开启 @AutoToMap(primitives = true)");
+    }
+
+    /**
+     * 把实体对象的基本类型字段逐个推送给接收器，不装箱
+     * <p>
+     * 只处理基本类型的字段，包装类型和其他字段会被跳过；字段的推送顺序与{@link #mapKeys()}一致。
+     * </p>
+     *
+     * @param entity 实体对象，不能为null
+     * @param sink   接收器
+     * @throws UnsupportedOperationException 如果未开启{@link cc.anqin.processor.annotation.AutoToMap#primitives()}
+     */
+    default void writePrimitives(T entity, PrimitiveFieldSink sink) {
+        throw new UnsupportedOperationException(getClass().getName() + " 未生成基本类型字段方法，请开启 @AutoToMap(primitives = true)");
+    }
+
+    /**
+     * 把实体对象的所有字段逐个推送给接收器
+     * <p>
+     * 推送的键、顺序和值类型与{@link #toMap}一致，但不创建Map。{@code int}、{@code long}、{@code double}、
+     * {@code boolean}字段通过接收器的类型化回调推送，默认情况下由{@link FieldSink}装箱后转交给{@link FieldSink#accept}。
+     * </p>
+     * <p>
+     * 默认实现按{@link #mapKeys()}的顺序从{@link #toMap}的结果中取值；实体类开启{@link cc.anqin.processor.annotation.AutoToMap#sink()}时，生成的转换器直接调用 getter。
+     * </p>
+     *
+     * @param entity 实体对象，不能为null
+     * @param sink   接收器
+     */
+    default void writeTo(T entity, FieldSink sink) {
+        Map<String, Object> map = toMap(entity);
+        String[] keys;
+        try {
+            keys = mapKeys();
+        } catch (UnsupportedOperationException e) {
+            // 手写的转换器没有键表，按toMap结果的遍历顺序编号
+            keys = map.keySet().toArray(new String[0]);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            sink.accept(i, keys[i], map.get(keys[i]));
+        }
+    }
+
+    /**
+     * 获取实体对象的只读Map视图
+     * <p>
+     * 与{@link #toMap}不同，开启{@link cc.anqin.processor.annotation.AutoToMap#view()}时生成的转换器返回的是直接包装实体对象的{@link FieldMapView}，
+     * 不复制任何字段，只有在读取某个值时才会调用对应的 getter（以及装箱）。
+     * 视图反映实体对象的最新状态，适用于模板渲染、日志、JSON 序列化等只读场景。
+     * </p>
+     * <p>
+     * 默认实现退化为{@link #toMap}结果的不可修改包装。
+     * </p>
+     *
+     * @param entity 需要转换的实体对象，不能为null
+     * @return 只读的Map视图
+     */
+    default Map<String, Object> toMapView(T entity) {
+        return Collections.unmodifiableMap(toMap(entity));
+    }
 }
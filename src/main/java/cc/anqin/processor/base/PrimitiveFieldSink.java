@@ -0,0 +1,62 @@
+package cc.anqin.processor.base;
+
+/**
+ * 基本类型字段的接收器
+ * <p>
+ * 生成的转换器通过{@link MappingConvert#writePrimitives}把实体对象的基本类型字段逐个推送给接收器，
+ * 值以基本类型传递，整个过程不装箱、不创建Map，适用于指标导出、列式写入等只关心数值字段的热点路径。
+ * </p>
+ *
+ * 字段类型与回调的对应关系：
+ * <ul>
+ *   <li>{@code byte}、{@code short}、{@code char}、{@code int} - {@link #acceptInt}</li>
+ *   <li>{@code long} - {@link #acceptLong}</li>
+ *   <li>{@code float}、{@code double} - {@link #acceptDouble}</li>
+ *   <li>{@code boolean} - {@link #acceptBoolean}</li>
+ * </ul>
+ *
+ * 回调中的{@code index}是字段在{@link MappingConvert#mapKeys()}中的下标，{@code key}是对应的键名，
+ * 接收器可以按下标预先分配列，避免按键名查找。
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see MappingConvert#writePrimitives
+ */
+public interface PrimitiveFieldSink {
+
+    /**
+     * 接收整型字段
+     *
+     * @param index 字段下标
+     * @param key   键名
+     * @param value 字段值
+     */
+    void acceptInt(int index, String key, int value);
+
+    /**
+     * 接收长整型字段
+     *
+     * @param index 字段下标
+     * @param key   键名
+     * @param value 字段值
+     */
+    void acceptLong(int index, String key, long value);
+
+    /**
+     * 接收浮点型字段
+     *
+     * @param index 字段下标
+     * @param key   键名
+     * @param value 字段值
+     */
+    void acceptDouble(int index, String key, double value);
+
+    /**
+     * 接收布尔型字段
+     *
+     * @param index 字段下标
+     * @param key   键名
+     * @param value 字段值
+     */
+    void acceptBoolean(int index, String key, boolean value);
+}
@@ -0,0 +1,155 @@
+package cc.anqin.processor.base;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 以JDBC {@link ResultSet}为数据源的字段数据源
+ * <p>
+ * 读取结果集当前行的列值，不复制到Map。列名在创建时解析一次，匹配时忽略大小写和下划线，
+ * 因此列{@code USER_NAME}、{@code user_name}都会匹配字段{@code userName}；同名的列只取第一列。
+ * </p>
+ * <p>
+ * 指定转换器创建时，还会按{@link MappingConvert#beanKeys()}预先算出每个字段对应的列号，
+ * 读取时直接按列号取值。同一个实例可以在遍历结果集时反复使用：
+ * </p>
+ * <pre>
+ * MappingConvert&lt;User&gt; convert = ConvertMap.getMappingConvert(User.class);
+ * ResultSetFieldSource source = new ResultSetFieldSource(resultSet, convert);
+ * while (resultSet.next()) {
+ *     users.add(convert.toBean(source));
+ * }
+ * </pre>
+ *
+ * 读取时发生的{@link SQLException}会被包装为{@link IllegalStateException}抛出。
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see FieldSource
+ */
+public final class ResultSetFieldSource implements FieldSource {
+
+    /** 被包装的结果集 */
+    private final ResultSet resultSet;
+
+    /** 规范化后的列名到列号（从1开始）的映射 */
+    private final Map<String, Integer> columns;
+
+    /** 按字段下标预先解析的列号，0表示没有对应的列；未指定转换器时为null */
+    private final int[] fieldColumns;
+
+
+    /**
+     * 创建以结果集为数据源的字段数据源，按键名查找列
+     *
+     * @param resultSet 结果集，不能为null
+     * @throws IllegalArgumentException 如果resultSet为null
+     * @throws IllegalStateException    如果读取结果集元数据失败
+     */
+    public ResultSetFieldSource(ResultSet resultSet) {
+        this(resultSet, null);
+    }
+
+    /**
+     * 创建以结果集为数据源的字段数据源，并按转换器的键表预先解析列号
+     *
+     * @param resultSet 结果集，不能为null
+     * @param convert   生成的转换器，为null时只按键名查找列
+     * @throws IllegalArgumentException 如果resultSet为null
+     * @throws IllegalStateException    如果读取结果集元数据失败
+     */
+    public ResultSetFieldSource(ResultSet resultSet, MappingConvert<?> convert) {
+        if (resultSet == null) {
+            throw new IllegalArgumentException("resultSet不能为null");
+        }
+        this.resultSet = resultSet;
+        this.columns = resolveColumns(resultSet);
+
+        if (convert == null) {
+            this.fieldColumns = null;
+        } else {
+            String[] keys = convert.beanKeys();
+            this.fieldColumns = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                Integer column = columns.get(normalize(keys[i]));
+                fieldColumns[i] = column == null ? 0 : column;
+            }
+        }
+    }
+
+
+    /**
+     * 获取被包装的结果集
+     *
+     * @return 结果集
+     */
+    public ResultSet getResultSet() {
+        return resultSet;
+    }
+
+    @Override
+    public Object get(String key) {
+        if (key == null) {
+            return null;
+        }
+        Integer column = columns.get(normalize(key));
+        return column == null ? null : getObject(column);
+    }
+
+    @Override
+    public Object get(int index, String key) {
+        if (fieldColumns == null || index < 0 || index >= fieldColumns.length) {
+            return get(key);
+        }
+        int column = fieldColumns[index];
+        return column == 0 ? null : getObject(column);
+    }
+
+    /**
+     * 读取当前行指定列的值
+     *
+     * @param column 列号，从1开始
+     * @return 列值
+     */
+    private Object getObject(int column) {
+        try {
+            return resultSet.getObject(column);
+        } catch (SQLException e) {
+            throw new IllegalStateException("读取结果集第 " + column + " 列失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 解析结果集的列名
+     *
+     * @param resultSet 结果集
+     * @return 规范化后的列名到列号的映射
+     */
+    private static Map<String, Integer> resolveColumns(ResultSet resultSet) {
+        try {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int columnCount = metaData.getColumnCount();
+            Map<String, Integer> columns = new HashMap<>((int) (columnCount / 0.75f) + 1);
+            for (int column = 1; column <= columnCount; column++) {
+                columns.putIfAbsent(normalize(metaData.getColumnLabel(column)), column);
+            }
+            return columns;
+        } catch (SQLException e) {
+            throw new IllegalStateException("读取结果集元数据失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 规范化列名或字段名：去掉下划线并转为小写
+     *
+     * @param name 列名或字段名
+     * @return 规范化后的名称
+     */
+    private static String normalize(String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+}
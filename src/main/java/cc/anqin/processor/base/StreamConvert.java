@@ -0,0 +1,154 @@
+package cc.anqin.processor.base;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 流式转换的适配器
+ * <p>
+ * 供{@link ConvertMap}的流式转换方法使用，把源{@link Iterator}或{@link Spliterator}包装为
+ * 逐个元素转换的视图。转换在消费元素时才发生，不会缓存任何元素，内存占用与数据集大小无关。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see ConvertMap#toMapStream
+ * @see ConvertMap#toBeanIterator
+ */
+final class StreamConvert {
+
+    /**
+     * 私有构造函数防止实例化
+     */
+    private StreamConvert() {
+        throw new UnsupportedOperationException("StreamConvert是一个工具类，不能被实例化");
+    }
+
+
+    /**
+     * 创建逐个元素转换的迭代器
+     *
+     * @param <S>     源元素类型
+     * @param <R>     结果元素类型
+     * @param source  源迭代器
+     * @param mapper  单个元素的转换函数
+     * @return 转换后的迭代器，{@code remove}操作转交给源迭代器
+     */
+    static <S, R> Iterator<R> iterator(Iterator<? extends S> source, Function<? super S, ? extends R> mapper) {
+        return new MappingIterator<>(source, mapper);
+    }
+
+    /**
+     * 创建逐个元素转换的可拆分迭代器
+     * <p>
+     * 拆分操作转交给源可拆分迭代器，因此基于它的并行流可以在多个线程中同时转换。
+     * 转换后的元素不再保证去重和有序（按比较器排序）的特性，其余特性（如大小已知、按顺序）保持不变。
+     * </p>
+     *
+     * @param <S>    源元素类型
+     * @param <R>    结果元素类型
+     * @param source 源可拆分迭代器
+     * @param mapper 单个元素的转换函数，并行使用时必须是线程安全的
+     * @return 转换后的可拆分迭代器
+     */
+    static <S, R> Spliterator<R> spliterator(Spliterator<? extends S> source, Function<? super S, ? extends R> mapper) {
+        return new MappingSpliterator<>(source, mapper);
+    }
+
+
+    /**
+     * 逐个元素转换的迭代器
+     *
+     * @param <S> 源元素类型
+     * @param <R> 结果元素类型
+     */
+    private static final class MappingIterator<S, R> implements Iterator<R> {
+
+        private final Iterator<? extends S> source;
+        private final Function<? super S, ? extends R> mapper;
+
+        MappingIterator(Iterator<? extends S> source, Function<? super S, ? extends R> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return source.hasNext();
+        }
+
+        @Override
+        public R next() {
+            return mapper.apply(source.next());
+        }
+
+        @Override
+        public void remove() {
+            source.remove();
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            source.forEachRemaining(element -> action.accept(mapper.apply(element)));
+        }
+    }
+
+    /**
+     * 逐个元素转换的可拆分迭代器
+     *
+     * @param <S> 源元素类型
+     * @param <R> 结果元素类型
+     */
+    private static final class MappingSpliterator<S, R> implements Spliterator<R> {
+
+        /** 转换后不再成立的特性 */
+        private static final int DROPPED_CHARACTERISTICS = Spliterator.DISTINCT | Spliterator.SORTED;
+
+        private final Spliterator<? extends S> source;
+        private final Function<? super S, ? extends R> mapper;
+
+        MappingSpliterator(Spliterator<? extends S> source, Function<? super S, ? extends R> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            return source.tryAdvance(element -> action.accept(mapper.apply(element)));
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            source.forEachRemaining(element -> action.accept(mapper.apply(element)));
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            Spliterator<? extends S> prefix = source.trySplit();
+            return prefix == null ? null : new MappingSpliterator<>(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return source.getExactSizeIfKnown();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & ~DROPPED_CHARACTERISTICS;
+        }
+
+        @Override
+        public Comparator<? super R> getComparator() {
+            throw new IllegalStateException();
+        }
+    }
+}
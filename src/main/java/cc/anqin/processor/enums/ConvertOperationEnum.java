@@ -0,0 +1,46 @@
+package cc.anqin.processor.enums;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 转换操作枚举
+ * <p>
+ * 该枚举定义了运行时指标统计所区分的转换操作，由{@link cc.anqin.processor.metrics.MetricsMappingConvert}
+ * 在每次调用后连同耗时一起上报给{@link cc.anqin.processor.metrics.ConvertMetrics}。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see cc.anqin.processor.metrics.ConvertMetrics
+ */
+@Getter
+@AllArgsConstructor
+public enum ConvertOperationEnum {
+
+    /**
+     * 对象转换为Map
+     * <p>
+     * 对应{@link cc.anqin.processor.base.MappingConvert#toMap}。
+     * </p>
+     */
+    TO_MAP,
+
+    /**
+     * Map或字段来源转换为对象
+     * <p>
+     * 对应{@link cc.anqin.processor.base.MappingConvert#toBean}的两个重载。
+     * </p>
+     */
+    TO_BEAN,
+
+    /**
+     * 字段推送
+     * <p>
+     * 对应{@link cc.anqin.processor.base.MappingConvert#writeTo}和
+     * {@link cc.anqin.processor.base.MappingConvert#writePrimitives}，不创建Map的对象读取。
+     * </p>
+     */
+    WRITE,
+}
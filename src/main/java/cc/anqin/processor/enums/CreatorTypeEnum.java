@@ -0,0 +1,48 @@
+package cc.anqin.processor.enums;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 实体创建方式枚举
+ * <p>
+ * 该枚举定义了生成的{@code toBean}创建实体对象的方式，由{@link cc.anqin.processor.util.BeanCreator}
+ * 在编译期根据实体类的结构选择。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see cc.anqin.processor.util.BeanCreator
+ */
+@Getter
+@AllArgsConstructor
+public enum CreatorTypeEnum {
+
+    /**
+     * 无参构造函数加 setter
+     * <p>
+     * 先通过无参构造函数创建实例，再逐个调用 setter（或直接给公共字段赋值）。
+     * 这是普通可变实体类的默认方式。
+     * </p>
+     */
+    SETTER,
+
+    /**
+     * 构造函数
+     * <p>
+     * 先把所有字段转换到局部变量中，最后一次性调用构造函数创建实例，
+     * 适用于 record 的规范构造函数和不可变类的全参构造函数。
+     * </p>
+     */
+    CONSTRUCTOR,
+
+    /**
+     * 建造者
+     * <p>
+     * 通过 Lombok {@code @Builder}生成的建造者逐个写入字段，最后调用{@code build()}创建实例。
+     * Map中缺少的字段不调用对应的建造者方法，保留{@code @Builder.Default}的默认值。
+     * </p>
+     */
+    BUILDER,
+}
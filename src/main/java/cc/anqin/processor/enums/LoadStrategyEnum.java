@@ -0,0 +1,49 @@
+package cc.anqin.processor.enums;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 转换器加载策略枚举
+ * <p>
+ * 该枚举定义了运行时加载转换器的方式，由{@link cc.anqin.processor.util.ConfigLoader}在初始化时选择，
+ * 并随加载耗时一起输出到日志中，便于排查启动性能问题。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see cc.anqin.processor.util.ConfigLoader
+ */
+@Getter
+@AllArgsConstructor
+public enum LoadStrategyEnum {
+
+    /**
+     * 服务索引加载
+     * <p>
+     * 按{@link java.util.ServiceLoader}的文件格式读取编译期生成的
+     * {@code META-INF/services/cc.anqin.processor.base.MappingConvert}索引，并直接实例化其中列出的转换器，
+     * 除类加载外没有额外的扫描和 JSON 解析开销，适用于 GraalVM native-image 和 CRaC 等环境。
+     * </p>
+     */
+    SERVICE_LOADER,
+
+    /**
+     * 注册表文件加载
+     * <p>
+     * 读取类路径上所有的{@code META-INF/map-converter-registry.json}文件，
+     * 仅实例化其中列出的转换器，无需遍历类路径。
+     * </p>
+     */
+    REGISTRY,
+
+    /**
+     * 包扫描加载
+     * <p>
+     * 扫描{@code auto.mappings}包下所有实现了{@link cc.anqin.processor.base.MappingConvert}接口的类。
+     * 仅在找不到注册表文件时作为兜底策略使用。
+     * </p>
+     */
+    SCAN,
+}
@@ -0,0 +1,47 @@
+package cc.anqin.processor.enums;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 结果Map类型枚举
+ * <p>
+ * 该枚举定义了生成的{@code toMap}方法所返回的Map实现，
+ * 与{@link cc.anqin.processor.annotation.AutoToMap#mapType()}配合使用。
+ * 无论选择哪种实现，生成代码都会根据编译期已知的字段数量分配空间，转换过程中不会发生扩容。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see cc.anqin.processor.annotation.AutoToMap
+ */
+@Getter
+@AllArgsConstructor
+public enum MapTypeEnum {
+
+    /**
+     * 使用{@link java.util.HashMap}
+     * <p>
+     * 默认选项，键的迭代顺序不确定。
+     * </p>
+     */
+    HASH_MAP,
+
+    /**
+     * 使用{@link java.util.LinkedHashMap}
+     * <p>
+     * 键按字段的声明顺序迭代（先子类字段，后父类字段），适用于需要稳定输出顺序的场景。
+     * </p>
+     */
+    LINKED_HASH_MAP,
+
+    /**
+     * 使用{@link cc.anqin.processor.base.FieldArrayMap}
+     * <p>
+     * 键表为转换器的静态常量，由所有结果共享，值存放在长度恰好等于字段数量的数组中，
+     * 内存占用远低于 HashMap，适用于大批量转换。键集合固定：可以修改已有键的值，不能新增或删除键。
+     * </p>
+     */
+    COMPACT,
+}
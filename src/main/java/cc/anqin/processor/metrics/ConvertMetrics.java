@@ -0,0 +1,41 @@
+package cc.anqin.processor.metrics;
+
+import cc.anqin.processor.enums.ConvertOperationEnum;
+
+/**
+ * 转换指标的接收接口
+ * <p>
+ * 开启{@link ConvertMetricsSupport#ENABLED 指标统计}后，每个转换器都会被{@link MetricsMappingConvert}包装，
+ * 每次转换结束时调用该接口上报耗时和字段数，转换抛出异常时上报错误。
+ * 默认实现为{@link DefaultConvertMetrics}，可以通过{@link ConvertMetricsSupport#setMetrics}替换为对接
+ * Micrometer、Prometheus 等监控系统的实现。
+ * </p>
+ * <p>
+ * 实现会在转换线程上被同步调用，必须是线程安全的，并且应当避免加锁和分配对象。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see ConvertMetricsSupport
+ */
+public interface ConvertMetrics {
+
+    /**
+     * 记录一次成功的转换
+     *
+     * @param type      实体类型
+     * @param operation 转换操作
+     * @param nanos     耗时（纳秒）
+     * @param fields    读取或写入的字段数
+     */
+    void record(Class<?> type, ConvertOperationEnum operation, long nanos, int fields);
+
+    /**
+     * 记录一次失败的转换
+     *
+     * @param type      实体类型
+     * @param operation 转换操作
+     * @param error     转换抛出的异常
+     */
+    void recordError(Class<?> type, ConvertOperationEnum operation, Throwable error);
+}
@@ -0,0 +1,65 @@
+package cc.anqin.processor.metrics;
+
+import java.util.List;
+
+/**
+ * 转换指标的 JMX 管理接口
+ * <p>
+ * 开启指标统计后，{@link DefaultConvertMetrics}以{@value ConvertMetricsSupport#OBJECT_NAME}注册到平台 MBeanServer，
+ * 可以在 JConsole、VisualVM 或 Jolokia 中查看各转换器的调用次数、错误数和耗时分位。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see ConvertMetricsSupport
+ */
+public interface ConvertMetricsMXBean {
+
+    /**
+     * 获取已产生统计的实体类全限定名
+     *
+     * @return 实体类全限定名
+     */
+    String[] getTypeNames();
+
+    /**
+     * 获取所有实体类型的统计
+     *
+     * @return 统计列表
+     */
+    List<ConverterStats> getStats();
+
+    /**
+     * 获取所有实体类型 toMap 成功次数之和
+     *
+     * @return 次数
+     */
+    long getToMapCount();
+
+    /**
+     * 获取所有实体类型 toBean 成功次数之和
+     *
+     * @return 次数
+     */
+    long getToBeanCount();
+
+    /**
+     * 获取所有实体类型失败次数之和
+     *
+     * @return 次数
+     */
+    long getErrorCount();
+
+    /**
+     * 获取指定实体类型的统计
+     *
+     * @param typeName 实体类全限定名
+     * @return 统计，没有记录时返回null
+     */
+    ConverterStats statsOf(String typeName);
+
+    /**
+     * 清空所有统计
+     */
+    void reset();
+}
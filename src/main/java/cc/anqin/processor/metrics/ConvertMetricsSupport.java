@@ -0,0 +1,120 @@
+package cc.anqin.processor.metrics;
+
+import cc.anqin.processor.base.MappingConvert;
+import cc.anqin.processor.util.ConfigLoader;
+import cn.hutool.log.Log;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * 转换指标的开关与入口
+ * <p>
+ * 指标统计默认关闭，通过{@code -Dauto.mapping.metrics=true}开启（见{@link ConfigLoader#METRICS_PROPERTY}）。
+ * 开关是类初始化时确定的常量：关闭时转换器在注册时原样保存，转换路径上没有任何额外开销；
+ * 开启时转换器在挂到实体类上之前被{@link MetricsMappingConvert}包装，
+ * 并把{@link DefaultConvertMetrics}以{@value #OBJECT_NAME}注册到平台 MBeanServer。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see ConvertMetrics
+ */
+public final class ConvertMetricsSupport {
+
+    /** 日志 */
+    private static final Log log = Log.get(ConvertMetricsSupport.class);
+
+    /** JMX 对象名 */
+    public static final String OBJECT_NAME = "cc.anqin.processor:type=ConvertMetrics";
+
+    /** 是否开启指标统计 */
+    public static final boolean ENABLED = Boolean.getBoolean(ConfigLoader.METRICS_PROPERTY);
+
+    /** 默认的指标实现，同时是 JMX 的数据来源 */
+    private static final DefaultConvertMetrics DEFAULT_METRICS = new DefaultConvertMetrics();
+
+    /** 当前生效的指标实现 */
+    private static volatile ConvertMetrics metrics = DEFAULT_METRICS;
+
+    static {
+        if (ENABLED) {
+            registerMBean();
+        }
+    }
+
+
+    /**
+     * 私有构造函数防止实例化
+     */
+    private ConvertMetricsSupport() {
+        throw new UnsupportedOperationException("ConvertMetricsSupport是一个工具类，不能被实例化");
+    }
+
+
+    /**
+     * 为转换器加上指标统计
+     * <p>
+     * 未开启指标统计、转换器为null或已经包装过时原样返回。
+     * </p>
+     *
+     * @param <T>     实体类型
+     * @param type    实体类型
+     * @param convert 转换器
+     * @return 包装后的转换器
+     */
+    public static <T> MappingConvert<T> instrument(Class<?> type, MappingConvert<T> convert) {
+        if (!ENABLED || convert == null || convert instanceof MetricsMappingConvert) {
+            return convert;
+        }
+        return new MetricsMappingConvert<>(type, convert);
+    }
+
+    /**
+     * 获取当前生效的指标实现
+     *
+     * @return 指标实现
+     */
+    public static ConvertMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * 替换指标实现
+     * <p>
+     * 替换后所有转换器立即向新的实现上报；JMX 中看到的始终是{@link #getDefaultMetrics() 默认实现}的数据，
+     * 替换后不再更新。
+     * </p>
+     *
+     * @param metrics 指标实现，为null时恢复为默认实现
+     */
+    public static void setMetrics(ConvertMetrics metrics) {
+        ConvertMetricsSupport.metrics = metrics == null ? DEFAULT_METRICS : metrics;
+    }
+
+    /**
+     * 获取默认的指标实现
+     *
+     * @return 默认指标实现
+     */
+    public static DefaultConvertMetrics getDefaultMetrics() {
+        return DEFAULT_METRICS;
+    }
+
+    /**
+     * 将默认指标实现注册到平台 MBeanServer
+     */
+    private static void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(DEFAULT_METRICS, name);
+            }
+        } catch (JMException | RuntimeException e) {
+            log.warn("注册转换指标 MBean 失败: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package cc.anqin.processor.metrics;
+
+import cc.anqin.processor.enums.ConvertOperationEnum;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个实体类型的转换统计
+ * <p>
+ * 每种{@link ConvertOperationEnum 转换操作}各有一个{@link LatencyHistogram}，调用次数即直方图的记录次数；
+ * 错误数和字段数使用{@link LongAdder}累加。所有计数都可以并发读取，读取到的是近似的实时值。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see DefaultConvertMetrics
+ */
+public final class ConverterStats {
+
+    /** 实体类全限定名 */
+    private final String typeName;
+
+    /** toMap 耗时 */
+    private final LatencyHistogram toMapLatency = new LatencyHistogram();
+
+    /** toBean 耗时 */
+    private final LatencyHistogram toBeanLatency = new LatencyHistogram();
+
+    /** writeTo、writePrimitives 耗时 */
+    private final LatencyHistogram writeLatency = new LatencyHistogram();
+
+    /** 失败次数 */
+    private final LongAdder errors = new LongAdder();
+
+    /** 读取或写入的字段总数 */
+    private final LongAdder fields = new LongAdder();
+
+
+    /**
+     * 创建空的统计
+     *
+     * @param typeName 实体类全限定名
+     */
+    ConverterStats(String typeName) {
+        this.typeName = typeName;
+    }
+
+
+    /**
+     * 记录一次成功的转换
+     *
+     * @param operation 转换操作
+     * @param nanos     耗时（纳秒）
+     * @param fieldCount 字段数
+     */
+    void record(ConvertOperationEnum operation, long nanos, int fieldCount) {
+        latency(operation).record(nanos);
+        if (fieldCount > 0) {
+            fields.add(fieldCount);
+        }
+    }
+
+    /**
+     * 记录一次失败的转换
+     */
+    void recordError() {
+        errors.increment();
+    }
+
+    /**
+     * 获取指定操作的耗时直方图
+     *
+     * @param operation 转换操作
+     * @return 耗时直方图
+     */
+    public LatencyHistogram latency(ConvertOperationEnum operation) {
+        switch (operation) {
+            case TO_MAP:
+                return toMapLatency;
+            case TO_BEAN:
+                return toBeanLatency;
+            default:
+                return writeLatency;
+        }
+    }
+
+    /**
+     * 获取实体类全限定名
+     *
+     * @return 实体类全限定名
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * 获取 toMap 成功次数
+     *
+     * @return 次数
+     */
+    public long getToMapCount() {
+        return toMapLatency.getCount();
+    }
+
+    /**
+     * 获取 toBean 成功次数
+     *
+     * @return 次数
+     */
+    public long getToBeanCount() {
+        return toBeanLatency.getCount();
+    }
+
+    /**
+     * 获取 writeTo、writePrimitives 成功次数
+     *
+     * @return 次数
+     */
+    public long getWriteCount() {
+        return writeLatency.getCount();
+    }
+
+    /**
+     * 获取失败次数
+     *
+     * @return 次数
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * 获取读取或写入的字段总数
+     *
+     * @return 字段数
+     */
+    public long getFieldCount() {
+        return fields.sum();
+    }
+
+    /**
+     * 获取 toMap 耗时直方图
+     *
+     * @return 耗时直方图
+     */
+    public LatencyHistogram getToMapLatency() {
+        return toMapLatency;
+    }
+
+    /**
+     * 获取 toBean 耗时直方图
+     *
+     * @return 耗时直方图
+     */
+    public LatencyHistogram getToBeanLatency() {
+        return toBeanLatency;
+    }
+
+    /**
+     * 获取 writeTo、writePrimitives 耗时直方图
+     *
+     * @return 耗时直方图
+     */
+    public LatencyHistogram getWriteLatency() {
+        return writeLatency;
+    }
+
+    /**
+     * 清空统计
+     */
+    void reset() {
+        toMapLatency.reset();
+        toBeanLatency.reset();
+        writeLatency.reset();
+        errors.reset();
+        fields.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "ConverterStats{" + typeName
+                + ", toMap=" + getToMapCount()
+                + ", toBean=" + getToBeanCount()
+                + ", write=" + getWriteCount()
+                + ", errors=" + getErrorCount() + "}";
+    }
+}
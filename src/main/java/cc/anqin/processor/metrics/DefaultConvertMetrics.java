@@ -0,0 +1,94 @@
+package cc.anqin.processor.metrics;
+
+import cc.anqin.processor.enums.ConvertOperationEnum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 默认的转换指标实现
+ * <p>
+ * 按实体类全限定名保存{@link ConverterStats}，同一类型只在第一次记录时创建统计对象，
+ * 之后的记录只是一次{@link ConcurrentHashMap}读取加若干次{@link java.util.concurrent.atomic.LongAdder}累加。
+ * 同时实现{@link ConvertMetricsMXBean}，作为 JMX 的数据来源。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see ConvertMetricsSupport
+ */
+public class DefaultConvertMetrics implements ConvertMetrics, ConvertMetricsMXBean {
+
+    /** 实体类全限定名与统计的映射 */
+    private final ConcurrentMap<String, ConverterStats> stats = new ConcurrentHashMap<>();
+
+
+    @Override
+    public void record(Class<?> type, ConvertOperationEnum operation, long nanos, int fields) {
+        stats(type).record(operation, nanos, fields);
+    }
+
+    @Override
+    public void recordError(Class<?> type, ConvertOperationEnum operation, Throwable error) {
+        stats(type).recordError();
+    }
+
+    @Override
+    public String[] getTypeNames() {
+        return stats.keySet().toArray(new String[0]);
+    }
+
+    @Override
+    public List<ConverterStats> getStats() {
+        return new ArrayList<>(stats.values());
+    }
+
+    @Override
+    public long getToMapCount() {
+        return stats.values().stream().mapToLong(ConverterStats::getToMapCount).sum();
+    }
+
+    @Override
+    public long getToBeanCount() {
+        return stats.values().stream().mapToLong(ConverterStats::getToBeanCount).sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return stats.values().stream().mapToLong(ConverterStats::getErrorCount).sum();
+    }
+
+    @Override
+    public ConverterStats statsOf(String typeName) {
+        return typeName == null ? null : stats.get(typeName);
+    }
+
+    /**
+     * 获取指定实体类型的统计
+     *
+     * @param type 实体类型
+     * @return 统计，没有记录时返回null
+     */
+    public ConverterStats statsOf(Class<?> type) {
+        return type == null ? null : stats.get(type.getName());
+    }
+
+    @Override
+    public void reset() {
+        stats.values().forEach(ConverterStats::reset);
+    }
+
+    /**
+     * 获取或创建实体类型的统计
+     *
+     * @param type 实体类型
+     * @return 统计
+     */
+    private ConverterStats stats(Class<?> type) {
+        String name = type.getName();
+        ConverterStats value = stats.get(name);
+        return value != null ? value : stats.computeIfAbsent(name, ConverterStats::new);
+    }
+}
@@ -0,0 +1,173 @@
+package cc.anqin.processor.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 无锁的耗时直方图
+ * <p>
+ * 按2的幂划分桶，第{@code i}个桶记录耗时在{@code [2^(i-1), 2^i)}纳秒之间的次数（第0个桶记录耗时为0的次数），
+ * 每个桶是一个{@link LongAdder}。记录一次耗时只需一次前导零计算和几次分段累加，
+ * 并发写入分散在各线程的单元上，不加锁、不分配对象。
+ * 分位数按桶的上界估算，相对误差不超过一倍，足以区分转换器之间的量级差异。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+public final class LatencyHistogram {
+
+    /** 桶的数量，覆盖所有非负的long值 */
+    private static final int BUCKET_COUNT = 64;
+
+    /** 各桶的计数 */
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    /** 总耗时 */
+    private final LongAdder totalNanos = new LongAdder();
+
+    /** 最大耗时 */
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+
+    /**
+     * 创建空的直方图
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+
+    /**
+     * 记录一次耗时
+     *
+     * @param nanos 耗时（纳秒），负数按0处理
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets[BUCKET_COUNT - Long.numberOfLeadingZeros(nanos)].increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * 获取记录次数
+     *
+     * @return 记录次数
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * 获取总耗时
+     *
+     * @return 总耗时（纳秒）
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * 获取平均耗时
+     *
+     * @return 平均耗时（纳秒），没有记录时返回0
+     */
+    public long getMeanNanos() {
+        long count = getCount();
+        return count == 0 ? 0 : getTotalNanos() / count;
+    }
+
+    /**
+     * 获取最大耗时
+     *
+     * @return 最大耗时（纳秒）
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * 获取耗时中位数的估算值
+     *
+     * @return 中位数（纳秒）
+     */
+    public long getP50Nanos() {
+        return percentile(0.5);
+    }
+
+    /**
+     * 获取90分位耗时的估算值
+     *
+     * @return 90分位耗时（纳秒）
+     */
+    public long getP90Nanos() {
+        return percentile(0.9);
+    }
+
+    /**
+     * 获取99分位耗时的估算值
+     *
+     * @return 99分位耗时（纳秒）
+     */
+    public long getP99Nanos() {
+        return percentile(0.99);
+    }
+
+    /**
+     * 估算指定分位的耗时
+     * <p>
+     * 返回该分位所在桶的上界，且不超过已记录的最大耗时。并发写入时结果是近似值。
+     * </p>
+     *
+     * @param quantile 分位，取值范围{@code (0, 1]}
+     * @return 耗时（纳秒），没有记录时返回0
+     * @throws IllegalArgumentException 如果分位不在取值范围内
+     */
+    public long percentile(double quantile) {
+        if (!(quantile > 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("分位必须在(0, 1]之间: " + quantile);
+        }
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long upperBound = i == 0 ? 0 : i == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+                return Math.min(upperBound, getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * 清空所有记录
+     * <p>
+     * 与并发写入同时进行时，部分记录可能在清空后仍然保留。
+     * </p>
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+}
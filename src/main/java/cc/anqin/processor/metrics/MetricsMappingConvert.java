@@ -0,0 +1,266 @@
+package cc.anqin.processor.metrics;
+
+import cc.anqin.processor.base.ConversionErrors;
+import cc.anqin.processor.base.FieldSink;
+import cc.anqin.processor.base.FieldSource;
+import cc.anqin.processor.base.MappingConvert;
+import cc.anqin.processor.base.PrimitiveFieldSink;
+import cc.anqin.processor.enums.ConvertOperationEnum;
+
+import java.util.Map;
+
+/**
+ * 带指标统计的转换器
+ * <p>
+ * 对{@link #toMap}、{@link #toBean}（包括收集转换错误的重载）、{@link #writeTo}和{@link #writePrimitives}计时，
+ * 结束后把耗时和字段数上报给{@link ConvertMetricsSupport#getMetrics() 当前的指标实现}，抛出异常时上报错误后原样抛出。
+ * 其余方法直接委托，不做统计。
+ * </p>
+ *
+ * @param <T> 需要转换的实体类型
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see ConvertMetricsSupport#instrument
+ */
+public final class MetricsMappingConvert<T> implements MappingConvert<T> {
+
+    /** 实体类型 */
+    private final Class<?> type;
+
+    /** 真正的转换器 */
+    private final MappingConvert<T> delegate;
+
+    /**
+     * 按下标访问的字段数，首次使用时计算，-1表示尚未计算
+     * <p>
+     * 并发计算的结果相同，因此不需要同步。
+     * </p>
+     */
+    private int mapKeyCount = -1;
+
+    /** toBean 可写入的字段数，首次使用时计算，-1表示尚未计算 */
+    private int beanKeyCount = -1;
+
+
+    /**
+     * 创建带指标统计的转换器
+     *
+     * @param type     实体类型
+     * @param delegate 真正的转换器
+     */
+    MetricsMappingConvert(Class<?> type, MappingConvert<T> delegate) {
+        this.type = type;
+        this.delegate = delegate;
+    }
+
+
+    /**
+     * 获取真正的转换器
+     *
+     * @return 转换器
+     */
+    public MappingConvert<T> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Map<String, Object> toMap(T entity) {
+        long start = System.nanoTime();
+        Map<String, Object> result;
+        try {
+            result = delegate.toMap(entity);
+        } catch (RuntimeException | Error e) {
+            ConvertMetricsSupport.getMetrics().recordError(type, ConvertOperationEnum.TO_MAP, e);
+            throw e;
+        }
+        ConvertMetricsSupport.getMetrics().record(type, ConvertOperationEnum.TO_MAP,
+                System.nanoTime() - start, result == null ? 0 : result.size());
+        return result;
+    }
+
+    @Override
+    public T toBean(Map<String, Object> dataMap) {
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = delegate.toBean(dataMap);
+        } catch (RuntimeException | Error e) {
+            ConvertMetricsSupport.getMetrics().recordError(type, ConvertOperationEnum.TO_BEAN, e);
+            throw e;
+        }
+        ConvertMetricsSupport.getMetrics().record(type, ConvertOperationEnum.TO_BEAN,
+                System.nanoTime() - start, dataMap == null ? 0 : dataMap.size());
+        return result;
+    }
+
+    @Override
+    public T toBean(FieldSource source) {
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = delegate.toBean(source);
+        } catch (RuntimeException | Error e) {
+            ConvertMetricsSupport.getMetrics().recordError(type, ConvertOperationEnum.TO_BEAN, e);
+            throw e;
+        }
+        ConvertMetricsSupport.getMetrics().record(type, ConvertOperationEnum.TO_BEAN,
+                System.nanoTime() - start, beanKeyCount());
+        return result;
+    }
+
+    @Override
+    public T toBean(Map<String, Object> dataMap, ConversionErrors errors) {
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = delegate.toBean(dataMap, errors);
+        } catch (RuntimeException | Error e) {
+            ConvertMetricsSupport.getMetrics().recordError(type, ConvertOperationEnum.TO_BEAN, e);
+            throw e;
+        }
+        ConvertMetricsSupport.getMetrics().record(type, ConvertOperationEnum.TO_BEAN,
+                System.nanoTime() - start, dataMap == null ? 0 : dataMap.size());
+        return result;
+    }
+
+    @Override
+    public void writePrimitives(T entity, PrimitiveFieldSink sink) {
+        long start = System.nanoTime();
+        try {
+            delegate.writePrimitives(entity, sink);
+        } catch (RuntimeException | Error e) {
+            ConvertMetricsSupport.getMetrics().recordError(type, ConvertOperationEnum.WRITE, e);
+            throw e;
+        }
+        ConvertMetricsSupport.getMetrics().record(type, ConvertOperationEnum.WRITE, System.nanoTime() - start, 0);
+    }
+
+    @Override
+    public void writeTo(T entity, FieldSink sink) {
+        long start = System.nanoTime();
+        try {
+            delegate.writeTo(entity, sink);
+        } catch (RuntimeException | Error e) {
+            ConvertMetricsSupport.getMetrics().recordError(type, ConvertOperationEnum.WRITE, e);
+            throw e;
+        }
+        ConvertMetricsSupport.getMetrics().record(type, ConvertOperationEnum.WRITE,
+                System.nanoTime() - start, mapKeyCount());
+    }
+
+    @Override
+    public Class<T> getTargetClass() {
+        return delegate.getTargetClass();
+    }
+
+    @Override
+    public String[] mapKeys() {
+        return delegate.mapKeys();
+    }
+
+    @Override
+    public int mapKeyIndex(String key) {
+        return delegate.mapKeyIndex(key);
+    }
+
+    @Override
+    public Object readField(T entity, int index) {
+        return delegate.readField(entity, index);
+    }
+
+    @Override
+    public String[] beanKeys() {
+        return delegate.beanKeys();
+    }
+
+    @Override
+    public int beanKeyIndex(String key) {
+        return delegate.beanKeyIndex(key);
+    }
+
+    @Override
+    public int getInt(T entity, int index) {
+        return delegate.getInt(entity, index);
+    }
+
+    @Override
+    public long getLong(T entity, int index) {
+        return delegate.getLong(entity, index);
+    }
+
+    @Override
+    public double getDouble(T entity, int index) {
+        return delegate.getDouble(entity, index);
+    }
+
+    @Override
+    public boolean getBoolean(T entity, int index) {
+        return delegate.getBoolean(entity, index);
+    }
+
+    @Override
+    public void setInt(T bean, int index, int value) {
+        delegate.setInt(bean, index, value);
+    }
+
+    @Override
+    public void setLong(T bean, int index, long value) {
+        delegate.setLong(bean, index, value);
+    }
+
+    @Override
+    public void setDouble(T bean, int index, double value) {
+        delegate.setDouble(bean, index, value);
+    }
+
+    @Override
+    public void setBoolean(T bean, int index, boolean value) {
+        delegate.setBoolean(bean, index, value);
+    }
+
+    @Override
+    public Map<String, Object> toMapView(T entity) {
+        return delegate.toMapView(entity);
+    }
+
+    /**
+     * 获取按下标访问的字段数
+     *
+     * @return 字段数，转换器不支持按下标访问时返回0
+     */
+    private int mapKeyCount() {
+        int count = mapKeyCount;
+        if (count < 0) {
+            try {
+                count = delegate.mapKeys().length;
+            } catch (UnsupportedOperationException e) {
+                count = 0;
+            }
+            mapKeyCount = count;
+        }
+        return count;
+    }
+
+    /**
+     * 获取 toBean 可写入的字段数
+     *
+     * @return 字段数，转换器不支持按下标访问时返回0
+     */
+    private int beanKeyCount() {
+        int count = beanKeyCount;
+        if (count < 0) {
+            try {
+                count = delegate.beanKeys().length;
+            } catch (UnsupportedOperationException e) {
+                count = 0;
+            }
+            beanKeyCount = count;
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsMappingConvert{" + delegate + "}";
+    }
+}
@@ -0,0 +1,517 @@
+package cc.anqin.processor.util;
+
+import cc.anqin.processor.enums.CreatorTypeEnum;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 生成代码中实体对象的创建方式
+ * <p>
+ * 在编译期根据实体类的结构选择{@code toBean}创建实体对象的方式（见{@link CreatorTypeEnum}），
+ * 并为{@link CollectFields}和{@link cc.anqin.processor.MapConverterProcessor}生成对应的代码片段：
+ * </p>
+ * <ul>
+ *   <li>{@link CreatorTypeEnum#SETTER} - {@code T bean = new T();}，字段逐个通过 setter 写入，最后返回{@code bean}</li>
+ *   <li>{@link CreatorTypeEnum#CONSTRUCTOR} - 每个构造参数对应一个初始化为默认值的局部变量，
+ *       字段写入局部变量，最后返回{@code new T(a, b, ...)}</li>
+ *   <li>{@link CreatorTypeEnum#BUILDER} - {@code T.TBuilder builder = T.builder();}，字段逐个写入建造者，
+ *       最后返回{@code builder.build()}</li>
+ * </ul>
+ *
+ * 选择顺序：
+ * <ol>
+ *   <li>record 使用规范构造函数</li>
+ *   <li>标注了 Lombok {@code @NoArgsConstructor}的类使用 setter</li>
+ *   <li>标注了 Lombok {@code @Builder}的类使用建造者</li>
+ *   <li>有公共无参构造函数的类使用 setter（与早期版本一致）；标注了{@code @Value}、{@code @AllArgsConstructor}
+ *       或{@code @RequiredArgsConstructor}时跳过这一步，因为 Lombok 生成构造函数后编译器的默认构造函数会被移除</li>
+ *   <li>参数能按名称和类型对应到字段的公共构造函数，有多个时取参数最多的一个</li>
+ *   <li>标注了{@code @Value}或{@code @AllArgsConstructor}、但 Lombok 尚未生成构造函数时，按字段声明顺序调用全参构造函数</li>
+ *   <li>其他情况使用 setter</li>
+ * </ol>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see CreatorTypeEnum
+ * @see FieldAccessors
+ */
+public final class BeanCreator {
+
+    /** 生成代码中实体对象的变量名 */
+    private static final String BEAN = "bean";
+
+    /** 生成代码中建造者的变量名 */
+    private static final String BUILDER = "builder";
+
+    /** Lombok {@code @Builder}注解 */
+    private static final String LOMBOK_BUILDER = "lombok.Builder";
+
+    /** Lombok {@code @Builder.Default}注解 */
+    private static final String LOMBOK_BUILDER_DEFAULT = "lombok.Builder.Default";
+
+    /** Lombok {@code @Value}注解 */
+    private static final String LOMBOK_VALUE = "lombok.Value";
+
+    /** Lombok {@code @NoArgsConstructor}注解 */
+    private static final String LOMBOK_NO_ARGS = "lombok.NoArgsConstructor";
+
+    /** Lombok {@code @AllArgsConstructor}注解 */
+    private static final String LOMBOK_ALL_ARGS = "lombok.AllArgsConstructor";
+
+    /** Lombok {@code @RequiredArgsConstructor}注解 */
+    private static final String LOMBOK_REQUIRED_ARGS = "lombok.RequiredArgsConstructor";
+
+    /** 实体类 */
+    private final TypeElement typeElement;
+
+    /** 创建方式 */
+    private final CreatorTypeEnum type;
+
+    /** 构造参数（或建造者方法）对应的字段，按参数顺序排列，{@link CreatorTypeEnum#SETTER}时为空 */
+    private final List<VariableElement> parameters;
+
+    /** 提供处理工具的环境 */
+    private final ProcessingEnvironment processingEnv;
+
+    /** 建造者的配置，只在{@link CreatorTypeEnum#BUILDER}时使用 */
+    private final AnnotationMirror builder;
+
+
+    /**
+     * 创建实体对象的创建方式
+     *
+     * @param typeElement   实体类
+     * @param type          创建方式
+     * @param parameters    构造参数对应的字段
+     * @param processingEnv 提供处理工具的环境
+     */
+    private BeanCreator(TypeElement typeElement, CreatorTypeEnum type, List<VariableElement> parameters,
+                        ProcessingEnvironment processingEnv) {
+        this(typeElement, type, parameters, processingEnv, null);
+    }
+
+    /**
+     * 创建实体对象的创建方式
+     *
+     * @param typeElement   实体类
+     * @param type          创建方式
+     * @param parameters    构造参数或建造者方法对应的字段
+     * @param processingEnv 提供处理工具的环境
+     * @param builder       Lombok {@code @Builder}注解，不使用建造者时为null
+     */
+    private BeanCreator(TypeElement typeElement, CreatorTypeEnum type, List<VariableElement> parameters,
+                        ProcessingEnvironment processingEnv, AnnotationMirror builder) {
+        this.typeElement = typeElement;
+        this.type = type;
+        this.parameters = parameters;
+        this.processingEnv = processingEnv;
+        this.builder = builder;
+    }
+
+
+    /**
+     * 为实体类选择创建方式
+     *
+     * @param typeElement   实体类
+     * @param processingEnv 提供处理工具的环境
+     * @return 创建方式
+     */
+    public static BeanCreator of(TypeElement typeElement, ProcessingEnvironment processingEnv) {
+        if (FieldAccessors.isRecord(typeElement)) {
+            // record 的实例字段与规范构造函数的参数一一对应，顺序相同
+            return new BeanCreator(typeElement, CreatorTypeEnum.CONSTRUCTOR, declaredFields(typeElement, false), processingEnv);
+        }
+
+        boolean value = hasAnnotation(typeElement, LOMBOK_VALUE);
+        if (!value && hasAnnotation(typeElement, LOMBOK_NO_ARGS)) {
+            return setter(typeElement, processingEnv);
+        }
+
+        AnnotationMirror builder = findAnnotation(typeElement, LOMBOK_BUILDER);
+        if (builder != null) {
+            // 与 Lombok 一致：已初始化的 final 字段不出现在建造者中
+            return new BeanCreator(typeElement, CreatorTypeEnum.BUILDER, declaredFields(typeElement, true), processingEnv, builder);
+        }
+
+        boolean allArgs = value || hasAnnotation(typeElement, LOMBOK_ALL_ARGS);
+        if (!allArgs && !hasAnnotation(typeElement, LOMBOK_REQUIRED_ARGS) && hasNoArgsConstructor(typeElement)) {
+            return setter(typeElement, processingEnv);
+        }
+
+        List<VariableElement> arguments = matchConstructor(typeElement, processingEnv);
+        if (arguments != null) {
+            return new BeanCreator(typeElement, CreatorTypeEnum.CONSTRUCTOR, arguments, processingEnv);
+        }
+        if (allArgs) {
+            return new BeanCreator(typeElement, CreatorTypeEnum.CONSTRUCTOR, declaredFields(typeElement, true), processingEnv);
+        }
+        return setter(typeElement, processingEnv);
+    }
+
+
+    /**
+     * 获取创建方式
+     *
+     * @return 创建方式
+     */
+    public CreatorTypeEnum getType() {
+        return type;
+    }
+
+    /**
+     * 获取构造参数或建造者方法对应的字段
+     * <p>
+     * 这些字段即Map到对象转换的候选字段，{@link CreatorTypeEnum#SETTER}时为空，
+     * 由{@link CollectFields#toBeanFields}按字段本身收集。
+     * </p>
+     *
+     * @return 字段列表，按参数顺序排列
+     */
+    public List<VariableElement> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * 判断创建后的实体对象是否还能逐个写入字段
+     *
+     * @return {@link CreatorTypeEnum#SETTER}时返回true
+     */
+    public boolean isMutable() {
+        return CreatorTypeEnum.SETTER.equals(type);
+    }
+
+    /**
+     * 生成创建前的准备语句
+     * <p>
+     * {@link CreatorTypeEnum#SETTER}时生成{@code T bean = new T()}，
+     * {@link CreatorTypeEnum#BUILDER}时生成{@code T.TBuilder builder = T.builder()}，
+     * 否则为每个构造参数生成初始化为默认值的局部变量，例如{@code int ageArg = 0}。
+     * </p>
+     *
+     * @param builder 方法构建器
+     */
+    public void declare(MethodSpec.Builder builder) {
+        if (isMutable()) {
+            builder.addStatement("$T $L = new $T()", typeElement.asType(), BEAN, typeElement.asType());
+            return;
+        }
+        if (CreatorTypeEnum.BUILDER.equals(type)) {
+            builder.addStatement("$T $L = $L", builderClass(), BUILDER, newBuilder());
+            return;
+        }
+        for (VariableElement parameter : parameters) {
+            builder.addStatement("$T $L = $L", TypeName.get(parameter.asType()), localName(parameter), defaultValue(parameter));
+        }
+    }
+
+    /**
+     * 生成写入字段值的语句
+     *
+     * @param field 字段元素
+     * @param value 值表达式
+     * @return {@code bean.setAge(value)}、{@code builder.age(value)}或{@code ageArg = value}
+     */
+    public CodeBlock assign(VariableElement field, CodeBlock value) {
+        if (isMutable()) {
+            return FieldAccessors.write(field, BEAN, value, processingEnv);
+        }
+        if (CreatorTypeEnum.BUILDER.equals(type)) {
+            return CodeBlock.of("$L.$L($L)", BUILDER, builderMethod(field), value);
+        }
+        return CodeBlock.of("$L = $L", localName(field), value);
+    }
+
+    /**
+     * 生成返回实体对象的表达式，需在{@link #declare}和所有{@link #assign}之后使用
+     *
+     * @return {@code bean}、{@code builder.build()}或{@code new T(ageArg, nameArg)}
+     */
+    public CodeBlock create() {
+        if (isMutable()) {
+            return CodeBlock.of("$L", BEAN);
+        }
+        if (CreatorTypeEnum.BUILDER.equals(type)) {
+            return CodeBlock.of("$L.$L()", BUILDER, builderOption("buildMethodName", "build"));
+        }
+        List<CodeBlock> arguments = new ArrayList<>();
+        for (VariableElement parameter : parameters) {
+            arguments.add(CodeBlock.of("$L", localName(parameter)));
+        }
+        return CodeBlock.of("new $T($L)", typeElement.asType(), CodeBlock.join(arguments, ", "));
+    }
+
+    /**
+     * 生成所有字段都为默认值的实体对象表达式，用于Map为空等情况
+     *
+     * @return {@code new T()}、{@code T.builder().build()}或{@code new T(0, null)}
+     */
+    public CodeBlock empty() {
+        if (isMutable()) {
+            return CodeBlock.of("new $T()", typeElement.asType());
+        }
+        if (CreatorTypeEnum.BUILDER.equals(type)) {
+            return CodeBlock.of("$L.$L()", newBuilder(), builderOption("buildMethodName", "build"));
+        }
+        List<CodeBlock> arguments = new ArrayList<>();
+        for (VariableElement parameter : parameters) {
+            arguments.add(defaultValue(parameter));
+        }
+        return CodeBlock.of("new $T($L)", typeElement.asType(), CodeBlock.join(arguments, ", "));
+    }
+
+
+    /**
+     * 生成创建建造者的表达式
+     *
+     * @return 例如{@code T.builder()}
+     */
+    private CodeBlock newBuilder() {
+        return CodeBlock.of("$T.$L()", typeElement.asType(), builderOption("builderMethodName", "builder"));
+    }
+
+    /**
+     * 获取建造者的类型
+     *
+     * @return 实体类中的嵌套类，默认为{@code T.TBuilder}
+     */
+    private TypeName builderClass() {
+        String simpleName = typeElement.getSimpleName().toString();
+        return ClassName.get(typeElement).nestedClass(builderOption("builderClassName", simpleName + "Builder"));
+    }
+
+    /**
+     * 获取字段对应的建造者方法名
+     *
+     * @param field 字段元素
+     * @return 方法名，与字段同名，设置了{@code setterPrefix}时为前缀加首字母大写的字段名
+     */
+    private String builderMethod(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String prefix = builderOption("setterPrefix", "");
+        return prefix.isEmpty() ? name : prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * 读取{@code @Builder}注解上显式设置的属性
+     *
+     * @param name         属性名
+     * @param defaultValue 未设置或为空时的默认值
+     * @return 属性值
+     */
+    private String builderOption(String name, String defaultValue) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : builder.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                String option = String.valueOf(entry.getValue().getValue());
+                return option.isEmpty() ? defaultValue : option;
+            }
+        }
+        return defaultValue;
+    }
+
+
+    /**
+     * 创建无参构造函数加 setter 的创建方式
+     *
+     * @param typeElement   实体类
+     * @param processingEnv 提供处理工具的环境
+     * @return 创建方式
+     */
+    private static BeanCreator setter(TypeElement typeElement, ProcessingEnvironment processingEnv) {
+        return new BeanCreator(typeElement, CreatorTypeEnum.SETTER, Collections.emptyList(), processingEnv);
+    }
+
+    /**
+     * 判断类型是否有公共的无参构造函数（包括编译器生成的默认构造函数）
+     *
+     * @param typeElement 实体类
+     * @return 存在时返回true
+     */
+    private static boolean hasNoArgsConstructor(TypeElement typeElement) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(typeElement.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 查找所有参数都能对应到字段的公共构造函数
+     * <p>
+     * 参数与字段（包含父类）按名称对应，且字段类型可以赋值给参数类型。有多个满足条件的构造函数时取参数最多的一个。
+     * </p>
+     *
+     * @param typeElement   实体类
+     * @param processingEnv 提供处理工具的环境
+     * @return 按参数顺序排列的字段，找不到时返回null
+     */
+    private static List<VariableElement> matchConstructor(TypeElement typeElement, ProcessingEnvironment processingEnv) {
+        Types types = processingEnv.getTypeUtils();
+        List<VariableElement> fields = new ArrayList<>();
+        for (TypeElement current = typeElement; current != null; current = superclass(current, processingEnv)) {
+            fields.addAll(declaredFields(current, false));
+        }
+
+        List<VariableElement> best = null;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(typeElement.getEnclosedElements())) {
+            if (!constructor.getModifiers().contains(Modifier.PUBLIC) || constructor.getParameters().isEmpty()
+                    || (best != null && best.size() >= constructor.getParameters().size())) {
+                continue;
+            }
+            List<VariableElement> arguments = new ArrayList<>();
+            for (VariableElement parameter : constructor.getParameters()) {
+                VariableElement field = findField(fields, parameter.getSimpleName().toString());
+                if (field == null || !types.isAssignable(field.asType(), parameter.asType())) {
+                    arguments = null;
+                    break;
+                }
+                arguments.add(field);
+            }
+            if (arguments != null) {
+                best = arguments;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 按名称查找字段，子类字段优先
+     *
+     * @param fields 字段列表，先子类、后父类
+     * @param name   字段名
+     * @return 字段，找不到时返回null
+     */
+    private static VariableElement findField(List<VariableElement> fields, String name) {
+        for (VariableElement field : fields) {
+            if (field.getSimpleName().contentEquals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 收集类型自身声明的实例字段
+     *
+     * @param typeElement     类型元素
+     * @param skipInitialized 是否跳过以常量初始化的 final 字段（Lombok 生成的构造函数和建造者不包含这些字段）
+     * @return 按声明顺序排列的字段
+     */
+    private static List<VariableElement> declaredFields(TypeElement typeElement, boolean skipInitialized) {
+        List<VariableElement> fields = new ArrayList<>();
+        for (Element element : typeElement.getEnclosedElements()) {
+            if (element.getKind() != ElementKind.FIELD || element.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            VariableElement field = (VariableElement) element;
+            // @Builder.Default 字段的初始化表达式会被 Lombok 移走，不能再读取其常量值
+            if (skipInitialized && field.getModifiers().contains(Modifier.FINAL)
+                    && !hasAnnotation(field, LOMBOK_BUILDER_DEFAULT) && field.getConstantValue() != null) {
+                continue;
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    /**
+     * 获取父类，父类为{@link Object}时返回null
+     *
+     * @param typeElement   类型元素
+     * @param processingEnv 提供处理工具的环境
+     * @return 父类元素
+     */
+    private static TypeElement superclass(TypeElement typeElement, ProcessingEnvironment processingEnv) {
+        TypeMirror superclass = typeElement.getSuperclass();
+        if (superclass == null || superclass.toString().equals("java.lang.Object")) {
+            return null;
+        }
+        Element superElement = processingEnv.getTypeUtils().asElement(superclass);
+        return superElement instanceof TypeElement ? (TypeElement) superElement : null;
+    }
+
+    /**
+     * 查找元素上的注解
+     *
+     * @param element    元素
+     * @param annotation 注解的全限定名
+     * @return 注解，不存在时返回null
+     */
+    private static AnnotationMirror findAnnotation(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (annotation.equals(mirror.getAnnotationType().toString())) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 判断元素上是否有指定的注解
+     *
+     * @param element    元素
+     * @param annotation 注解的全限定名
+     * @return 存在时返回true
+     */
+    private static boolean hasAnnotation(Element element, String annotation) {
+        return findAnnotation(element, annotation) != null;
+    }
+
+    /**
+     * 获取构造参数对应的局部变量名
+     *
+     * @param field 字段元素
+     * @return 局部变量名，例如字段{@code age}对应{@code ageArg}
+     */
+    private static String localName(VariableElement field) {
+        return field.getSimpleName() + "Arg";
+    }
+
+    /**
+     * 获取字段类型的默认值表达式
+     *
+     * @param field 字段元素
+     * @return 与字段默认值相同的表达式，例如{@code 0}、{@code false}、{@code null}
+     */
+    private static CodeBlock defaultValue(VariableElement field) {
+        switch (field.asType().getKind()) {
+            case BOOLEAN:
+                return CodeBlock.of("false");
+            case BYTE:
+                return CodeBlock.of("(byte) 0");
+            case SHORT:
+                return CodeBlock.of("(short) 0");
+            case CHAR:
+                return CodeBlock.of("(char) 0");
+            case INT:
+                return CodeBlock.of("0");
+            case LONG:
+                return CodeBlock.of("0L");
+            case FLOAT:
+                return CodeBlock.of("0F");
+            case DOUBLE:
+                return CodeBlock.of("0D");
+            default:
+                return CodeBlock.of("null");
+        }
+    }
+}
@@ -1,20 +1,40 @@
 package cc.anqin.processor.util;
 
 import cc.anqin.processor.annotation.AutoKeyMapping;
+import cc.anqin.processor.annotation.AutoToMap;
 import cc.anqin.processor.annotation.IgnoreToBean;
 import cc.anqin.processor.annotation.IgnoreToMap;
 import cc.anqin.processor.enums.MappingEnum;
-import cn.hutool.core.convert.Convert;
 import cn.hutool.core.util.StrUtil;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * 字段收集工具类
@@ -48,6 +68,44 @@ import java.util.Optional;
  */
 public class CollectFields {
 
+    /**
+     * 数值包装类型与{@link Number}中对应取值方法的映射
+     * <p>
+     * 用于生成从任意{@link Number}到数值字段的快速转换，例如{@code ((Number) value).intValue()}。
+     * </p>
+     */
+    private static final Map<TypeName, String> NUMBER_METHODS = new HashMap<>();
+
+    /** 运行时转换辅助类 */
+    private static final ClassName CONVERT_SUPPORT = ClassName.get("cc.anqin.processor.base", "ConvertSupport");
+
+    /**
+     * 泛型字段的原始类型与快速路径中复制容器类型的映射，见{@link #genericCopyClass}
+     */
+    private static final Map<TypeName, ClassName> GENERIC_COPY_CLASSES = new HashMap<>();
+
+    static {
+        GENERIC_COPY_CLASSES.put(ClassName.get(Collection.class), ClassName.get(ArrayList.class));
+        GENERIC_COPY_CLASSES.put(ClassName.get(List.class), ClassName.get(ArrayList.class));
+        GENERIC_COPY_CLASSES.put(ClassName.get(ArrayList.class), ClassName.get(ArrayList.class));
+        GENERIC_COPY_CLASSES.put(ClassName.get(LinkedList.class), ClassName.get(LinkedList.class));
+        GENERIC_COPY_CLASSES.put(ClassName.get(Set.class), ClassName.get(LinkedHashSet.class));
+        GENERIC_COPY_CLASSES.put(ClassName.get(HashSet.class), ClassName.get(HashSet.class));
+        GENERIC_COPY_CLASSES.put(ClassName.get(LinkedHashSet.class), ClassName.get(LinkedHashSet.class));
+        GENERIC_COPY_CLASSES.put(ClassName.get(Map.class), ClassName.get(LinkedHashMap.class));
+        GENERIC_COPY_CLASSES.put(ClassName.get(HashMap.class), ClassName.get(HashMap.class));
+        GENERIC_COPY_CLASSES.put(ClassName.get(LinkedHashMap.class), ClassName.get(LinkedHashMap.class));
+    }
+
+    static {
+        NUMBER_METHODS.put(TypeName.INT.box(), "intValue");
+        NUMBER_METHODS.put(TypeName.LONG.box(), "longValue");
+        NUMBER_METHODS.put(TypeName.DOUBLE.box(), "doubleValue");
+        NUMBER_METHODS.put(TypeName.FLOAT.box(), "floatValue");
+        NUMBER_METHODS.put(TypeName.SHORT.box(), "shortValue");
+        NUMBER_METHODS.put(TypeName.BYTE.box(), "byteValue");
+    }
+
 
     /**
      * 递归收集类及其父类的字段，并生成对象到Map的转换代码
@@ -66,149 +124,683 @@ public class CollectFields {
      * </pre>
      * </blockquote>
      *
+     * 读取方式由{@link FieldAccessors#read}解析，例如{@code entity.isActive()}、{@code entity.name()}或{@code entity.name}。
+     *
      *
      * @param typeElement   要处理的类型元素
      * @param toMapBuilder  用于构建toMap方法的JavaPoet方法构建器
      * @param processingEnv 提供处理工具的环境
      */
     public static void toMapCollectFields(TypeElement typeElement, MethodSpec.Builder toMapBuilder, ProcessingEnvironment processingEnv) {
-        // 获取当前类的字段
-        List<? extends Element> enclosedElements = typeElement.getEnclosedElements();
-        for (Element enclosed : enclosedElements) {
-            if (enclosed instanceof VariableElement) {
-                VariableElement field = (VariableElement) enclosed;
+        for (VariableElement field : toMapFields(typeElement, processingEnv)) {
+            String fieldName = field.getSimpleName().toString();
 
-                // 跳过 final 字段
-                if (field.getModifiers().contains(Modifier.FINAL)) {
-                    continue;
-                }
+            // 使用 getter、record 访问器或公共字段获取字段值并放入 Map
+            toMapBuilder.addCode("//  $L\n", fieldName);
+            toMapBuilder.addStatement("map.put( $S , $L )", toMapKey(field), FieldAccessors.read(field, "entity", processingEnv));
+            toMapBuilder.addCode("\n");
+        }
+    }
 
 
-                if (field.getAnnotation(IgnoreToMap.class) != null) {
-                    continue;
-                }
+    /**
+     * 递归收集类及其父类的字段，并生成Map到对象的转换代码
+     * <p>
+     * 该方法遍历给定类型及其所有父类的字段，为每个符合条件的字段生成从Map到对象的转换代码。
+     * 在处理过程中，会考虑字段上的{@link AutoKeyMapping}和{@link IgnoreToBean}注解，
+     * 以决定字段是否参与转换以及从Map中获取值的键名。
+     * </p>
+     *
+     * 生成的代码示例：
+     * <blockquote>
+     * <pre>
+     * Object fieldNameValue = dataMap.get("fieldName");
+     * if (fieldNameValue != null) {
+     *     // 类型特化的转换，见 addConvertCode
+     * }
+     * </pre>
+     * </blockquote>
+     *
+     *
+     * @param typeElement         要处理的类型元素
+     * @param toBeanMethodBuilder 用于构建toBean方法的JavaPoet方法构建器
+     * @param processingEnv       提供处理工具的环境
+     */
+    public static void toBeanCollectFields(TypeElement typeElement, MethodSpec.Builder toBeanMethodBuilder, ProcessingEnvironment processingEnv) {
+        toBeanCollectFields(typeElement, toBeanMethodBuilder, processingEnv,
+                (index, key) -> CodeBlock.of("dataMap.get($S)", key));
+    }
+
+    /**
+     * 递归收集类及其父类的字段，并生成从任意数据源到对象的转换代码
+     * <p>
+     * 与{@link #toBeanCollectFields(TypeElement, MethodSpec.Builder, ProcessingEnvironment)}相同，
+     * 只是读取字段值的表达式由调用方提供，例如{@code source.get(0, "name")}。
+     * </p>
+     *
+     * @param typeElement         要处理的类型元素
+     * @param toBeanMethodBuilder 用于构建toBean方法的JavaPoet方法构建器
+     * @param processingEnv       提供处理工具的环境
+     * @param reader              根据字段下标（对应{@link #toBeanSchema}的顺序）和键名生成读取表达式的函数
+     */
+    public static void toBeanCollectFields(TypeElement typeElement, MethodSpec.Builder toBeanMethodBuilder, ProcessingEnvironment processingEnv,
+                                           BiFunction<Integer, String, CodeBlock> reader) {
+        toBeanCollectFields(typeElement, toBeanMethodBuilder, processingEnv, reader, null);
+    }
+
+    /**
+     * 递归收集类及其父类的字段，并生成收集转换错误的Map到对象转换代码
+     * <p>
+     * 与{@link #toBeanCollectFields(TypeElement, MethodSpec.Builder, ProcessingEnvironment)}相同，
+     * 但通用转换失败时不抛出异常，而是把字段名、原始值和目标类型记录到变量{@code errors}
+     * （{@code cc.anqin.processor.base.ConversionErrors}）中，字段保持默认值，见{@link #addConvertCode}。
+     * </p>
+     *
+     * @param typeElement         要处理的类型元素
+     * @param toBeanMethodBuilder 用于构建toBean方法的JavaPoet方法构建器
+     * @param processingEnv       提供处理工具的环境
+     */
+    public static void toBeanCollectFieldsWithErrors(TypeElement typeElement, MethodSpec.Builder toBeanMethodBuilder, ProcessingEnvironment processingEnv) {
+        toBeanCollectFields(typeElement, toBeanMethodBuilder, processingEnv,
+                (index, key) -> CodeBlock.of("dataMap.get($S)", key), "errors");
+    }
 
-                // 检查字段是否被 @AutoKeyMapping 注解标记并获取目标名称
-                AutoKeyMapping annotation = field.getAnnotation(AutoKeyMapping.class);
+    /**
+     * 生成逐个字段读取并转换的代码
+     *
+     * @param typeElement         要处理的类型元素
+     * @param toBeanMethodBuilder 用于构建toBean方法的JavaPoet方法构建器
+     * @param processingEnv       提供处理工具的环境
+     * @param reader              生成读取表达式的函数
+     * @param errorsName          错误收集器的变量名，为null时转换失败直接抛出异常
+     */
+    private static void toBeanCollectFields(TypeElement typeElement, MethodSpec.Builder toBeanMethodBuilder, ProcessingEnvironment processingEnv,
+                                            BiFunction<Integer, String, CodeBlock> reader, String errorsName) {
+
+        // 动态生成 set 方法调用
+        BeanCreator creator = BeanCreator.of(typeElement, processingEnv);
+        int index = 0;
+        for (VariableElement field : toBeanSchema(typeElement, processingEnv).values()) {
+            String fieldName = field.getSimpleName().toString();
+            String valueName = fieldName + "Value";
+
+            toBeanMethodBuilder.addCode("//  $L\n", fieldName);
+            toBeanMethodBuilder.addCode("\n");
+
+            toBeanMethodBuilder.addStatement("Object $L = $L", valueName, reader.apply(index, fieldName));
+            toBeanMethodBuilder.addCode("\n");
+
+            toBeanMethodBuilder.beginControlFlow("if ($L != null)", valueName);
+            addConvertCode(toBeanMethodBuilder, field, index++, valueName,
+                    value -> creator.assign(field, value), errorsName, processingEnv);
+            toBeanMethodBuilder.endControlFlow();
+            toBeanMethodBuilder.addCode("\n");
+        }
+    }
 
-                // 跳过被标记为忽略的字段
-                if (annotation != null
-                        && annotation.ignore()
-                        && (MappingEnum.ALL.equals(annotation.method())
-                        || MappingEnum.TO_MAP.equals(annotation.method()))) {
-                    continue;
-                }
 
+    /**
+     * 生成遍历Map条目、按键分派字段的转换代码
+     * <p>
+     * 与{@link #toBeanCollectFields(TypeElement, MethodSpec.Builder, ProcessingEnvironment)}逐个字段调用
+     * {@code dataMap.get}不同，该方法生成的代码只遍历一次{@code dataMap.entrySet()}，
+     * 通过编译期的字符串 switch 找到对应字段。Map中的键远少于字段数量时（例如部分更新），
+     * 查找次数只与Map的大小有关。值为null、键不是字符串或不对应任何字段的条目会被跳过。
+     * 键按字符串精确匹配，因此生成的代码只对按键的{@code equals}查找的Map使用该方法，
+     * 忽略大小写等自定义键匹配的Map仍然逐个字段调用{@code get}。
+     * </p>
+     *
+     * 生成的代码示例：
+     * <blockquote>
+     * <pre>
+     * for (Map.Entry&lt;String, Object&gt; entry : dataMap.entrySet()) {
+     *     Object key = entry.getKey();
+     *     Object value = entry.getValue();
+     *     if (value == null || !(key instanceof String)) {
+     *         continue;
+     *     }
+     *     switch ((String) key) {
+     *         case "fieldName": {
+     *             // 类型特化的转换，见 addConvertCode
+     *             break;
+     *         }
+     *     }
+     * }
+     * </pre>
+     * </blockquote>
+     *
+     * @param typeElement         要处理的类型元素
+     * @param toBeanMethodBuilder 用于构建toBean方法的JavaPoet方法构建器
+     * @param processingEnv       提供处理工具的环境
+     */
+    public static void toBeanSparseCollectFields(TypeElement typeElement, MethodSpec.Builder toBeanMethodBuilder, ProcessingEnvironment processingEnv) {
+        BeanCreator creator = BeanCreator.of(typeElement, processingEnv);
+        toBeanMethodBuilder.beginControlFlow("for ($T.Entry<String, Object> entry : dataMap.entrySet())", Map.class)
+                .addStatement("Object key = entry.getKey()")
+                .addStatement("Object value = entry.getValue()")
+                .beginControlFlow("if (value == null || !(key instanceof String))")
+                .addStatement("continue")
+                .endControlFlow()
+                .beginControlFlow("switch ((String) key)");
+
+        int index = 0;
+        for (Map.Entry<String, VariableElement> entry : toBeanSchema(typeElement, processingEnv).entrySet()) {
+            VariableElement field = entry.getValue();
+            toBeanMethodBuilder.addCode("case $S: {\n$>", entry.getKey());
+            addConvertCode(toBeanMethodBuilder, field, index++, "value",
+                    value -> creator.assign(field, value), processingEnv);
+            toBeanMethodBuilder.addStatement("break");
+            toBeanMethodBuilder.addCode("$<}\n");
+        }
 
-                String fieldName = field.getSimpleName().toString();
+        toBeanMethodBuilder.endControlFlow()
+                .endControlFlow();
+    }
 
-                // 确定目标字段名：优先取 annotation.target，否则默认使用 fieldName
-                String targetFieldName = Optional.ofNullable(annotation)
-                        .map(AutoKeyMapping::target)
-                        .filter(StrUtil::isNotBlank)
-                        .orElse(fieldName);
 
-                String getterName = "get" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+    /**
+     * 生成把变量值转换为字段类型并赋值的代码
+     * <p>
+     * 为避免每个字段都经过 hutool {@code Convert.convert} 的转换器查找、反射和异常回退，
+     * 生成的代码会先按字段类型在编译期选择快速路径，只有快速路径都不匹配时才调用通用转换：
+     * </p>
+     * <ul>
+     *   <li>运行时类型与字段类型一致时直接强转赋值</li>
+     *   <li>数值类型（基本类型及其包装类）接受任意{@link Number}，通过{@code intValue()}等方法转换</li>
+     *   <li>{@link String}接受任意{@link CharSequence}，通过{@code toString()}转换</li>
+     *   <li>集合和Map类型的泛型字段，元素（键、值）已经是目标类型时直接复制到新的容器中（见{@link #genericCopyClass}），
+     *       不经过 hutool 的逐个元素转换；与{@code Convert.convert}一样，实体对象不会与传入的集合共享同一个实例</li>
+     *   <li>其他情况回退到{@code Convert.convert}；泛型字段使用{@link #toBeanTypeConstants}生成的静态类型常量，
+     *       不会在每次调用时创建{@code TypeReference}</li>
+     * </ul>
+     *
+     * 生成的代码示例：
+     * <blockquote>
+     * <pre>
+     * if (ageValue instanceof Integer) {
+     *     bean.setAge((Integer) ageValue);
+     * } else if (ageValue instanceof Number) {
+     *     bean.setAge(((Number) ageValue).intValue());
+     * } else {
+     *     bean.setAge(Convert.convert(int.class, ageValue));
+     * }
+     * </pre>
+     * </blockquote>
+     *
+     * 使用泛型快速路径的方法需要添加{@code @SuppressWarnings("unchecked")}。
+     *
+     * @param builder       方法构建器
+     * @param field         目标字段
+     * @param index         字段在{@link #toBeanSchema}中的下标，用于引用泛型字段的类型常量
+     * @param valueName     保存原始值的变量名，调用方保证其不为null
+     * @param assign        根据值表达式生成赋值语句的函数，例如{@code bean.setAge(<值表达式>)}
+     * @param processingEnv 提供处理工具的环境
+     */
+    public static void addConvertCode(MethodSpec.Builder builder, VariableElement field, int index, String valueName,
+                                      Function<CodeBlock, CodeBlock> assign, ProcessingEnvironment processingEnv) {
+        addConvertCode(builder, field, index, valueName, assign, null, processingEnv);
+    }
 
-                // 使用 getter 方法获取字段值并放入 Map
-                toMapBuilder.addCode("//  $L\n", fieldName);
-                toMapBuilder.addStatement("map.put( $S , entity.$L() )", targetFieldName, getterName);
-                toMapBuilder.addCode("\n");
+    /**
+     * 生成把变量值转换为字段类型并赋值的代码，可选择收集转换错误
+     * <p>
+     * {@code errorsName}为null时与{@link #addConvertCode(MethodSpec.Builder, VariableElement, int, String, Function, ProcessingEnvironment)}相同。
+     * 否则快速路径不变，通用转换改为调用{@code ConvertSupport.convertQuietly}：转换失败或结果为null时不抛出异常，
+     * 而是记录到错误收集器中，字段保持默认值。
+     * </p>
+     *
+     * 收集错误时通用转换部分生成的代码示例：
+     * <blockquote>
+     * <pre>
+     * } else {
+     *     Object converted = ConvertSupport.convertQuietly(int.class, ageValue);
+     *     if (converted != null) {
+     *         bean.setAge((Integer) converted);
+     *     } else {
+     *         errors.add("age", ageValue, int.class);
+     *     }
+     * }
+     * </pre>
+     * </blockquote>
+     *
+     * @param builder       方法构建器
+     * @param field         目标字段
+     * @param index         字段在{@link #toBeanSchema}中的下标，用于引用泛型字段的类型常量
+     * @param valueName     保存原始值的变量名，调用方保证其不为null
+     * @param assign        根据值表达式生成赋值语句的函数
+     * @param errorsName    错误收集器的变量名，为null时不收集错误
+     * @param processingEnv 提供处理工具的环境
+     */
+    public static void addConvertCode(MethodSpec.Builder builder, VariableElement field, int index, String valueName,
+                                      Function<CodeBlock, CodeBlock> assign, String errorsName, ProcessingEnvironment processingEnv) {
+        TypeName fieldType = TypeName.get(field.asType());
+        ClassName convert = ClassName.get("cn.hutool.core.convert", "Convert");
+
+        // 泛型字段：集合和Map的元素无需转换时复制到新的容器中，否则按静态类型常量转换
+        if (fieldType instanceof ParameterizedTypeName) {
+            CodeBlock fastPath = genericFastPath(field, valueName, processingEnv);
+            if (fastPath != null) {
+                builder.beginControlFlow("if ($L)", fastPath);
+                builder.addStatement(assign.apply(genericCopy(field, valueName, processingEnv)));
+                builder.nextControlFlow("else");
+            }
+            if (errorsName == null) {
+                builder.addStatement(assign.apply(CodeBlock.of("$T.<$T>convert($L, $L)",
+                        convert, fieldType, typeConstantName(index), valueName)));
+            } else {
+                addQuietConvertCode(builder, field, valueName, assign, errorsName, fieldType, CodeBlock.of("$L", typeConstantName(index)));
+            }
+            if (fastPath != null) {
+                builder.endControlFlow();
             }
+            return;
         }
 
-        // 递归获取父类字段
-        TypeMirror superclass = typeElement.getSuperclass();
-        if (superclass != null && !superclass.toString().equals("java.lang.Object")) {
-            Element superElement = processingEnv.getTypeUtils().asElement(superclass);
-            if (superElement instanceof TypeElement) {
-                toMapCollectFields((TypeElement) superElement, toMapBuilder, processingEnv);
+        TypeName boxedType = fieldType.isPrimitive() ? fieldType.box() : fieldType;
+
+        // 1. 运行时类型与字段类型一致，直接赋值
+        builder.beginControlFlow("if ($L instanceof $T)", valueName, boxedType);
+        builder.addStatement(assign.apply(CodeBlock.of("($T) $L", boxedType, valueName)));
+
+        // 2. 类型特化的转换
+        String numberMethod = NUMBER_METHODS.get(boxedType);
+        if (numberMethod != null) {
+            builder.nextControlFlow("else if ($L instanceof $T)", valueName, Number.class);
+            builder.addStatement(assign.apply(CodeBlock.of("(($T) $L).$L()", Number.class, valueName, numberMethod)));
+        } else if (boxedType.equals(ClassName.get(String.class))) {
+            builder.nextControlFlow("else if ($L instanceof $T)", valueName, CharSequence.class);
+            builder.addStatement(assign.apply(CodeBlock.of("$L.toString()", valueName)));
+        }
+
+        // 3. 通用转换
+        builder.nextControlFlow("else");
+        if (errorsName == null) {
+            builder.addStatement(assign.apply(CodeBlock.of("$T.convert($T.class, $L)", convert, fieldType, valueName)));
+        } else {
+            addQuietConvertCode(builder, field, valueName, assign, errorsName, boxedType, CodeBlock.of("$T.class", fieldType));
+        }
+        builder.endControlFlow();
+    }
+
+    /**
+     * 生成不抛出异常的通用转换代码，失败时记录到错误收集器
+     *
+     * @param builder     方法构建器
+     * @param field       目标字段
+     * @param valueName   保存原始值的变量名
+     * @param assign      根据值表达式生成赋值语句的函数
+     * @param errorsName  错误收集器的变量名
+     * @param castType    转换结果强转的类型，基本类型字段为其包装类型
+     * @param typeLiteral 目标类型的表达式，例如{@code int.class}或泛型字段的类型常量
+     */
+    private static void addQuietConvertCode(MethodSpec.Builder builder, VariableElement field, String valueName,
+                                            Function<CodeBlock, CodeBlock> assign, String errorsName,
+                                            TypeName castType, CodeBlock typeLiteral) {
+        builder.addStatement("Object converted = $T.convertQuietly($L, $L)", CONVERT_SUPPORT, typeLiteral, valueName);
+        builder.beginControlFlow("if (converted != null)");
+        builder.addStatement(assign.apply(CodeBlock.of("($T) converted", castType)));
+        builder.nextControlFlow("else");
+        builder.addStatement("$L.add($S, $L, $L)", errorsName, field.getSimpleName().toString(), valueName, typeLiteral);
+        builder.endControlFlow();
+    }
+
+
+    /**
+     * 生成泛型字段的静态类型常量
+     * <p>
+     * 每个泛型字段对应一个{@code private static final Type}常量，在类初始化时通过{@code TypeReference}解析一次，
+     * 之后每次转换都直接复用，避免每次调用都创建匿名{@code TypeReference}并反射解析泛型。
+     * </p>
+     *
+     * 生成的代码示例：
+     * <blockquote>
+     * <pre>
+     * // Generic type of field friends
+     * private static final Type TYPE_3 = new TypeReference&lt;List&lt;User&gt;&gt;() {}.getType();
+     * </pre>
+     * </blockquote>
+     *
+     * @param typeElement   要处理的类型元素
+     * @param processingEnv 提供处理工具的环境
+     * @return 类型常量定义
+     */
+    public static List<FieldSpec> toBeanTypeConstants(TypeElement typeElement, ProcessingEnvironment processingEnv) {
+        List<FieldSpec> constants = new ArrayList<>();
+        int index = 0;
+        for (VariableElement field : toBeanSchema(typeElement, processingEnv).values()) {
+            TypeName fieldType = TypeName.get(field.asType());
+            if (fieldType instanceof ParameterizedTypeName) {
+                constants.add(FieldSpec.builder(Type.class, typeConstantName(index), Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .addJavadoc("Generic type of field $L\n", field.getSimpleName())
+                        .initializer("new $T<$T>() {}.getType()", ClassName.get("cn.hutool.core.lang", "TypeReference"), fieldType)
+                        .build());
             }
+            index++;
         }
+        return constants;
     }
 
 
     /**
-     * 递归收集类及其父类的字段，并生成Map到对象的转换代码
+     * 获取泛型字段对应的静态类型常量名
      * <p>
-     * 该方法遍历给定类型及其所有父类的字段，为每个符合条件的字段生成从Map到对象的转换代码。
-     * 在处理过程中，会考虑字段上的{@link AutoKeyMapping}和{@link IgnoreToBean}注解，
-     * 以决定字段是否参与转换以及从Map中获取值的键名。
+     * 按字段在{@link #toBeanSchema}中的下标命名。字段名转换为常量风格后可能重复（例如{@code fooBar}和{@code foo_bar}），
+     * 下标则在同一个转换器中唯一。
+     * </p>
+     *
+     * @param index 字段在{@link #toBeanSchema}中的下标
+     * @return 常量名，例如{@code TYPE_3}
+     */
+    private static String typeConstantName(int index) {
+        return "TYPE_" + index;
+    }
+
+
+    /**
+     * 生成集合和Map泛型字段的快速路径判断条件
+     * <p>
+     * 字段的原始类型有对应的复制容器（见{@link #genericCopyClass}），且元素（键、值）类型不含泛型参数时，
+     * 生成运行时判断：值是{@link Collection}（或{@link Map}），且所有元素都已经是目标类型。
+     * 条件成立时由{@link #genericCopy}复制到新的容器中赋值。
      * </p>
      *
+     * @param field         目标字段
+     * @param valueName     保存原始值的变量名
+     * @param processingEnv 提供处理工具的环境
+     * @return 判断条件，字段不适用快速路径时返回null
+     */
+    private static CodeBlock genericFastPath(VariableElement field, String valueName, ProcessingEnvironment processingEnv) {
+        Types types = processingEnv.getTypeUtils();
+        Elements elements = processingEnv.getElementUtils();
+
+        DeclaredType fieldType = (DeclaredType) field.asType();
+        TypeMirror rawType = types.erasure(fieldType);
+        TypeName rawTypeName = TypeName.get(rawType);
+        List<? extends TypeMirror> typeArguments = fieldType.getTypeArguments();
+
+        if (genericCopyClass(rawTypeName) == null) {
+            return null;
+        }
+
+        TypeMirror collectionType = types.erasure(elements.getTypeElement("java.util.Collection").asType());
+        TypeMirror mapType = types.erasure(elements.getTypeElement("java.util.Map").asType());
+
+        if (typeArguments.size() == 1 && types.isAssignable(rawType, collectionType)) {
+            CodeBlock elementType = elementTypeLiteral(typeArguments.get(0), processingEnv);
+            if (elementType != null) {
+                return CodeBlock.of("$L instanceof $T && $T.allInstanceOf(($T<?>) $L, $L)",
+                        valueName, Collection.class, CONVERT_SUPPORT, Iterable.class, valueName, elementType);
+            }
+        } else if (typeArguments.size() == 2 && types.isAssignable(rawType, mapType)) {
+            CodeBlock keyType = elementTypeLiteral(typeArguments.get(0), processingEnv);
+            CodeBlock valueType = elementTypeLiteral(typeArguments.get(1), processingEnv);
+            if (keyType != null && valueType != null) {
+                return CodeBlock.of("$L instanceof $T && $T.allInstanceOf(($T<?, ?>) $L, $L, $L)",
+                        valueName, Map.class, CONVERT_SUPPORT, Map.class, valueName, keyType, valueType);
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * 生成把集合或Map复制到新容器的表达式，供{@link #genericFastPath}条件成立时使用
+     *
      * 生成的代码示例：
      * <blockquote>
      * <pre>
-     * bean.setFieldName((FieldType) dataMap.get("fieldName"));
+     * new ArrayList&lt;&gt;((Collection&lt;String&gt;) tagsValue)
      * </pre>
      * </blockquote>
      *
+     * @param field         目标字段
+     * @param valueName     保存原始值的变量名
+     * @param processingEnv 提供处理工具的环境
+     * @return 复制表达式
+     */
+    private static CodeBlock genericCopy(VariableElement field, String valueName, ProcessingEnvironment processingEnv) {
+        DeclaredType fieldType = (DeclaredType) field.asType();
+        ClassName copyClass = genericCopyClass(TypeName.get(processingEnv.getTypeUtils().erasure(fieldType)));
+        TypeName[] typeArguments = fieldType.getTypeArguments().stream().map(TypeName::get).toArray(TypeName[]::new);
+        ClassName sourceClass = ClassName.get(typeArguments.length == 1 ? Collection.class : Map.class);
+        return CodeBlock.of("new $T<>(($T) $L)", copyClass, ParameterizedTypeName.get(sourceClass, typeArguments), valueName);
+    }
+
+
+    /**
+     * 获取泛型字段快速路径中用于复制的容器类型
+     * <p>
+     * 接口类型使用保持插入顺序的实现：{@code List}、{@code Collection}对应{@link ArrayList}，
+     * {@code Set}对应{@link LinkedHashSet}，{@code Map}对应{@link LinkedHashMap}；
+     * 具体类型使用其自身。有序集合等其他类型没有快速路径，仍然通过{@code Convert.convert}转换。
+     * </p>
      *
-     * @param typeElement         要处理的类型元素
-     * @param toBeanMethodBuilder 用于构建toBean方法的JavaPoet方法构建器
-     * @param processingEnv       提供处理工具的环境
+     * @param rawType 字段的原始类型
+     * @return 复制容器的类型，不适用快速路径时返回null
      */
-    public static void toBeanCollectFields(TypeElement typeElement, MethodSpec.Builder toBeanMethodBuilder, ProcessingEnvironment processingEnv) {
+    private static ClassName genericCopyClass(TypeName rawType) {
+        return GENERIC_COPY_CLASSES.get(rawType);
+    }
 
-        // 动态生成 set 方法调用
+
+    /**
+     * 获取元素类型用于运行时检查的类字面量
+     *
+     * @param typeArgument  元素类型
+     * @param processingEnv 提供处理工具的环境
+     * @return 类字面量；元素类型为{@code ?}或{@link Object}时返回{@code null}字面量（无需检查）；
+     *         元素类型本身含泛型参数或为类型变量时返回null（不适用快速路径）
+     */
+    private static CodeBlock elementTypeLiteral(TypeMirror typeArgument, ProcessingEnvironment processingEnv) {
+        TypeMirror type = typeArgument;
+        if (type.getKind() == TypeKind.WILDCARD) {
+            TypeMirror bound = ((WildcardType) type).getExtendsBound();
+            if (bound == null) {
+                return CodeBlock.of("null");
+            }
+            type = bound;
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            TypeName arrayType = TypeName.get(type);
+            return arrayType.toString().contains("<") ? null : CodeBlock.of("$T.class", arrayType);
+        }
+        if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return null;
+        }
+        TypeName typeName = TypeName.get(processingEnv.getTypeUtils().erasure(type));
+        if (typeName.equals(TypeName.OBJECT)) {
+            return CodeBlock.of("null");
+        }
+        return CodeBlock.of("$T.class", typeName);
+    }
+
+
+    /**
+     * 递归收集参与对象到Map转换的字段（包含父类）
+     * <p>
+     * 字段按先子类、后父类的声明顺序返回，已排除 static final 常量、{@link IgnoreToMap}标记的字段，
+     * 以及被{@link AutoKeyMapping#ignore()}忽略的字段；其余静态字段与之前一样参与转换，
+     * 开启{@link AutoToMap#ignoreStatic()}时排除。通过 setter 写入的实体类与之前一样排除 final 字段；
+     * 通过构造函数或建造者创建的实体类（见{@link BeanCreator}），能够读取的 final 字段也参与转换
+     * （见{@link FieldAccessors#isReadable}），例如 record 组件和{@code @Value}的字段。
+     * 生成代码在编译期即可据此得知结果Map的字段数量。
+     * </p>
+     *
+     * @param typeElement   要处理的类型元素
+     * @param processingEnv 提供处理工具的环境
+     * @return 参与转换的字段列表
+     */
+    public static List<VariableElement> toMapFields(TypeElement typeElement, ProcessingEnvironment processingEnv) {
+        List<VariableElement> fields = new ArrayList<>();
+        boolean readFinal = !BeanCreator.of(typeElement, processingEnv).isMutable();
+        collectFields(typeElement, processingEnv, MappingEnum.TO_MAP, readFinal, ignoreStatic(typeElement), fields);
+        return fields;
+    }
+
+
+    /**
+     * 递归收集参与Map到对象转换的字段（包含父类）
+     * <p>
+     * 字段按先子类、后父类的声明顺序返回，已排除 final 字段、{@link IgnoreToBean}标记的字段，
+     * 以及被{@link AutoKeyMapping#ignore()}忽略的字段；开启{@link AutoToMap#ignoreStatic()}时同时排除静态字段。
+     * 通过构造函数或建造者创建的实体类（见{@link BeanCreator}）改为按构造参数的顺序返回对应的字段，
+     * final 字段也会参与转换，被忽略的构造参数传入默认值。
+     * </p>
+     *
+     * @param typeElement   要处理的类型元素
+     * @param processingEnv 提供处理工具的环境
+     * @return 参与转换的字段列表
+     */
+    public static List<VariableElement> toBeanFields(TypeElement typeElement, ProcessingEnvironment processingEnv) {
+        List<VariableElement> fields = new ArrayList<>();
+        BeanCreator creator = BeanCreator.of(typeElement, processingEnv);
+        if (creator.isMutable()) {
+            collectFields(typeElement, processingEnv, MappingEnum.TO_BEAN, false, ignoreStatic(typeElement), fields);
+            return fields;
+        }
+        for (VariableElement parameter : creator.getParameters()) {
+            if (!isIgnored(parameter, MappingEnum.TO_BEAN)) {
+                fields.add(parameter);
+            }
+        }
+        return fields;
+    }
+
+
+    /**
+     * 收集对象到Map转换的键表（包含父类）
+     * <p>
+     * 键按{@link #toMapFields}的顺序排列，即与生成的{@code toMap}写入顺序一致。
+     * 多个字段映射到同一个键时，键的位置取第一次出现的位置，字段取最后一个，
+     * 与{@code toMap}中后写入的值覆盖先写入的值的行为一致。
+     * </p>
+     *
+     * @param typeElement   要处理的类型元素
+     * @param processingEnv 提供处理工具的环境
+     * @return 键名到字段的有序映射
+     */
+    public static Map<String, VariableElement> toMapSchema(TypeElement typeElement, ProcessingEnvironment processingEnv) {
+        Map<String, VariableElement> schema = new LinkedHashMap<>();
+        for (VariableElement field : toMapFields(typeElement, processingEnv)) {
+            schema.put(toMapKey(field), field);
+        }
+        return schema;
+    }
+
+
+    /**
+     * 收集Map到对象转换的字段表（包含父类）
+     * <p>
+     * 以字段名（即Map中的键名）为键，按{@link #toBeanFields}的顺序排列。
+     * 子类字段与父类字段同名时只保留子类字段，两者的 setter 相同，重复设置没有意义。
+     * 通过构造函数或建造者创建的实体类，字段表即构造参数（或建造者方法）对应的字段。
+     * </p>
+     *
+     * @param typeElement   要处理的类型元素
+     * @param processingEnv 提供处理工具的环境
+     * @return 键名到字段的有序映射
+     */
+    public static Map<String, VariableElement> toBeanSchema(TypeElement typeElement, ProcessingEnvironment processingEnv) {
+        Map<String, VariableElement> schema = new LinkedHashMap<>();
+        for (VariableElement field : toBeanFields(typeElement, processingEnv)) {
+            schema.putIfAbsent(field.getSimpleName().toString(), field);
+        }
+        return schema;
+    }
+
+
+    /**
+     * 获取字段在对象到Map转换中使用的键名
+     * <p>
+     * 优先取{@link AutoKeyMapping#target()}，未设置时使用字段名。
+     * </p>
+     *
+     * @param field 字段元素
+     * @return Map中的键名
+     */
+    public static String toMapKey(VariableElement field) {
+        // 确定目标字段名：优先取 annotation.target，否则默认使用 fieldName
+        return Optional.ofNullable(field.getAnnotation(AutoKeyMapping.class))
+                .map(AutoKeyMapping::target)
+                .filter(StrUtil::isNotBlank)
+                .orElse(field.getSimpleName().toString());
+    }
+
+
+    /**
+     * 判断字段在指定转换方向上是否被注解忽略
+     *
+     * @param field     字段元素
+     * @param direction 转换方向，{@link MappingEnum#TO_MAP}或{@link MappingEnum#TO_BEAN}
+     * @return 被{@link IgnoreToMap}、{@link IgnoreToBean}或{@link AutoKeyMapping#ignore()}忽略时返回true
+     */
+    private static boolean isIgnored(VariableElement field, MappingEnum direction) {
+        if (MappingEnum.TO_MAP.equals(direction) && field.getAnnotation(IgnoreToMap.class) != null) {
+            return true;
+        }
+        if (MappingEnum.TO_BEAN.equals(direction) && field.getAnnotation(IgnoreToBean.class) != null) {
+            return true;
+        }
+
+        // 检查字段是否被 @AutoKeyMapping 注解标记
+        AutoKeyMapping annotation = field.getAnnotation(AutoKeyMapping.class);
+
+        // 跳过被标记为忽略的字段
+        return annotation != null
+                && annotation.ignore()
+                && (MappingEnum.ALL.equals(annotation.method())
+                || direction.equals(annotation.method()));
+    }
+
+
+    /**
+     * 判断实体类是否开启了{@link AutoToMap#ignoreStatic()}
+     *
+     * @param typeElement 要处理的类型元素
+     * @return 开启时返回true
+     */
+    private static boolean ignoreStatic(TypeElement typeElement) {
+        AutoToMap autoToMap = typeElement.getAnnotation(AutoToMap.class);
+        return autoToMap != null && autoToMap.ignoreStatic();
+    }
+
+
+    /**
+     * 递归收集指定转换方向上的字段
+     *
+     * @param typeElement   要处理的类型元素
+     * @param processingEnv 提供处理工具的环境
+     * @param direction     转换方向，{@link MappingEnum#TO_MAP}或{@link MappingEnum#TO_BEAN}
+     * @param readFinal     是否收集能够读取的 final 字段
+     * @param ignoreStatic  是否排除所有静态字段
+     * @param fields        收集结果
+     */
+    private static void collectFields(TypeElement typeElement, ProcessingEnvironment processingEnv,
+                                      MappingEnum direction, boolean readFinal, boolean ignoreStatic,
+                                      List<VariableElement> fields) {
         for (Element element : typeElement.getEnclosedElements()) {
-            if (element.getKind() == ElementKind.FIELD) { // 只处理字段
-                VariableElement field = (VariableElement) element;
-
-                // 跳过 final 字段
-                if (field.getModifiers().contains(Modifier.FINAL)) {
-                    continue;
-                }
-
-                if (field.getAnnotation(IgnoreToBean.class) != null) {
-                    continue;
-                }
-
-
-                // 检查字段是否被 @AutoKeyMapping 注解标记并获取目标名称
-                AutoKeyMapping annotation = field.getAnnotation(AutoKeyMapping.class);
-
-                // 跳过被标记为忽略的字段
-                if (annotation != null
-                        && annotation.ignore()
-                        && (MappingEnum.ALL.equals(annotation.method())
-                        || MappingEnum.TO_BEAN.equals(annotation.method()))) {
-                    continue;
-                }
-
-                String fieldName = field.getSimpleName().toString();
-                TypeName fieldType = TypeName.get(field.asType());
-
-                // 生成 set 方法调用
-                String setMethodName = "set" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
-
-                toBeanMethodBuilder.addCode("//  $L\n", fieldName);
-                toBeanMethodBuilder.addCode("\n");
-
-                toBeanMethodBuilder.addStatement("Object $LValue = dataMap.get(\"$L\")", fieldName, fieldName);
-                toBeanMethodBuilder.addCode("\n");
-
-                toBeanMethodBuilder.addCode("if ($LValue != null) {\n", fieldName);
-
-                if (fieldType.toString().contains("<") || fieldType.toString().contains(">")) {
-
-                    toBeanMethodBuilder.addCode("    bean.$L( $T.convert(new $T<$T>() {}, $LValue) );\n",
-                            setMethodName,
-                            ClassName.get("cn.hutool.core.convert", "Convert"),
-                            ClassName.get("cn.hutool.core.lang", "TypeReference"),
-                            fieldType,
-                            fieldName);
-                } else {
-                    toBeanMethodBuilder.addCode("    bean.$L( $T.convert($T.class, $LValue) );\n",
-                            setMethodName,
-                            ClassName.get("cn.hutool.core.convert", "Convert"),
-                            fieldType,
-                            fieldName);
-                }
-
-                toBeanMethodBuilder.addCode("}\n");
-                toBeanMethodBuilder.addCode("\n");
+            if (element.getKind() != ElementKind.FIELD) { // 只处理字段
+                continue;
+            }
+            VariableElement field = (VariableElement) element;
+
+            // 非 final 的静态字段与之前的版本一样参与转换，开启 ignoreStatic 时跳过
+            boolean isStatic = field.getModifiers().contains(Modifier.STATIC);
+            if (isStatic && ignoreStatic) {
+                continue;
+            }
+
+            // 跳过 final 字段，不可变实体中能读取的实例字段除外；构造函数写入的 final 字段由 toBeanFields 处理
+            if (field.getModifiers().contains(Modifier.FINAL)
+                    && (isStatic || !(readFinal && FieldAccessors.isReadable(field, processingEnv)))) {
+                continue;
+            }
+
+            if (isIgnored(field, direction)) {
+                continue;
             }
+
+            fields.add(field);
         }
 
         // 递归获取父类字段
@@ -216,7 +808,7 @@ public class CollectFields {
         if (superclass != null && !superclass.toString().equals("java.lang.Object")) {
             Element superElement = processingEnv.getTypeUtils().asElement(superclass);
             if (superElement instanceof TypeElement) {
-                toBeanCollectFields((TypeElement) superElement, toBeanMethodBuilder, processingEnv);
+                collectFields((TypeElement) superElement, processingEnv, direction, readFinal, ignoreStatic, fields);
             }
         }
     }
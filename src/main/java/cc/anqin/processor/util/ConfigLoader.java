@@ -1,13 +1,34 @@
 package cc.anqin.processor.util;
 
 import cc.anqin.processor.base.MappingConvert;
+import cc.anqin.processor.enums.LoadStrategyEnum;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.ClassScanner;
 import cn.hutool.core.util.ClassUtil;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import cn.hutool.log.Log;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -19,19 +40,395 @@ import java.util.stream.Collectors;
  */
 public class ConfigLoader {
 
+    /** 日志 */
+    private static final Log log = Log.get(ConfigLoader.class);
+
     /** 配置文件 */
     public static final String CONFIG_FILE_PATH = "META-INF/map-converter-registry.json";
 
+    /** 服务索引文件，供{@link ServiceLoader}加载所有生成的转换器 */
+    public static final String SERVICE_FILE_PATH = "META-INF/services/cc.anqin.processor.base.MappingConvert";
+
     /**
      * 生成的转换器类的包前缀
      * <p>
      * 所有自动生成的转换器类都将被放置在此前缀指定的包下，以避免与用户代码冲突。
-     * 例如，对于类{@code com.example.User}，其转换器类的全限定名为
-     * {@code auto.mappings.com.example.User_MapConverter}。
+     * 转换器类的全限定名为该前缀加实体类的二进制名（{@link Class#getName()}），例如{@code com.example.User}的转换器为
+     * {@code auto.mappings.com.example.User}，嵌套类{@code com.example.Outer.Inner}的转换器为{@code auto.mappings.com.example.Outer$Inner}。
      * </p>
      */
     public static final String PACKAGE_PREFIX = "auto.mappings.";
 
+    /**
+     * 懒加载开关（系统属性）
+     * <p>
+     * 设置{@code -Dauto.mapping.lazy=true}后，初始化时只登记实体类与转换器类名的对应关系，
+     * 每个转换器在第一次使用时才被加载和实例化，详见{@link LazyMappingConvert}。
+     * 适用于引入了大量实体、但单个服务只使用其中少数几个的场景，可同时降低类初始化耗时和元空间占用。
+     * </p>
+     */
+    public static final String LAZY_PROPERTY = "auto.mapping.lazy";
+
+    /**
+     * 并行批量转换阈值的系统属性名称
+     * <p>
+     * 使用{@link java.util.concurrent.ForkJoinPool}的批量转换方法（例如
+     * {@link cc.anqin.processor.base.ConvertMap#toMapList(java.util.List, Class, java.util.concurrent.ForkJoinPool)}）
+     * 在元素数量小于该阈值时仍然顺序执行，避免任务拆分的开销超过转换本身。默认值为{@code 2048}。
+     * </p>
+     */
+    public static final String PARALLEL_THRESHOLD_PROPERTY = "auto.mapping.parallel.threshold";
+
+    /**
+     * 指定加载策略的系统属性名称
+     * <p>
+     * 取值为{@link LoadStrategyEnum}的名称（不区分大小写），例如{@code -Dauto.mapping.strategy=REGISTRY}。
+     * 设置后只使用该策略加载，找不到转换器时也不再降级到其他策略，用于启动性能测试和排查加载问题；
+     * 未设置或取值无效时按默认顺序选择策略。
+     * </p>
+     */
+    public static final String STRATEGY_PROPERTY = "auto.mapping.strategy";
+
+    /**
+     * 指标统计开关（系统属性）
+     * <p>
+     * 设置{@code -Dauto.mapping.metrics=true}后，每个转换器都会统计调用次数、错误数和耗时分布，
+     * 并通过 JMX 暴露，详见{@link cc.anqin.processor.metrics.ConvertMetricsSupport}。默认关闭，关闭时没有任何运行时开销。
+     * </p>
+     */
+    public static final String METRICS_PROPERTY = "auto.mapping.metrics";
+
+
+    /**
+     * 将所有配置加载为单个映射
+     * <p>
+     * 优先读取编译期生成的服务索引（{@link #SERVICE_FILE_PATH}），直接实例化其中列出的转换器；
+     * 没有服务索引时读取类路径上所有的注册表文件（{@link #CONFIG_FILE_PATH}），仅实例化其中列出的转换器；
+     * 找不到任何注册表文件时，降级为{@link #scanLoadAllConfigsAsSingleMap()}包扫描方式。
+     * 最终采用的加载策略及耗时会输出到日志中。
+     * </p>
+     * <p>
+     * 开启{@link #LAZY_PROPERTY 懒加载}时，服务索引和注册表只按文本读取类名，映射表中存放的是
+     * {@link LazyMappingConvert}；包扫描本身需要加载所有类，因此该策略下仍然立即实例化。
+     * </p>
+     * <p>
+     * 通过{@link #STRATEGY_PROPERTY}指定加载策略时，只使用该策略，不再降级。
+     * </p>
+     *
+     * @return {@link Map }<{@link String }, {@link MappingConvert }<{@link ? }>>
+     */
+    public static Map<String, MappingConvert<?>> loadAllConfigsAsSingleMap() {
+        return loadAllConfigsAsSingleMap(ClassUtil.getClassLoader());
+    }
+
+
+    /**
+     * 从指定的类加载器将所有配置加载为单个映射
+     * <p>
+     * 加载策略与{@link #loadAllConfigsAsSingleMap()}相同，但所有资源和类都通过给定的类加载器查找，
+     * 用于在运行时加载新部署模块中的转换器。
+     * </p>
+     *
+     * @param classLoader 用于查找资源和加载转换器类的类加载器
+     * @return {@link Map }<{@link String }, {@link MappingConvert }<{@link ? }>>
+     */
+    public static Map<String, MappingConvert<?>> loadAllConfigsAsSingleMap(ClassLoader classLoader) {
+        long startTime = System.nanoTime();
+        Object event = ConvertEvents.beginRegistryLoad();
+
+        boolean lazy = Boolean.getBoolean(LAZY_PROPERTY);
+
+        LoadStrategyEnum forced = forcedStrategy();
+        if (forced != null) {
+            Map<String, MappingConvert<?>> dataMap = load(forced, lazy, classLoader);
+            ConvertEvents.endRegistryLoad(event, forced, lazy, dataMap.size());
+            log.info("转换器加载策略: {}（指定）, 懒加载: {}, 转换器数量: {}, 耗时: {}ms",
+                    forced, lazy, dataMap.size(), (System.nanoTime() - startTime) / 1_000_000);
+            return dataMap;
+        }
+
+        LoadStrategyEnum strategy = LoadStrategyEnum.SERVICE_LOADER;
+        Map<String, MappingConvert<?>> dataMap = lazy
+                ? lazyServiceLoadAllConfigsAsSingleMap(classLoader)
+                : serviceLoadAllConfigsAsSingleMap(classLoader);
+
+        if (dataMap.isEmpty()) {
+            Map<String, String> registry = loadRegistry(classLoader);
+            if (registry.isEmpty()) {
+                strategy = LoadStrategyEnum.SCAN;
+                dataMap = scanLoadAllConfigsAsSingleMap(classLoader);
+            } else {
+                strategy = LoadStrategyEnum.REGISTRY;
+                dataMap = lazy
+                        ? lazyLoadAllConfigsAsSingleMap(registry, classLoader)
+                        : registryLoadAllConfigsAsSingleMap(registry, classLoader);
+            }
+        }
+
+        ConvertEvents.endRegistryLoad(event, strategy, lazy, dataMap.size());
+        log.info("转换器加载策略: {}, 懒加载: {}, 转换器数量: {}, 耗时: {}ms",
+                strategy, lazy, dataMap.size(), (System.nanoTime() - startTime) / 1_000_000);
+        return dataMap;
+    }
+
+
+    /**
+     * 读取{@link #STRATEGY_PROPERTY}指定的加载策略
+     *
+     * @return 指定的加载策略，未设置或取值无效时返回null
+     */
+    private static LoadStrategyEnum forcedStrategy() {
+        String value = System.getProperty(STRATEGY_PROPERTY);
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        for (LoadStrategyEnum strategy : LoadStrategyEnum.values()) {
+            if (strategy.name().equalsIgnoreCase(value.trim())) {
+                return strategy;
+            }
+        }
+        log.warn("无效的转换器加载策略: {}={}，将按默认顺序选择", STRATEGY_PROPERTY, value);
+        return null;
+    }
+
+    /**
+     * 只使用指定的策略加载转换器
+     *
+     * @param strategy    加载策略
+     * @param lazy        是否懒加载，包扫描策略下忽略
+     * @param classLoader 用于查找资源和加载转换器类的类加载器
+     * @return {@link Map }<{@link String }, {@link MappingConvert }<{@link ? }>>
+     */
+    private static Map<String, MappingConvert<?>> load(LoadStrategyEnum strategy, boolean lazy, ClassLoader classLoader) {
+        switch (strategy) {
+            case SERVICE_LOADER:
+                return lazy
+                        ? lazyServiceLoadAllConfigsAsSingleMap(classLoader)
+                        : serviceLoadAllConfigsAsSingleMap(classLoader);
+            case REGISTRY:
+                Map<String, String> registry = loadRegistry(classLoader);
+                return lazy
+                        ? lazyLoadAllConfigsAsSingleMap(registry, classLoader)
+                        : registryLoadAllConfigsAsSingleMap(registry, classLoader);
+            default:
+                return scanLoadAllConfigsAsSingleMap(classLoader);
+        }
+    }
+
+    /**
+     * 通过服务索引将所有配置加载为单个映射
+     * <p>
+     * 服务索引由{@link cc.anqin.processor.MapConverterProcessor}在编译期生成，这里按文本读取后直接加载和实例化其中的转换器，
+     * 不经过{@link ServiceLoader}的逐个查找和校验，整个过程不涉及包扫描和 JSON 解析，开销与注册表加载相同。
+     * 生成的转换器按{@link #PACKAGE_PREFIX}命名规则还原实体类名，其余手写转换器通过{@link MappingConvert#getTargetClass()}获取实体类型。
+     * 服务索引中个别类无法加载或实例化时只跳过该转换器，其余转换器照常加载；
+     * 一个转换器也没有加载到时返回空映射，由调用方降级到其他加载策略。
+     * </p>
+     *
+     * @param classLoader 用于加载转换器类的类加载器
+     * @return {@link Map }<{@link String }, {@link MappingConvert }<{@link ? }>>
+     */
+    private static Map<String, MappingConvert<?>> serviceLoadAllConfigsAsSingleMap(ClassLoader classLoader) {
+        Set<String> classNames = loadServiceIndex(classLoader);
+        Map<String, MappingConvert<?>> dataMap = new HashMap<>((int) (classNames.size() / 0.75f) + 1);
+        int failures = 0;
+        for (String converterClassName : classNames) {
+            MappingConvert<?> converter;
+            try {
+                converter = createConverterInstance(Class.forName(converterClassName, true, classLoader));
+            } catch (ClassNotFoundException | LinkageError | RuntimeException e) {
+                log.warn("服务索引中的转换器无法加载，已跳过: {}", converterClassName);
+                failures++;
+                continue;
+            }
+            String className = converterClassName.startsWith(PACKAGE_PREFIX)
+                    ? converterClassName.substring(PACKAGE_PREFIX.length())
+                    : getTargetClassName(converter);
+            dataMap.putIfAbsent(className, converter);
+        }
+        if (dataMap.isEmpty() && failures > 0) {
+            log.warn("服务索引中的转换器均无法加载，降级到注册表加载");
+        }
+        return dataMap.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(dataMap);
+    }
+
+
+    /**
+     * 通过服务索引以懒加载方式将所有配置加载为单个映射
+     * <p>
+     * 服务索引只按文本读取，不经过{@link ServiceLoader}，因此不会加载任何转换器类。
+     * 生成的转换器类名固定为{@link #PACKAGE_PREFIX}加实体类的二进制名（即{@link Class#getName()}，嵌套类为{@code Outer$Inner}），
+     * 据此即可还原实体类名；
+     * 不符合该命名规则的手写转换器无法推断实体类型，仍然立即实例化。
+     * </p>
+     *
+     * @param classLoader 用于加载转换器类的类加载器
+     * @return {@link Map }<{@link String }, {@link MappingConvert }<{@link ? }>>
+     */
+    private static Map<String, MappingConvert<?>> lazyServiceLoadAllConfigsAsSingleMap(ClassLoader classLoader) {
+        Map<String, String> registry = new LinkedHashMap<>();
+        List<String> eagerClassNames = new ArrayList<>();
+
+        for (String converterClassName : loadServiceIndex(classLoader)) {
+            if (converterClassName.startsWith(PACKAGE_PREFIX)) {
+                registry.putIfAbsent(converterClassName.substring(PACKAGE_PREFIX.length()), converterClassName);
+            } else {
+                eagerClassNames.add(converterClassName);
+            }
+        }
+
+        Map<String, MappingConvert<?>> dataMap = new HashMap<>(lazyLoadAllConfigsAsSingleMap(registry, classLoader));
+        for (String converterClassName : eagerClassNames) {
+            try {
+                MappingConvert<?> converter = createConverterInstance(Class.forName(converterClassName, true, classLoader));
+                dataMap.putIfAbsent(getTargetClassName(converter), converter);
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.warn("服务索引中的转换器无法加载，已跳过: {}", converterClassName);
+            }
+        }
+        return Collections.unmodifiableMap(dataMap);
+    }
+
+
+    /**
+     * 根据注册表以懒加载方式将所有配置加载为单个映射
+     *
+     * @param registry    原始类全限定名与转换器类全限定名的映射
+     * @param classLoader 用于加载转换器类的类加载器
+     * @return {@link Map }<{@link String }, {@link MappingConvert }<{@link ? }>>，值均为{@link LazyMappingConvert}
+     */
+    private static Map<String, MappingConvert<?>> lazyLoadAllConfigsAsSingleMap(Map<String, String> registry, ClassLoader classLoader) {
+        Map<String, MappingConvert<?>> dataMap = new HashMap<>((int) (registry.size() / 0.75f) + 1);
+        for (Map.Entry<String, String> entry : registry.entrySet()) {
+            dataMap.put(entry.getKey(), new LazyMappingConvert<>(entry.getValue(), classLoader));
+        }
+        return Collections.unmodifiableMap(dataMap);
+    }
+
+
+    /**
+     * 根据注册表将所有配置加载为单个映射
+     * <p>
+     * 注册表中列出但无法加载的转换器（例如注册表文件已过期）会被跳过并记录警告，不影响其他转换器。
+     * </p>
+     *
+     * @param registry    原始类全限定名与转换器类全限定名的映射
+     * @param classLoader 用于加载转换器类的类加载器
+     * @return {@link Map }<{@link String }, {@link MappingConvert }<{@link ? }>>
+     */
+    private static Map<String, MappingConvert<?>> registryLoadAllConfigsAsSingleMap(Map<String, String> registry, ClassLoader classLoader) {
+        Map<String, MappingConvert<?>> dataMap = new HashMap<>((int) (registry.size() / 0.75f) + 1);
+
+        for (Map.Entry<String, String> entry : registry.entrySet()) {
+            Class<?> converterClass;
+            try {
+                converterClass = Class.forName(entry.getValue(), true, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.warn("注册表中的转换器无法加载，已跳过: {} -> {}", entry.getKey(), entry.getValue());
+                continue;
+            }
+            dataMap.put(entry.getKey(), createConverterInstance(converterClass));
+        }
+
+        return Collections.unmodifiableMap(dataMap);
+    }
+
+
+    /**
+     * 读取并合并类路径上所有的注册表文件
+     * <p>
+     * 每个包含生成转换器的 jar 都会携带一份注册表文件，这里通过{@link ClassLoader#getResources(String)}
+     * 读取全部副本后合并。同一个类在多个注册表中出现时，保留最先读取到的条目。
+     * </p>
+     *
+     * @param classLoader 类加载器
+     * @return 原始类全限定名与转换器类全限定名的映射，找不到任何注册表文件时返回空映射
+     */
+    private static Map<String, String> loadRegistry(ClassLoader classLoader) {
+        Map<String, String> registry = new LinkedHashMap<>();
+
+        Enumeration<URL> resources;
+        try {
+            resources = classLoader.getResources(CONFIG_FILE_PATH);
+        } catch (IOException e) {
+            log.warn("读取转换器注册表失败: {}", e.getMessage());
+            return registry;
+        }
+
+        while (resources.hasMoreElements()) {
+            URL url = resources.nextElement();
+            try (InputStream in = url.openStream()) {
+                JSONObject json = JSONUtil.parseObj(IoUtil.read(in, StandardCharsets.UTF_8));
+                for (Map.Entry<String, Object> entry : json.entrySet()) {
+                    registry.putIfAbsent(entry.getKey(), String.valueOf(entry.getValue()));
+                }
+            } catch (Exception e) {
+                log.warn("解析转换器注册表失败，已跳过: {}, {}", url, e.getMessage());
+            }
+        }
+
+        return registry;
+    }
+
+
+    /**
+     * 以文本方式读取类路径上所有的服务索引文件
+     * <p>
+     * 按照{@link ServiceLoader}的文件格式解析：每行一个类名，{@code #}之后为注释，忽略空行。
+     * </p>
+     *
+     * @param classLoader 类加载器
+     * @return 去重后的转换器类全限定名，找不到服务索引时返回空集合
+     */
+    private static Set<String> loadServiceIndex(ClassLoader classLoader) {
+        Set<String> classNames = new LinkedHashSet<>();
+
+        Enumeration<URL> resources;
+        try {
+            resources = classLoader.getResources(SERVICE_FILE_PATH);
+        } catch (IOException e) {
+            log.warn("读取转换器服务索引失败: {}", e.getMessage());
+            return classNames;
+        }
+
+        while (resources.hasMoreElements()) {
+            URL url = resources.nextElement();
+            try (Reader reader = new InputStreamReader(url.openStream(), StandardCharsets.UTF_8)) {
+                readServiceIndex(reader, classNames);
+            } catch (IOException e) {
+                log.warn("解析转换器服务索引失败，已跳过: {}, {}", url, e.getMessage());
+            }
+        }
+
+        return classNames;
+    }
+
+
+    /**
+     * 按照{@link ServiceLoader}的文件格式解析一个服务索引文件
+     * <p>
+     * 每行一个类名，{@code #}之后为注释，忽略空行。注解处理器合并已有的服务索引时也使用该方法。
+     * </p>
+     *
+     * @param reader     服务索引内容，不会被关闭
+     * @param classNames 解析出的类名追加到该集合中
+     * @throws IOException 如果读取失败
+     */
+    public static void readServiceIndex(Reader reader, Set<String> classNames) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            int comment = line.indexOf('#');
+            if (comment >= 0) {
+                line = line.substring(0, comment);
+            }
+            line = line.trim();
+            if (!line.isEmpty()) {
+                classNames.add(line);
+            }
+        }
+    }
+
 
     /**
      * 扫描将所有配置加载为单个映射
@@ -39,15 +436,29 @@ public class ConfigLoader {
      * @return {@link Map }<{@link String }, {@link MappingConvert }<{@link ? }>>
      */
     public static Map<String, MappingConvert<?>> scanLoadAllConfigsAsSingleMap() {
+        return scanLoadAllConfigsAsSingleMap(ClassUtil.getClassLoader());
+    }
+
+
+    /**
+     * 使用指定的类加载器扫描将所有配置加载为单个映射
+     *
+     * @param classLoader 用于扫描和加载转换器类的类加载器
+     * @return {@link Map }<{@link String }, {@link MappingConvert }<{@link ? }>>
+     */
+    public static Map<String, MappingConvert<?>> scanLoadAllConfigsAsSingleMap(ClassLoader classLoader) {
         // 1. 扫描指定包下所有实现了MappingConvert接口的类
-        Set<Class<?>> classes = ClassUtil.scanPackageBySuper("auto.mappings", MappingConvert.class);
+        ClassScanner scanner = new ClassScanner("auto.mappings",
+                clazz -> MappingConvert.class.isAssignableFrom(clazz) && !MappingConvert.class.equals(clazz));
+        scanner.setClassLoader(classLoader);
+        Set<Class<?>> classes = scanner.scan();
 
         // 2. 创建转换器实例并构建不可修改的映射表
         Map<String, MappingConvert<?>> dataMap = classes.stream()
                 .filter(Objects::nonNull)
                 .map(ConfigLoader::createConverterInstance)
                 .collect(Collectors.toMap(
-                        converter -> getGenericType(converter.getClass()).getName(),
+                        ConfigLoader::getTargetClassName,
                         converter -> converter,
                         (existing, replacement) -> existing // 重复键处理策略：保留现有值
                 ));
@@ -56,6 +467,39 @@ public class ConfigLoader {
     }
 
 
+    /**
+     * 辅助方法：获取转换器对应实体类型的全限定名
+     * <p>
+     * 优先使用生成代码提供的{@link MappingConvert#getTargetClass()}，未提供时回退到泛型解析。
+     * </p>
+     *
+     * @param converter 转换器实例
+     * @return 实体类型的全限定名
+     */
+    private static String getTargetClassName(MappingConvert<?> converter) {
+        return resolveTargetClass(converter).getName();
+    }
+
+
+    /**
+     * 获取转换器对应的实体类型
+     * <p>
+     * 优先使用生成代码提供的{@link MappingConvert#getTargetClass()}，未提供时回退到泛型解析。
+     * </p>
+     *
+     * @param converter 转换器实例
+     * @return 实体类型
+     * @throws IllegalStateException 无法确定实体类型时抛出
+     */
+    public static Class<?> resolveTargetClass(MappingConvert<?> converter) {
+        Class<?> targetClass = converter.getTargetClass();
+        if (targetClass == null) {
+            targetClass = getGenericType(converter.getClass());
+        }
+        return targetClass;
+    }
+
+
     /**
      * 辅助方法：获取MappingConvert的泛型类型
      *
@@ -88,11 +532,15 @@ public class ConfigLoader {
      * @return 转换器实例
      * @throws RuntimeException 当实例创建失败时抛出
      */
-    private static MappingConvert<?> createConverterInstance(Class<?> clazz) {
+    static MappingConvert<?> createConverterInstance(Class<?> clazz) {
+        Object event = ConvertEvents.beginInstantiation();
+        MappingConvert<?> converter;
         try {
-            return (MappingConvert<?>) clazz.getDeclaredConstructor().newInstance();
+            converter = (MappingConvert<?>) clazz.getDeclaredConstructor().newInstance();
         } catch (Exception e) {
             throw new RuntimeException("创建转换器实例失败: " + clazz.getName(), e);
         }
+        ConvertEvents.endInstantiation(event, clazz);
+        return converter;
     }
 }
\ No newline at end of file
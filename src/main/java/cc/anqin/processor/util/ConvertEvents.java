@@ -0,0 +1,88 @@
+package cc.anqin.processor.util;
+
+import cc.anqin.processor.enums.ConvertOperationEnum;
+import cc.anqin.processor.enums.LoadStrategyEnum;
+
+/**
+ * Java Flight Recorder 事件的发布入口
+ * <p>
+ * 这是 Java 8 下的空实现：所有方法都不做任何事，JIT 内联后没有运行时开销。
+ * 在 Java 11 及以上版本运行时，多版本 JAR 中{@code META-INF/versions/11}下的同名类会替换该实现，
+ * 向 JFR 发布注册表加载、转换器实例化和慢转换事件，详见{@code src/main/java11}中的实现。
+ * </p>
+ * <p>
+ * 每类事件都由一对{@code begin}/{@code end}方法组成，{@code begin}返回的对象只能原样传给对应的{@code end}，
+ * 转换失败时可以不调用{@code end}，该次事件随之丢弃。两个版本的方法签名必须保持一致。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+public final class ConvertEvents {
+
+    /**
+     * 私有构造函数防止实例化
+     */
+    private ConvertEvents() {
+        throw new UnsupportedOperationException("ConvertEvents是一个工具类，不能被实例化");
+    }
+
+
+    /**
+     * 开始记录一次注册表加载
+     *
+     * @return 事件对象
+     */
+    public static Object beginRegistryLoad() {
+        return null;
+    }
+
+    /**
+     * 结束并提交注册表加载事件
+     *
+     * @param event          {@link #beginRegistryLoad()}返回的事件对象
+     * @param strategy       采用的加载策略
+     * @param lazy           是否懒加载
+     * @param converterCount 加载的转换器数量
+     */
+    public static void endRegistryLoad(Object event, LoadStrategyEnum strategy, boolean lazy, int converterCount) {
+    }
+
+    /**
+     * 开始记录一次转换器实例化
+     *
+     * @return 事件对象
+     */
+    public static Object beginInstantiation() {
+        return null;
+    }
+
+    /**
+     * 结束并提交转换器实例化事件
+     *
+     * @param event          {@link #beginInstantiation()}返回的事件对象
+     * @param converterClass 转换器类
+     */
+    public static void endInstantiation(Object event, Class<?> converterClass) {
+    }
+
+    /**
+     * 开始记录一次转换
+     *
+     * @return 事件对象
+     */
+    public static Object beginConversion() {
+        return null;
+    }
+
+    /**
+     * 结束一次转换，耗时超过阈值时提交慢转换事件
+     *
+     * @param event      {@link #beginConversion()}返回的事件对象
+     * @param type       实体类型
+     * @param operation  转换操作
+     * @param fieldCount 读取或写入的字段数
+     */
+    public static void endConversion(Object event, Class<?> type, ConvertOperationEnum operation, int fieldCount) {
+    }
+}
@@ -0,0 +1,294 @@
+package cc.anqin.processor.util;
+
+import com.squareup.javapoet.CodeBlock;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * 字段访问方式的解析工具类
+ * <p>
+ * 在编译期扫描实体类（包含父类）的方法，为每个字段确定生成代码中实际使用的读取和写入方式，
+ * 使生成的转换器不依赖反射：
+ * </p>
+ *
+ * 读取顺序：
+ * <ol>
+ *   <li>record 组件的访问器，例如{@code entity.name()}</li>
+ *   <li>公共的{@code getXxx()}方法</li>
+ *   <li>{@code boolean}/{@link Boolean}字段的公共{@code isXxx()}方法；
+ *       字段本身名为{@code isXxx}时，也接受与字段同名的方法</li>
+ *   <li>公共字段，例如{@code entity.name}</li>
+ * </ol>
+ *
+ * 写入顺序：
+ * <ol>
+ *   <li>公共的{@code setXxx(value)}方法；{@code boolean}字段名为{@code isXxx}时，也接受{@code setXxx}</li>
+ *   <li>公共的非 final 字段，例如{@code bean.name = value}</li>
+ * </ol>
+ *
+ * 都找不到时按命名约定生成方法调用（与早期版本一致），以兼容 Lombok 在本处理器之后才生成的方法：
+ * 标注了 Lombok 的{@code @Data}、{@code @Getter}等注解时遵循 Lombok 对{@code boolean}字段的命名规则，
+ * 否则使用{@code getXxx}/{@code setXxx}。
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see CollectFields
+ */
+public final class FieldAccessors {
+
+    /** {@code ElementKind.RECORD}的名称，Java 8 的 API 中没有该常量，按名称比较 */
+    private static final String RECORD_KIND = "RECORD";
+
+    /** 会生成 getter 的 Lombok 注解 */
+    private static final String[] LOMBOK_GETTERS = {"lombok.Data", "lombok.Getter", "lombok.Value"};
+
+    /** 会生成 setter 的 Lombok 注解 */
+    private static final String[] LOMBOK_SETTERS = {"lombok.Data", "lombok.Setter"};
+
+
+    /**
+     * 私有构造函数防止实例化
+     */
+    private FieldAccessors() {
+        throw new UnsupportedOperationException("FieldAccessors是一个工具类，不能被实例化");
+    }
+
+
+    /**
+     * 判断类型是否是 record
+     *
+     * @param typeElement 类型元素
+     * @return 是 record 时返回true
+     */
+    public static boolean isRecord(Element typeElement) {
+        return RECORD_KIND.equals(typeElement.getKind().name());
+    }
+
+    /**
+     * 生成读取字段值的表达式
+     *
+     * @param field         字段元素
+     * @param target        实体对象的变量名，例如{@code entity}
+     * @param processingEnv 提供处理工具的环境
+     * @return 读取表达式，例如{@code entity.getName()}、{@code entity.isActive()}、{@code entity.name()}或{@code entity.name}
+     */
+    public static CodeBlock read(VariableElement field, String target, ProcessingEnvironment processingEnv) {
+        String getter = findGetter(field, processingEnv);
+        if (getter != null) {
+            return CodeBlock.of("$L.$L()", target, getter);
+        }
+        if (isPublic(field)) {
+            return CodeBlock.of("$L.$L", target, field.getSimpleName());
+        }
+        return CodeBlock.of("$L.$L()", target, defaultGetterName(field));
+    }
+
+    /**
+     * 判断字段是否能确定地被读取
+     * <p>
+     * 找到了访问器方法、字段是公共字段，或者标注了会生成 getter 的 Lombok 注解时返回true。
+     * 用于决定 final 字段是否参与对象到Map的转换。
+     * </p>
+     *
+     * @param field         字段元素
+     * @param processingEnv 提供处理工具的环境
+     * @return 可以读取时返回true
+     */
+    public static boolean isReadable(VariableElement field, ProcessingEnvironment processingEnv) {
+        return findGetter(field, processingEnv) != null || isPublic(field) || hasLombok(field, LOMBOK_GETTERS);
+    }
+
+    /**
+     * 生成写入字段值的语句
+     *
+     * @param field         字段元素
+     * @param target        实体对象的变量名，例如{@code bean}
+     * @param value         值表达式
+     * @param processingEnv 提供处理工具的环境
+     * @return 写入语句，例如{@code bean.setName(value)}或{@code bean.name = value}
+     */
+    public static CodeBlock write(VariableElement field, String target, CodeBlock value, ProcessingEnvironment processingEnv) {
+        String setter = findSetter(field, processingEnv);
+        if (setter != null) {
+            return CodeBlock.of("$L.$L($L)", target, setter, value);
+        }
+        if (isPublic(field) && !field.getModifiers().contains(Modifier.FINAL)) {
+            return CodeBlock.of("$L.$L = $L", target, field.getSimpleName(), value);
+        }
+        return CodeBlock.of("$L.$L($L)", target, defaultSetterName(field), value);
+    }
+
+
+    /**
+     * 在字段所属类型（包含父类）中查找读取方法
+     *
+     * @param field         字段元素
+     * @param processingEnv 提供处理工具的环境
+     * @return 方法名，找不到时返回null
+     */
+    private static String findGetter(VariableElement field, ProcessingEnvironment processingEnv) {
+        String name = field.getSimpleName().toString();
+        TypeElement owner = (TypeElement) field.getEnclosingElement();
+        if (isRecord(owner)) {
+            return name;
+        }
+        if (hasMethod(owner, "get" + capitalize(name), 0, processingEnv)) {
+            return "get" + capitalize(name);
+        }
+        if (isBoolean(field)) {
+            if (hasMethod(owner, "is" + capitalize(name), 0, processingEnv)) {
+                return "is" + capitalize(name);
+            }
+            if (hasIsPrefix(name) && hasMethod(owner, name, 0, processingEnv)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 在字段所属类型（包含父类）中查找写入方法
+     *
+     * @param field         字段元素
+     * @param processingEnv 提供处理工具的环境
+     * @return 方法名，找不到时返回null
+     */
+    private static String findSetter(VariableElement field, ProcessingEnvironment processingEnv) {
+        String name = field.getSimpleName().toString();
+        TypeElement owner = (TypeElement) field.getEnclosingElement();
+        if (hasMethod(owner, "set" + capitalize(name), 1, processingEnv)) {
+            return "set" + capitalize(name);
+        }
+        if (isBoolean(field) && hasIsPrefix(name) && hasMethod(owner, "set" + name.substring(2), 1, processingEnv)) {
+            return "set" + name.substring(2);
+        }
+        return null;
+    }
+
+    /**
+     * 按命名约定推断 getter 方法名
+     *
+     * @param field 字段元素
+     * @return getter 方法名
+     */
+    private static String defaultGetterName(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (field.asType().getKind() == TypeKind.BOOLEAN && hasLombok(field, LOMBOK_GETTERS)) {
+            return hasIsPrefix(name) ? name : "is" + capitalize(name);
+        }
+        return "get" + capitalize(name);
+    }
+
+    /**
+     * 按命名约定推断 setter 方法名
+     *
+     * @param field 字段元素
+     * @return setter 方法名
+     */
+    private static String defaultSetterName(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (field.asType().getKind() == TypeKind.BOOLEAN && hasIsPrefix(name) && hasLombok(field, LOMBOK_SETTERS)) {
+            return "set" + name.substring(2);
+        }
+        return "set" + capitalize(name);
+    }
+
+    /**
+     * 判断类型（包含父类）中是否存在指定名称和参数个数的公共实例方法
+     *
+     * @param owner          类型元素
+     * @param methodName     方法名
+     * @param parameterCount 参数个数
+     * @param processingEnv  提供处理工具的环境
+     * @return 存在时返回true
+     */
+    private static boolean hasMethod(TypeElement owner, String methodName, int parameterCount, ProcessingEnvironment processingEnv) {
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(owner))) {
+            if (method.getSimpleName().contentEquals(methodName)
+                    && method.getParameters().size() == parameterCount
+                    && method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 判断字段或其所属类型上是否有指定的 Lombok 注解
+     *
+     * @param field       字段元素
+     * @param annotations 注解的全限定名
+     * @return 存在任一注解时返回true
+     */
+    private static boolean hasLombok(VariableElement field, String[] annotations) {
+        return hasAnnotation(field, annotations) || hasAnnotation(field.getEnclosingElement(), annotations);
+    }
+
+    /**
+     * 判断元素上是否有指定的注解
+     *
+     * @param element     元素
+     * @param annotations 注解的全限定名
+     * @return 存在任一注解时返回true
+     */
+    private static boolean hasAnnotation(Element element, String[] annotations) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String name = mirror.getAnnotationType().toString();
+            for (String annotation : annotations) {
+                if (annotation.equals(name)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 判断字段是否是公共字段
+     *
+     * @param field 字段元素
+     * @return 是公共字段时返回true
+     */
+    private static boolean isPublic(VariableElement field) {
+        return field.getModifiers().contains(Modifier.PUBLIC);
+    }
+
+    /**
+     * 判断字段是否是{@code boolean}或{@link Boolean}类型
+     *
+     * @param field 字段元素
+     * @return 是布尔类型时返回true
+     */
+    private static boolean isBoolean(VariableElement field) {
+        return field.asType().getKind() == TypeKind.BOOLEAN || "java.lang.Boolean".equals(field.asType().toString());
+    }
+
+    /**
+     * 判断字段名是否形如{@code isXxx}
+     *
+     * @param name 字段名
+     * @return 以{@code is}开头且紧跟大写字母时返回true
+     */
+    private static boolean hasIsPrefix(String name) {
+        return name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2));
+    }
+
+    /**
+     * 首字母大写
+     *
+     * @param name 字段名
+     * @return 首字母大写后的名称
+     */
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,216 @@
+package cc.anqin.processor.util;
+
+import cc.anqin.processor.base.ConversionErrors;
+import cc.anqin.processor.base.FieldSink;
+import cc.anqin.processor.base.FieldSource;
+import cc.anqin.processor.base.MappingConvert;
+import cc.anqin.processor.base.PrimitiveFieldSink;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+
+/**
+ * 延迟加载的转换器
+ * <p>
+ * 懒加载模式下，{@link ConfigLoader}只为每个实体类登记转换器的类名，不加载也不实例化转换器类。
+ * 第一次调用{@link #toMap}或{@link #toBean}时才加载并创建真正的转换器，之后的调用直接委托给该实例。
+ * </p>
+ * <p>
+ * 实例的发布采用双重检查锁定：并发的首次调用只会创建一个转换器实例，创建完成后的读取不再加锁。
+ * 创建失败时不会缓存失败结果，下一次调用会重新尝试。
+ * </p>
+ *
+ * @param <T> 需要转换的实体类型
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see ConfigLoader#LAZY_PROPERTY
+ */
+public final class LazyMappingConvert<T> implements MappingConvert<T> {
+
+    /** 转换器类的全限定名 */
+    private final String converterClassName;
+
+    /**
+     * 用于加载转换器类的类加载器
+     * <p>
+     * 以弱引用持有，避免尚未使用的转换器阻止所在模块的类加载器被回收；为{@code null}时表示引导类加载器。
+     * </p>
+     */
+    private final WeakReference<ClassLoader> classLoaderRef;
+
+    /** 真正的转换器实例，首次使用时创建 */
+    private volatile MappingConvert<T> delegate;
+
+
+    /**
+     * 创建延迟加载的转换器
+     *
+     * @param converterClassName 转换器类的全限定名
+     * @param classLoader        用于加载转换器类的类加载器
+     */
+    LazyMappingConvert(String converterClassName, ClassLoader classLoader) {
+        this.converterClassName = converterClassName;
+        this.classLoaderRef = classLoader == null ? null : new WeakReference<>(classLoader);
+    }
+
+
+    /**
+     * 获取真正的转换器实例，首次调用时加载并创建
+     *
+     * @return 转换器实例
+     * @throws RuntimeException 当转换器类加载或实例化失败时抛出
+     * @throws IllegalStateException 当转换器所在的类加载器已被回收时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public MappingConvert<T> getDelegate() {
+        MappingConvert<T> convert = delegate;
+        if (convert == null) {
+            synchronized (this) {
+                convert = delegate;
+                if (convert == null) {
+                    ClassLoader classLoader = null;
+                    if (classLoaderRef != null && (classLoader = classLoaderRef.get()) == null) {
+                        throw new IllegalStateException("转换器所在的类加载器已被回收: " + converterClassName);
+                    }
+                    Class<?> converterClass;
+                    try {
+                        converterClass = Class.forName(converterClassName, true, classLoader);
+                    } catch (ClassNotFoundException e) {
+                        throw new RuntimeException("加载转换器类失败: " + converterClassName, e);
+                    }
+                    convert = (MappingConvert<T>) ConfigLoader.createConverterInstance(converterClass);
+                    delegate = convert;
+                }
+            }
+        }
+        return convert;
+    }
+
+    /**
+     * 转换器是否已经完成加载
+     *
+     * @return 已创建转换器实例时返回true
+     */
+    public boolean isLoaded() {
+        return delegate != null;
+    }
+
+    /**
+     * 获取转换器类的全限定名
+     *
+     * @return 转换器类的全限定名
+     */
+    public String getConverterClassName() {
+        return converterClassName;
+    }
+
+    @Override
+    public Map<String, Object> toMap(T entity) {
+        return getDelegate().toMap(entity);
+    }
+
+    @Override
+    public T toBean(Map<String, Object> dataMap) {
+        return getDelegate().toBean(dataMap);
+    }
+
+    @Override
+    public T toBean(FieldSource source) {
+        return getDelegate().toBean(source);
+    }
+
+    @Override
+    public T toBean(Map<String, Object> dataMap, ConversionErrors errors) {
+        return getDelegate().toBean(dataMap, errors);
+    }
+
+    @Override
+    public Class<T> getTargetClass() {
+        return getDelegate().getTargetClass();
+    }
+
+    @Override
+    public String[] mapKeys() {
+        return getDelegate().mapKeys();
+    }
+
+    @Override
+    public int mapKeyIndex(String key) {
+        return getDelegate().mapKeyIndex(key);
+    }
+
+    @Override
+    public Object readField(T entity, int index) {
+        return getDelegate().readField(entity, index);
+    }
+
+    @Override
+    public String[] beanKeys() {
+        return getDelegate().beanKeys();
+    }
+
+    @Override
+    public int beanKeyIndex(String key) {
+        return getDelegate().beanKeyIndex(key);
+    }
+
+    @Override
+    public int getInt(T entity, int index) {
+        return getDelegate().getInt(entity, index);
+    }
+
+    @Override
+    public long getLong(T entity, int index) {
+        return getDelegate().getLong(entity, index);
+    }
+
+    @Override
+    public double getDouble(T entity, int index) {
+        return getDelegate().getDouble(entity, index);
+    }
+
+    @Override
+    public boolean getBoolean(T entity, int index) {
+        return getDelegate().getBoolean(entity, index);
+    }
+
+    @Override
+    public void setInt(T bean, int index, int value) {
+        getDelegate().setInt(bean, index, value);
+    }
+
+    @Override
+    public void setLong(T bean, int index, long value) {
+        getDelegate().setLong(bean, index, value);
+    }
+
+    @Override
+    public void setDouble(T bean, int index, double value) {
+        getDelegate().setDouble(bean, index, value);
+    }
+
+    @Override
+    public void setBoolean(T bean, int index, boolean value) {
+        getDelegate().setBoolean(bean, index, value);
+    }
+
+    @Override
+    public void writePrimitives(T entity, PrimitiveFieldSink sink) {
+        getDelegate().writePrimitives(entity, sink);
+    }
+
+    @Override
+    public void writeTo(T entity, FieldSink sink) {
+        getDelegate().writeTo(entity, sink);
+    }
+
+    @Override
+    public Map<String, Object> toMapView(T entity) {
+        return getDelegate().toMapView(entity);
+    }
+
+    @Override
+    public String toString() {
+        return "LazyMappingConvert{" + converterClassName + (isLoaded() ? ", loaded" : "") + "}";
+    }
+}
@@ -0,0 +1,362 @@
+package cc.anqin.processor.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * 基于{@link Flow}的转换处理器
+ * <p>
+ * 作为响应式管道中的一个处理阶段，接收上游的实体对象（或Map），使用已注册的{@link MappingConvert}
+ * 转换后发布给下游。转换器在创建处理器时只查找一次。
+ * </p>
+ *
+ * 背压与批量：
+ * <ul>
+ *   <li>处理器不缓存超出下游需求的数据：下游每请求{@code n}个元素，处理器向上游请求{@code n * batchSize}个元素</li>
+ *   <li>批量模式下每收满{@code batchSize}个转换结果，才以一个{@link List}调用一次下游的{@code onNext}；
+ *       上游完成时，不足一批的剩余结果作为最后一批发布</li>
+ *   <li>逐个模式下每个上游元素对应一次下游的{@code onNext}</li>
+ * </ul>
+ *
+ * 错误处理：转换失败时取消上游订阅，并以该异常调用下游的{@code onError}；上游的错误原样转交给下游，未发布的批次被丢弃。
+ * 下游取消后，上游在取消生效前仍发来的元素会被丢弃，不再发布给下游。
+ * 处理器只支持一个订阅者，之后的订阅者会收到{@link IllegalStateException}。
+ *
+ * 使用示例：
+ * <pre>
+ * ConvertProcessor&lt;User, List&lt;Map&lt;String, Object&gt;&gt;&gt; processor = ConvertProcessor.toMapBatches(User.class, 500);
+ * userPublisher.subscribe(processor);
+ * processor.subscribe(redisWriter);
+ * </pre>
+ *
+ * <p>
+ * 该类位于多版本 JAR 的 {@code META-INF/versions/11} 中，只在 Java 11 及以上版本可用。
+ * </p>
+ *
+ * @param <S> 上游元素类型
+ * @param <O> 下游元素类型，逐个模式下为转换结果，批量模式下为转换结果的{@link List}
+ * @author Mr.An
+ * @since 2025/09/10
+ * @see ConvertMap
+ */
+public final class ConvertProcessor<S, O> implements Flow.Processor<S, O> {
+
+    /** 单个元素的转换函数 */
+    private final Function<? super S, ?> mapper;
+
+    /** 每批的元素数量，逐个模式下为1 */
+    private final int batchSize;
+
+    /** 是否以{@link List}发布批量结果 */
+    private final boolean batching;
+
+    /** 尚未发布的批次，访问时需持有处理器的锁；下游取消或出错后为null */
+    private List<Object> buffer;
+
+    /** 上游订阅 */
+    private Flow.Subscription upstream;
+
+    /** 下游订阅者，在锁内设置，上游信号中无锁读取 */
+    private volatile Flow.Subscriber<? super O> downstream;
+
+    /** 上游订阅建立前累积的请求数量 */
+    private long pendingRequest;
+
+    /** 下游是否已取消 */
+    private volatile boolean cancelled;
+
+    /** 是否已向下游发出终止信号 */
+    private volatile boolean terminated;
+
+    /** 下游订阅前上游已完成时为true */
+    private boolean upstreamCompleted;
+
+    /** 下游订阅前上游发生的错误 */
+    private Throwable upstreamError;
+
+
+    private ConvertProcessor(Function<? super S, ?> mapper, int batchSize, boolean batching) {
+        this.mapper = mapper;
+        this.batchSize = batchSize;
+        this.batching = batching;
+        this.buffer = batching ? new ArrayList<>(batchSize) : null;
+    }
+
+
+    /**
+     * 创建逐个转换对象到Map的处理器
+     *
+     * @param <T>   对象类型
+     * @param clazz 对象类型，不能为null
+     * @return 处理器
+     * @throws IllegalArgumentException 如果clazz为null或找不到对应的转换器
+     */
+    public static <T> ConvertProcessor<T, Map<String, Object>> toMap(Class<T> clazz) {
+        return new ConvertProcessor<>(ConvertMap.getMappingConvert(clazz)::toMap, 1, false);
+    }
+
+    /**
+     * 创建批量转换对象到Map的处理器
+     *
+     * @param <T>       对象类型
+     * @param clazz     对象类型，不能为null
+     * @param batchSize 每批的元素数量，必须大于0
+     * @return 处理器
+     * @throws IllegalArgumentException 如果参数不合法或找不到对应的转换器
+     */
+    public static <T> ConvertProcessor<T, List<Map<String, Object>>> toMapBatches(Class<T> clazz, int batchSize) {
+        checkBatchSize(batchSize);
+        return new ConvertProcessor<>(ConvertMap.getMappingConvert(clazz)::toMap, batchSize, true);
+    }
+
+    /**
+     * 创建逐个转换Map到对象的处理器
+     *
+     * @param <T>   目标对象类型
+     * @param clazz 目标对象类型，不能为null
+     * @return 处理器
+     * @throws IllegalArgumentException 如果clazz为null或找不到对应的转换器
+     */
+    public static <T> ConvertProcessor<Map<String, Object>, T> toBean(Class<T> clazz) {
+        MappingConvert<T> convert = ConvertMap.getMappingConvert(clazz);
+        return new ConvertProcessor<>(convert::toBean, 1, false);
+    }
+
+    /**
+     * 创建批量转换Map到对象的处理器
+     *
+     * @param <T>       目标对象类型
+     * @param clazz     目标对象类型，不能为null
+     * @param batchSize 每批的元素数量，必须大于0
+     * @return 处理器
+     * @throws IllegalArgumentException 如果参数不合法或找不到对应的转换器
+     */
+    public static <T> ConvertProcessor<Map<String, Object>, List<T>> toBeanBatches(Class<T> clazz, int batchSize) {
+        checkBatchSize(batchSize);
+        MappingConvert<T> convert = ConvertMap.getMappingConvert(clazz);
+        return new ConvertProcessor<>(convert::toBean, batchSize, true);
+    }
+
+    private static void checkBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize 必须大于0: " + batchSize);
+        }
+    }
+
+
+    // ---------------------------------------------------------------- Publisher
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super O> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber不能为null");
+        }
+        boolean completed;
+        Throwable error;
+        synchronized (this) {
+            if (downstream != null) {
+                subscriber.onSubscribe(NoopSubscription.INSTANCE);
+                subscriber.onError(new IllegalStateException("ConvertProcessor只支持一个订阅者"));
+                return;
+            }
+            downstream = subscriber;
+            completed = upstreamCompleted;
+            error = upstreamError;
+        }
+
+        subscriber.onSubscribe(new DownstreamSubscription());
+        if (error != null) {
+            terminate(error);
+        } else if (completed) {
+            terminate(null);
+        }
+    }
+
+
+    // ---------------------------------------------------------------- Subscriber
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        long request;
+        boolean cancel;
+        synchronized (this) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            request = pendingRequest;
+            pendingRequest = 0;
+            cancel = cancelled;
+        }
+
+        if (cancel) {
+            subscription.cancel();
+        } else if (request > 0) {
+            subscription.request(request);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onNext(S item) {
+        if (terminated || cancelled) {
+            return;
+        }
+        Object result;
+        try {
+            result = mapper.apply(item);
+        } catch (Throwable e) {
+            upstream.cancel();
+            terminate(e);
+            return;
+        }
+
+        Object output;
+        if (!batching) {
+            output = result;
+        } else {
+            synchronized (this) {
+                if (buffer == null) {
+                    return;
+                }
+                buffer.add(result);
+                if (buffer.size() < batchSize) {
+                    return;
+                }
+                output = buffer;
+                buffer = new ArrayList<>(batchSize);
+            }
+        }
+        // 下游可能在转换期间取消
+        if (!terminated && !cancelled) {
+            downstream.onNext((O) output);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        synchronized (this) {
+            if (downstream == null) {
+                upstreamError = throwable;
+                return;
+            }
+            buffer = null;
+        }
+        terminate(throwable);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onComplete() {
+        List<Object> batch;
+        synchronized (this) {
+            if (downstream == null) {
+                upstreamCompleted = true;
+                return;
+            }
+            batch = buffer;
+            buffer = null;
+        }
+        if (batch != null && !batch.isEmpty() && !terminated && !cancelled) {
+            downstream.onNext((O) batch);
+        }
+        terminate(null);
+    }
+
+
+    /**
+     * 向下游发出终止信号，只发出一次
+     *
+     * @param error 错误，为null时发出完成信号
+     */
+    private void terminate(Throwable error) {
+        synchronized (this) {
+            if (terminated || cancelled) {
+                return;
+            }
+            terminated = true;
+        }
+        if (error == null) {
+            downstream.onComplete();
+        } else {
+            downstream.onError(error);
+        }
+    }
+
+    /**
+     * 下游请求{@code n}个元素时，向上游请求对应数量的元素
+     *
+     * @param n 下游请求的元素数量
+     */
+    private void request(long n) {
+        if (n <= 0) {
+            terminate(new IllegalArgumentException("请求数量必须大于0: " + n));
+            cancel();
+            return;
+        }
+        long items = n > Long.MAX_VALUE / batchSize ? Long.MAX_VALUE : n * batchSize;
+        Flow.Subscription subscription;
+        synchronized (this) {
+            subscription = upstream;
+            if (subscription == null) {
+                pendingRequest = pendingRequest + items < 0 ? Long.MAX_VALUE : pendingRequest + items;
+                return;
+            }
+        }
+        subscription.request(items);
+    }
+
+    /**
+     * 下游取消订阅时取消上游订阅，并丢弃未发布的批次
+     */
+    private void cancel() {
+        Flow.Subscription subscription;
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            buffer = null;
+            subscription = upstream;
+        }
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+
+    /**
+     * 交给下游的订阅
+     */
+    private final class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            ConvertProcessor.this.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            ConvertProcessor.this.cancel();
+        }
+    }
+
+    /**
+     * 拒绝多余订阅者时使用的空订阅
+     */
+    private enum NoopSubscription implements Flow.Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package cc.anqin.processor.util;
+
+import cc.anqin.processor.enums.ConvertOperationEnum;
+import cc.anqin.processor.enums.LoadStrategyEnum;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder 事件的发布入口
+ * <p>
+ * 该类位于多版本 JAR 的 {@code META-INF/versions/11} 中，替换 Java 8 下的空实现，发布以下事件：
+ * </p>
+ * <ul>
+ *   <li>{@code cc.anqin.processor.RegistryLoad} - 注册表加载，包含加载策略、是否懒加载、转换器数量和耗时</li>
+ *   <li>{@code cc.anqin.processor.ConverterInstantiation} - 单个转换器的实例化</li>
+ *   <li>{@code cc.anqin.processor.SlowConversion} - 耗时超过阈值的{@code toMap}/{@code toBean}调用，
+ *       包含实体类型和字段数，默认阈值为10毫秒</li>
+ * </ul>
+ * <p>
+ * 阈值通过 JFR 的标准配置调整，例如在 .jfc 文件中设置{@code cc.anqin.processor.SlowConversion#threshold}，
+ * 或通过{@code Recording.enable("cc.anqin.processor.SlowConversion").withThreshold(...)}。
+ * 没有录制或事件未启用时，{@code begin}/{@code end}都是空操作，事件对象在 JIT 逃逸分析后通常不会真正分配。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+public final class ConvertEvents {
+
+    /** 事件分类 */
+    private static final String CATEGORY = "Auto Mapping";
+
+    /**
+     * 私有构造函数防止实例化
+     */
+    private ConvertEvents() {
+        throw new UnsupportedOperationException("ConvertEvents是一个工具类，不能被实例化");
+    }
+
+
+    /**
+     * 开始记录一次注册表加载
+     *
+     * @return 事件对象
+     */
+    public static Object beginRegistryLoad() {
+        RegistryLoadEvent event = new RegistryLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 结束并提交注册表加载事件
+     *
+     * @param event          {@link #beginRegistryLoad()}返回的事件对象
+     * @param strategy       采用的加载策略
+     * @param lazy           是否懒加载
+     * @param converterCount 加载的转换器数量
+     */
+    public static void endRegistryLoad(Object event, LoadStrategyEnum strategy, boolean lazy, int converterCount) {
+        RegistryLoadEvent registryLoad = (RegistryLoadEvent) event;
+        registryLoad.end();
+        if (registryLoad.shouldCommit()) {
+            registryLoad.strategy = strategy.name();
+            registryLoad.lazy = lazy;
+            registryLoad.converterCount = converterCount;
+            registryLoad.commit();
+        }
+    }
+
+    /**
+     * 开始记录一次转换器实例化
+     *
+     * @return 事件对象
+     */
+    public static Object beginInstantiation() {
+        ConverterInstantiationEvent event = new ConverterInstantiationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 结束并提交转换器实例化事件
+     *
+     * @param event          {@link #beginInstantiation()}返回的事件对象
+     * @param converterClass 转换器类
+     */
+    public static void endInstantiation(Object event, Class<?> converterClass) {
+        ConverterInstantiationEvent instantiation = (ConverterInstantiationEvent) event;
+        instantiation.end();
+        if (instantiation.shouldCommit()) {
+            instantiation.converterClass = converterClass;
+            instantiation.commit();
+        }
+    }
+
+    /**
+     * 开始记录一次转换
+     *
+     * @return 事件对象
+     */
+    public static Object beginConversion() {
+        SlowConversionEvent event = new SlowConversionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 结束一次转换，耗时超过阈值时提交慢转换事件
+     *
+     * @param event      {@link #beginConversion()}返回的事件对象
+     * @param type       实体类型
+     * @param operation  转换操作
+     * @param fieldCount 读取或写入的字段数
+     */
+    public static void endConversion(Object event, Class<?> type, ConvertOperationEnum operation, int fieldCount) {
+        SlowConversionEvent conversion = (SlowConversionEvent) event;
+        conversion.end();
+        if (conversion.shouldCommit()) {
+            conversion.entityClass = type;
+            conversion.operation = operation.name();
+            conversion.fieldCount = fieldCount;
+            conversion.commit();
+        }
+    }
+
+
+    /**
+     * 注册表加载事件
+     */
+    @Name("cc.anqin.processor.RegistryLoad")
+    @Label("Converter Registry Load")
+    @Description("Loading of all generated converters at startup or for a class loader")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class RegistryLoadEvent extends Event {
+
+        @Label("Strategy")
+        String strategy;
+
+        @Label("Lazy")
+        boolean lazy;
+
+        @Label("Converter Count")
+        int converterCount;
+    }
+
+    /**
+     * 转换器实例化事件
+     */
+    @Name("cc.anqin.processor.ConverterInstantiation")
+    @Label("Converter Instantiation")
+    @Description("Loading and instantiation of a single generated converter")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class ConverterInstantiationEvent extends Event {
+
+        @Label("Converter Class")
+        Class<?> converterClass;
+    }
+
+    /**
+     * 慢转换事件
+     */
+    @Name("cc.anqin.processor.SlowConversion")
+    @Label("Slow Conversion")
+    @Description("A toMap or toBean call that took longer than the configured threshold")
+    @Category(CATEGORY)
+    @Threshold("10 ms")
+    static final class SlowConversionEvent extends Event {
+
+        @Label("Entity Class")
+        Class<?> entityClass;
+
+        @Label("Operation")
+        String operation;
+
+        @Label("Field Count")
+        int fieldCount;
+    }
+}
@@ -0,0 +1,176 @@
+package cc.anqin.processor;
+
+import cc.anqin.processor.base.ConvertMap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static cc.anqin.processor.FixtureCompiler.field;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 字段访问方式的编译运行测试
+ * <p>
+ * 覆盖{@code boolean}的{@code isXxx}读取方法、Lombok对{@code isXxx}字段的命名、公共字段、
+ * 静态字段与{@code ignoreStatic}，以及 record 组件访问器。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+class AccessorGenerationTest {
+
+    private static final String PACKAGE = "fixture.accessors.";
+
+    private static FixtureCompiler.Compilation compilation;
+
+    /** record 夹具需要 Java 16 及以上版本编译，首次使用时编译 */
+    private static FixtureCompiler.Compilation records;
+
+    @BeforeAll
+    static void compile() {
+        compilation = FixtureCompiler.compile("accessors");
+    }
+
+
+    @Test
+    void readsIsGettersAndPublicFields() {
+        String source = compilation.generatedSource(PACKAGE + "Flags");
+        assertTrue(source.contains("entity.isActive()"));
+        assertTrue(source.contains("entity.isAdmin()"));
+        assertTrue(source.contains("entity.label"));
+        assertTrue(source.contains("bean.setAdmin("));
+
+        Class<?> flags = compilation.load(PACKAGE + "Flags");
+        Map<String, Object> data = new HashMap<>();
+        data.put("active", true);
+        data.put("verified", "true");
+        data.put("isAdmin", true);
+        data.put("label", "L");
+        data.put("code", "Y");
+        Object bean = ConvertMap.toBean(data, flags);
+
+        assertEquals(true, field(bean, "active"));
+        assertEquals(Boolean.TRUE, field(bean, "verified"));
+        assertEquals(true, field(bean, "isAdmin"));
+        assertEquals("L", field(bean, "label"));
+        assertEquals("X", field(bean, "code"));
+
+        Map<String, Object> map = ConvertMap.toMap(bean);
+        // 基于setter的实体不输出只读的final字段
+        assertEquals(new HashSet<>(Arrays.asList("active", "verified", "isAdmin", "label")), map.keySet());
+        assertEquals(true, map.get("isAdmin"));
+        assertEquals("L", map.get("label"));
+    }
+
+    @Test
+    void followsLombokNamingForBooleanFields() {
+        Class<?> flags = compilation.load(PACKAGE + "LombokFlags");
+        Map<String, Object> data = new HashMap<>();
+        data.put("deleted", true);
+        data.put("isPrimary", 1);
+        data.put("archived", false);
+
+        Object bean = ConvertMap.toBean(data, flags);
+        Map<String, Object> map = ConvertMap.toMap(bean);
+
+        assertEquals(true, field(bean, "deleted"));
+        assertEquals(true, field(bean, "isPrimary"));
+        assertEquals(true, map.get("isPrimary"));
+        assertEquals(Boolean.FALSE, map.get("archived"));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void collectsNonFinalStaticFieldsByDefault() throws Exception {
+        Class<?> counters = compilation.load(PACKAGE + "Counters");
+        assertArrayEquals(new String[]{"total", "name"}, ConvertMap.getMappingConvert(counters).mapKeys());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("total", 5L);
+        data.put("name", "c");
+        Object bean = ConvertMap.toBean(data, counters);
+        try {
+            assertEquals(5, counters.getMethod("getTotal").invoke(null));
+            assertEquals(5, ConvertMap.toMap(bean).get("total"));
+        } finally {
+            counters.getMethod("setTotal", int.class).invoke(null, 0);
+        }
+    }
+
+    @Test
+    void ignoreStaticSkipsStaticFields() throws Exception {
+        Class<?> settings = compilation.load(PACKAGE + "Settings");
+        assertArrayEquals(new String[]{"name"}, ConvertMap.getMappingConvert(settings).mapKeys());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "s");
+        data.put("region", "us");
+        Object bean = ConvertMap.toBean(data, settings);
+
+        assertEquals(Collections.singletonMap("name", "s"), ConvertMap.toMap(bean));
+        assertEquals("eu", settings.getMethod("getRegion").invoke(null));
+    }
+
+    @Test
+    void readsRecordComponents() throws Exception {
+        FixtureCompiler.Compilation records = records();
+        Class<?> point = records.load("fixture.records.Point");
+        assertTrue(records.generatedSource("fixture.records.Point").contains("entity.x()"));
+        assertArrayEquals(new String[]{"x", "y", "name", "visible", "tags"}, ConvertMap.getMappingConvert(point).mapKeys());
+
+        Object value = point.getConstructor(int.class, long.class, String.class, boolean.class, List.class)
+                .newInstance(1, 2L, "p", true, Collections.singletonList("t"));
+        Map<String, Object> map = ConvertMap.toMap(value);
+
+        assertEquals(5, map.size());
+        assertEquals(1, map.get("x"));
+        assertEquals(2L, map.get("y"));
+        assertEquals(true, map.get("visible"));
+        assertEquals(value, ConvertMap.toBean(map, point));
+    }
+
+    @Test
+    void createsRecordsThroughTheCanonicalConstructor() {
+        FixtureCompiler.Compilation records = records();
+        Class<?> point = records.load("fixture.records.Point");
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("y", "7");
+        Object partial = ConvertMap.toBean(data, point);
+        Object empty = ConvertMap.toBean(Collections.emptyMap(), point);
+
+        assertEquals(0, field(partial, "x"));
+        assertEquals(7L, field(partial, "y"));
+        // 紧凑构造函数照常执行
+        assertEquals("unnamed", field(partial, "name"));
+        assertEquals("unnamed", field(empty, "name"));
+        assertEquals(false, field(empty, "visible"));
+    }
+
+
+    private static synchronized FixtureCompiler.Compilation records() {
+        assumeTrue(javaVersion() >= 16, "record 需要 Java 16 及以上版本");
+        if (records == null) {
+            records = FixtureCompiler.compile("records", String.valueOf(javaVersion()));
+        }
+        return records;
+    }
+
+    /**
+     * 当前JVM的主版本号
+     */
+    private static int javaVersion() {
+        String version = System.getProperty("java.specification.version");
+        return version.startsWith("1.") ? Integer.parseInt(version.substring(2)) : Integer.parseInt(version);
+    }
+}
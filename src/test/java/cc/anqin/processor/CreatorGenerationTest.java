@@ -0,0 +1,173 @@
+package cc.anqin.processor;
+
+import cc.anqin.processor.base.ConversionErrors;
+import cc.anqin.processor.base.ConvertMap;
+import cc.anqin.processor.base.ConvertResult;
+import cc.anqin.processor.base.MappingConvert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static cc.anqin.processor.FixtureCompiler.field;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 不可变实体创建方式的编译运行测试
+ * <p>
+ * 覆盖全参构造函数、Lombok {@code @Value}、{@code @Builder}（包括自定义方法名、类名和{@code setterPrefix}）
+ * 以及{@code @Builder.Default}默认值的保留。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+class CreatorGenerationTest {
+
+    private static final String PACKAGE = "fixture.creators.";
+
+    private static FixtureCompiler.Compilation compilation;
+
+    @BeforeAll
+    static void compile() {
+        compilation = FixtureCompiler.compile("creators");
+    }
+
+
+    @Test
+    void createsThroughTheAllArgsConstructor() {
+        assertTrue(compilation.generatedSource(PACKAGE + "Money").contains("new fixture.creators.Money(currencyArg, amountArg, noteArg)"));
+        Class<?> money = compilation.load(PACKAGE + "Money");
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("currency", "EUR");
+        data.put("amount", 12);
+        data.put("note", "ignored");
+        Object bean = ConvertMap.toBean(data, money);
+
+        assertEquals("EUR", field(bean, "currency"));
+        assertEquals(12L, field(bean, "amount"));
+        // 被 @IgnoreToBean 忽略的参数传入默认值
+        assertNull(field(bean, "note"));
+
+        Map<String, Object> map = ConvertMap.toMap(bean);
+        assertEquals(3, map.size());
+        assertEquals("EUR", map.get("currency"));
+    }
+
+    @Test
+    void missingConstructorArgumentsUseDefaults() {
+        Class<?> money = compilation.load(PACKAGE + "Money");
+
+        Object empty = ConvertMap.toBean(Collections.emptyMap(), money);
+        Object sparse = ConvertMap.toBean(Collections.singletonMap("currency", "USD"), money);
+
+        assertNull(field(empty, "currency"));
+        assertEquals(0L, field(empty, "amount"));
+        assertEquals("USD", field(sparse, "currency"));
+        assertEquals(0L, field(sparse, "amount"));
+    }
+
+    @Test
+    void collectsErrorsForConstructorArguments() {
+        Class<?> money = compilation.load(PACKAGE + "Money");
+        Map<String, Object> data = new HashMap<>();
+        data.put("currency", "EUR");
+        data.put("amount", "not a number");
+
+        ConvertResult<?> result = ConvertMap.toBeanWithErrors(data, money);
+        ConversionErrors errors = result.getErrors();
+
+        assertFalse(result.isSuccess());
+        assertEquals(1, errors.size());
+        assertEquals("amount", errors.getField(0));
+        assertEquals("EUR", field(result.getBean(), "currency"));
+        assertEquals(0L, field(result.getBean(), "amount"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void indexedWritesAreRejectedForImmutableEntities() {
+        Class<?> money = compilation.load(PACKAGE + "Money");
+        MappingConvert<Object> convert = (MappingConvert<Object>) ConvertMap.getMappingConvert(money);
+        Object bean = ConvertMap.toBean(Collections.singletonMap("amount", 1L), money);
+
+        assertEquals(1L, convert.getLong(bean, convert.mapKeyIndex("amount")));
+        assertThrows(UnsupportedOperationException.class, () -> convert.setLong(bean, convert.beanKeyIndex("amount"), 2L));
+    }
+
+    @Test
+    void createsValueClassesThroughTheirConstructor() {
+        Class<?> coordinate = compilation.load(PACKAGE + "Coordinate");
+        Map<String, Object> data = new HashMap<>();
+        data.put("lat", 1.5d);
+        data.put("lng", 2);
+        data.put("label", new StringBuilder("home"));
+
+        Object bean = ConvertMap.toBean(data, coordinate);
+
+        assertEquals(1.5d, field(bean, "lat"));
+        assertEquals(2.0d, field(bean, "lng"));
+        assertEquals("home", field(bean, "label"));
+        assertEquals(bean, ConvertMap.toBean(ConvertMap.toMap(bean), coordinate));
+    }
+
+    @Test
+    void createsThroughTheBuilderWithSetterPrefix() {
+        assertTrue(compilation.generatedSource(PACKAGE + "Order").contains("builder.withId("));
+        Class<?> order = compilation.load(PACKAGE + "Order");
+        Map<String, Object> data = new HashMap<>();
+        data.put("id", "o-1");
+        data.put("amount", "30");
+        data.put("status", "PAID");
+
+        Object bean = ConvertMap.toBean(data, order);
+
+        assertEquals("o-1", field(bean, "id"));
+        assertEquals(30L, field(bean, "amount"));
+        assertEquals("PAID", field(bean, "status"));
+    }
+
+    @Test
+    void missingBuilderFieldsKeepBuilderDefaults() {
+        Class<?> order = compilation.load(PACKAGE + "Order");
+
+        Object sparse = ConvertMap.toBean(Collections.singletonMap("id", "o-2"), order);
+        Object empty = ConvertMap.toBean(Collections.emptyMap(), order);
+
+        assertEquals("NEW", field(sparse, "status"));
+        assertEquals("NEW", field(empty, "status"));
+        assertNull(field(empty, "id"));
+    }
+
+    @Test
+    void supportsCustomBuilderNames() {
+        String source = compilation.generatedSource(PACKAGE + "Shipment");
+        assertTrue(source.contains("fixture.creators.Shipment.Maker builder = fixture.creators.Shipment.create()"));
+        assertTrue(source.contains("builder.done()"));
+        Class<?> shipment = compilation.load(PACKAGE + "Shipment");
+
+        List<String> items = new ArrayList<>(Arrays.asList("a", "b"));
+        Map<String, Object> data = new HashMap<>();
+        data.put("id", "s-1");
+        data.put("count", 2L);
+        data.put("items", items);
+        Object bean = ConvertMap.toBean(data, shipment);
+
+        assertEquals("s-1", field(bean, "id"));
+        assertEquals(2, field(bean, "count"));
+        assertEquals(items, field(bean, "items"));
+        assertNotSame(items, field(bean, "items"));
+        assertEquals(Collections.emptyList(), field(ConvertMap.toBean(Collections.singletonMap("id", "s-2"), shipment), "items"));
+    }
+}
@@ -0,0 +1,274 @@
+package cc.anqin.processor;
+
+import cc.anqin.processor.util.ConfigLoader;
+import cn.hutool.core.convert.Convert;
+import com.squareup.javapoet.JavaFile;
+import lombok.Getter;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 测试夹具编译器
+ * <p>
+ * 用当前JDK的javac编译{@code src/test/resources/fixtures/<夹具名>}下的源文件，
+ * 同时运行Lombok和{@link MapConverterProcessor}，再用新的类加载器加载编译结果，
+ * 从而直接执行生成的转换器。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+public final class FixtureCompiler {
+
+    /** 编译夹具时运行的注解处理器，Lombok需要先于转换器处理器运行 */
+    private static final String PROCESSORS = "lombok.launch.AnnotationProcessorHider$AnnotationProcessor,"
+            + MapConverterProcessor.class.getName();
+
+    private FixtureCompiler() {
+        throw new UnsupportedOperationException("FixtureCompiler是一个工具类，不能被实例化");
+    }
+
+
+    /**
+     * 以Java 8为目标编译夹具
+     *
+     * @param fixture 夹具名
+     * @return 编译结果
+     */
+    public static Compilation compile(String fixture) {
+        return compile(fixture, "8");
+    }
+
+    /**
+     * 以指定的Java版本为目标编译夹具
+     *
+     * @param fixture 夹具名
+     * @param release javac的{@code --release}参数
+     * @return 编译结果
+     * @throws AssertionError 如果编译失败
+     */
+    public static Compilation compile(String fixture, String release) {
+        Path base = testClassesDir();
+        Path sourceDir = base.resolve("fixtures").resolve(fixture);
+        Path outputDir = base.getParent().resolve("fixtures").resolve(fixture + "-" + release);
+        Path classes = outputDir.resolve("classes");
+        Path sources = outputDir.resolve("generated-sources");
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            delete(outputDir);
+            Files.createDirectories(classes);
+            Files.createDirectories(sources);
+
+            String classpath = classpath();
+            List<String> options = Arrays.asList(
+                    "--release", release,
+                    "-encoding", "UTF-8",
+                    "-Xlint:-options",
+                    "-classpath", classpath,
+                    "-processorpath", classpath,
+                    "-processor", PROCESSORS,
+                    "-d", classes.toString(),
+                    "-s", sources.toString());
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(javaFiles(sourceDir));
+            if (!compiler.getTask(null, fileManager, diagnostics, options, null, units).call()) {
+                String errors = diagnostics.getDiagnostics().stream()
+                        .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                        .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                        .collect(Collectors.joining("\n"));
+                throw new AssertionError("夹具编译失败: " + fixture + "\n" + errors);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Compilation(classes, sources);
+    }
+
+
+    /**
+     * 夹具依赖的类路径：本项目的类、hutool、JavaPoet与Lombok
+     */
+    private static String classpath() {
+        return Stream.of(MapConverterProcessor.class, Convert.class, JavaFile.class, Getter.class)
+                .map(FixtureCompiler::location)
+                .map(Path::toString)
+                .distinct()
+                .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    private static Path testClassesDir() {
+        return location(FixtureCompiler.class);
+    }
+
+    private static Path location(Class<?> clazz) {
+        try {
+            return Paths.get(clazz.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<File> javaFiles(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            return paths.filter(path -> path.toString().endsWith(".java"))
+                    .map(Path::toFile)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static void delete(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            List<Path> all = paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+            for (Path path : all) {
+                Files.delete(path);
+            }
+        }
+    }
+
+
+    /**
+     * 夹具的编译结果
+     */
+    public static final class Compilation {
+
+        /** 编译输出的类目录 */
+        private final Path classes;
+
+        /** 注解处理器生成的源文件目录 */
+        private final Path sources;
+
+        /** 默认的类加载器 */
+        private ClassLoader classLoader;
+
+        private Compilation(Path classes, Path sources) {
+            this.classes = classes;
+            this.sources = sources;
+        }
+
+        /**
+         * 创建加载编译结果的新类加载器，父加载器是测试类的类加载器
+         *
+         * @return 类加载器，每次调用都会创建新的实例
+         */
+        public URLClassLoader newClassLoader() {
+            return newClassLoader(FixtureCompiler.class.getClassLoader());
+        }
+
+        /**
+         * 创建加载编译结果的新类加载器
+         *
+         * @param parent 父加载器
+         * @return 类加载器
+         */
+        public URLClassLoader newClassLoader(ClassLoader parent) {
+            try {
+                return new URLClassLoader(new URL[]{classes.toUri().toURL()}, parent);
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * 用默认的类加载器加载类
+         *
+         * @param name 类的二进制名称
+         * @return 类
+         */
+        public synchronized Class<?> load(String name) {
+            if (classLoader == null) {
+                classLoader = newClassLoader();
+            }
+            try {
+                return Class.forName(name, true, classLoader);
+            } catch (ClassNotFoundException e) {
+                throw new AssertionError("找不到类: " + name, e);
+            }
+        }
+
+        /**
+         * 读取实体类生成的转换器源码
+         *
+         * @param entity 实体类的二进制名称
+         * @return 转换器源码
+         */
+        public String generatedSource(String entity) {
+            return read(sources.resolve((ConfigLoader.PACKAGE_PREFIX + entity).replace('.', '/') + ".java"));
+        }
+
+        /**
+         * 读取编译输出中的资源文件
+         *
+         * @param name 资源路径
+         * @return 文件内容
+         */
+        public String resource(String name) {
+            return read(classes.resolve(name));
+        }
+
+        /**
+         * 编译输出中的类目录
+         *
+         * @return 类目录
+         */
+        public Path classes() {
+            return classes;
+        }
+
+        private static String read(Path path) {
+            try {
+                return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 读取实体对象的字段值，用于断言没有getter的字段
+     *
+     * @param bean  实体对象
+     * @param field 字段名
+     * @return 字段值
+     */
+    public static Object field(Object bean, String field) {
+        for (Class<?> type = bean.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field declared = type.getDeclaredField(field);
+                declared.setAccessible(true);
+                return declared.get(bean);
+            } catch (NoSuchFieldException e) {
+                // 继续在父类中查找
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new AssertionError("找不到字段: " + field);
+    }
+}
@@ -0,0 +1,243 @@
+package cc.anqin.processor;
+
+import cc.anqin.processor.base.ConvertMap;
+import cc.anqin.processor.util.ConfigLoader;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static cc.anqin.processor.FixtureCompiler.field;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 生成的toMap/toBean的编译运行测试
+ * <p>
+ * 覆盖按字段类型特化的转换：精确类型直接赋值、数值类型按{@link Number}收窄、
+ * {@link CharSequence}转为字符串、其余类型回退到hutool，以及稀疏Map的switch路径和嵌套类。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+class GeneratedConvertTest {
+
+    private static final String SAMPLE = "fixture.convert.Sample";
+
+    private static final String INNER = "fixture.convert.Outer$Inner";
+
+    private static FixtureCompiler.Compilation compilation;
+
+    private static Class<?> sample;
+
+    @BeforeAll
+    static void compile() {
+        compilation = FixtureCompiler.compile("convert");
+        sample = compilation.load(SAMPLE);
+    }
+
+
+    @Test
+    void exactTypesAreAssignedDirectly() {
+        String name = new String("alice");
+        BigDecimal amount = new BigDecimal("12.50");
+        Object level = enumConstant("HIGH");
+        Map<String, Object> data = dense();
+        data.put("name", name);
+        data.put("count", 3);
+        data.put("total", 40L);
+        data.put("ratio", 0.5d);
+        data.put("active", true);
+        data.put("amount", amount);
+        data.put("level", level);
+
+        Object bean = ConvertMap.toBean(data, sample);
+
+        assertSame(name, field(bean, "name"));
+        assertEquals(3, field(bean, "count"));
+        assertEquals(40L, field(bean, "total"));
+        assertEquals(0.5d, field(bean, "ratio"));
+        assertEquals(true, field(bean, "active"));
+        assertSame(amount, field(bean, "amount"));
+        assertSame(level, field(bean, "level"));
+    }
+
+    @Test
+    void numbersAreNarrowedThroughNumber() {
+        Map<String, Object> data = dense();
+        data.put("count", 7L);
+        data.put("total", 9);
+        data.put("ratio", 2);
+
+        Object bean = ConvertMap.toBean(data, sample);
+
+        assertEquals(7, field(bean, "count"));
+        assertEquals(9L, field(bean, "total"));
+        assertEquals(2.0d, field(bean, "ratio"));
+    }
+
+    @Test
+    void charSequencesAreConvertedWithToString() {
+        Map<String, Object> data = dense();
+        data.put("name", new StringBuilder("bob"));
+
+        assertEquals("bob", field(ConvertMap.toBean(data, sample), "name"));
+    }
+
+    @Test
+    void otherValuesFallBackToConvert() {
+        Map<String, Object> data = dense();
+        data.put("count", "12");
+        data.put("total", "34");
+        data.put("active", "true");
+        data.put("amount", 1.5d);
+        data.put("level", "LOW");
+
+        Object bean = ConvertMap.toBean(data, sample);
+
+        assertEquals(12, field(bean, "count"));
+        assertEquals(34L, field(bean, "total"));
+        assertEquals(true, field(bean, "active"));
+        assertEquals(0, new BigDecimal("1.5").compareTo((BigDecimal) field(bean, "amount")));
+        assertSame(enumConstant("LOW"), field(bean, "level"));
+    }
+
+    @Test
+    void collectionsWithMatchingElementsAreCopied() {
+        List<String> tags = new ArrayList<>(Arrays.asList("a", "b"));
+        Map<String, Integer> scores = new HashMap<>(Collections.singletonMap("math", 90));
+        Map<String, Object> data = dense();
+        data.put("tags", tags);
+        data.put("scores", scores);
+        data.put("ids", new HashSet<>(Arrays.asList(1L, 2L)));
+
+        Object bean = ConvertMap.toBean(data, sample);
+        tags.add("c");
+        scores.put("art", 80);
+
+        assertNotSame(tags, field(bean, "tags"));
+        assertEquals(Arrays.asList("a", "b"), field(bean, "tags"));
+        assertEquals(Collections.singletonMap("math", 90), field(bean, "scores"));
+        assertEquals(new HashSet<>(Arrays.asList(1L, 2L)), field(bean, "ids"));
+    }
+
+    @Test
+    void collectionsWithOtherElementsAreConverted() {
+        Map<String, Object> data = dense();
+        data.put("tags", Arrays.asList(1, 2));
+        data.put("ids", Arrays.asList(3, 4));
+
+        Object bean = ConvertMap.toBean(data, sample);
+
+        assertEquals(Arrays.asList("1", "2"), field(bean, "tags"));
+        assertEquals(new HashSet<>(Arrays.asList(3L, 4L)), field(bean, "ids"));
+    }
+
+    @Test
+    void sparseMapsUseTheSwitchPath() {
+        assertTrue(compilation.generatedSource(SAMPLE).contains("switch ((String) key)"));
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", new StringBuilder("carol"));
+        data.put("count", 5L);
+        data.put("tags", Arrays.asList(1, 2));
+        data.put("unknown", "ignored");
+        data.put("total", null);
+
+        Object bean = ConvertMap.toBean(data, sample);
+
+        assertEquals("carol", field(bean, "name"));
+        assertEquals(5, field(bean, "count"));
+        assertEquals(Arrays.asList("1", "2"), field(bean, "tags"));
+        assertNull(field(bean, "total"));
+        assertNull(field(bean, "amount"));
+    }
+
+    @Test
+    void sparseMapsWithCustomKeyEqualityUseGet() {
+        Map<String, Object> data = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        data.put("NAME", "dave");
+
+        assertEquals("dave", field(ConvertMap.toBean(data, sample), "name"));
+    }
+
+    @Test
+    void toMapRoundTrips() {
+        Map<String, Object> data = dense();
+        data.put("name", "erin");
+        data.put("count", 1);
+        data.put("amount", BigDecimal.TEN);
+        data.put("tags", Collections.singletonList("x"));
+
+        Object bean = ConvertMap.toBean(data, sample);
+        Map<String, Object> map = ConvertMap.toMap(bean);
+
+        assertEquals(10, map.size());
+        assertEquals("erin", map.get("name"));
+        assertEquals(1, map.get("count"));
+        assertEquals(BigDecimal.TEN, map.get("amount"));
+        assertTrue(map.containsKey("total"));
+        assertEquals(bean, ConvertMap.toBean(map, sample));
+    }
+
+    @Test
+    void emptyInputsProduceEmptyResults() {
+        assertTrue(ConvertMap.getMappingConvert(sample).toMap(null).isEmpty());
+
+        Object bean = ConvertMap.toBean(Collections.emptyMap(), sample);
+        assertNotNull(bean);
+        assertNull(field(bean, "name"));
+    }
+
+    @Test
+    void nestedClassesUseTheirBinaryName() {
+        Class<?> inner = compilation.load(INNER);
+        assertEquals(ConfigLoader.PACKAGE_PREFIX + INNER,
+                ConvertMap.getMappingConvert(inner).getClass().getName());
+        assertTrue(compilation.resource(ConfigLoader.SERVICE_FILE_PATH).contains(ConfigLoader.PACKAGE_PREFIX + INNER));
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("code", "c1");
+        data.put("level", "2");
+        Object bean = ConvertMap.toBean(data, inner);
+
+        assertEquals("c1", field(bean, "code"));
+        assertEquals(2, field(bean, "level"));
+        assertEquals(data.get("code"), ConvertMap.toMap(bean).get("code"));
+    }
+
+
+    /**
+     * 字段足够多的Map，toBean按字段逐个get
+     */
+    private static Map<String, Object> dense() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        for (int i = 0; i < 6; i++) {
+            data.put("padding" + i, i);
+        }
+        return data;
+    }
+
+    private static Object enumConstant(String name) {
+        for (Object constant : compilation.load(SAMPLE + "$Level").getEnumConstants()) {
+            if (constant.toString().equals(name)) {
+                return constant;
+            }
+        }
+        throw new AssertionError(name);
+    }
+}
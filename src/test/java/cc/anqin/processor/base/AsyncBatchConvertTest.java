@@ -0,0 +1,201 @@
+package cc.anqin.processor.base;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link AsyncBatchConvert}的测试
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+class AsyncBatchConvertTest {
+
+    private static final Function<Integer, String> TO_STRING = String::valueOf;
+
+
+    @Test
+    void inlineExecutorDoesNotRecurse() {
+        List<Integer> sources = range(200_000);
+
+        CompletableFuture<List<String>> future = AsyncBatchConvert.convert(sources, TO_STRING, Runnable::run, 1, 4);
+
+        assertTrue(future.isDone());
+        assertEquals(expected(sources), future.join());
+    }
+
+    @Test
+    void keepsSourceOrderOnThreadPool() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Integer> sources = range(10_000);
+
+            List<String> results = AsyncBatchConvert.convert(sources, TO_STRING, pool, 7, 3).get(30, TimeUnit.SECONDS);
+
+            assertEquals(expected(sources), results);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void boundsChunksInFlight() {
+        ManualExecutor executor = new ManualExecutor();
+        List<Integer> sources = range(100);
+
+        CompletableFuture<List<String>> future = AsyncBatchConvert.convert(sources, TO_STRING, executor, 10, 3);
+
+        assertEquals(3, executor.queued());
+        while (executor.runNext()) {
+            assertTrue(executor.queued() <= 3);
+        }
+        assertEquals(10, executor.executed);
+        assertEquals(expected(sources), future.join());
+    }
+
+    @Test
+    void failureStopsSubmittingRemainingChunks() {
+        ManualExecutor executor = new ManualExecutor();
+        IllegalStateException failure = new IllegalStateException("boom");
+        Function<Integer, String> mapper = value -> {
+            if (value == 12) {
+                throw failure;
+            }
+            return String.valueOf(value);
+        };
+
+        CompletableFuture<List<String>> future = AsyncBatchConvert.convert(range(100), mapper, executor, 10, 2);
+        executor.runAll();
+
+        CompletionException thrown = assertThrows(CompletionException.class, future::join);
+        assertSame(failure, thrown.getCause());
+        assertTrue(executor.executed < 10);
+    }
+
+    @Test
+    void rejectedChunksCompleteExceptionally() {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<List<String>> future = AsyncBatchConvert.convert(range(10), TO_STRING, task -> {
+            if (calls.incrementAndGet() > 1) {
+                throw new RejectedExecutionException("full");
+            }
+            task.run();
+        }, 2, 1);
+
+        CompletionException thrown = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(RejectedExecutionException.class, thrown.getCause());
+    }
+
+    @Test
+    void cancellationStopsSubmitting() {
+        ManualExecutor executor = new ManualExecutor();
+
+        CompletableFuture<List<String>> future = AsyncBatchConvert.convert(range(100), TO_STRING, executor, 10, 2);
+        assertTrue(future.cancel(false));
+        executor.runAll();
+
+        assertEquals(2, executor.executed);
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    void acceptsSequentialLists() {
+        List<Integer> sources = new LinkedList<>(range(50));
+
+        List<String> results = AsyncBatchConvert.convert(sources, TO_STRING, Runnable::run, 8, 2).join();
+
+        assertEquals(expected(sources), results);
+    }
+
+    @Test
+    void emptySourcesCompleteImmediately() {
+        CompletableFuture<List<String>> future = AsyncBatchConvert.convert(Collections.<Integer>emptyList(), TO_STRING,
+                task -> {
+                    throw new AssertionError("不应提交任务");
+                }, 4, 2);
+
+        assertTrue(future.isDone());
+        assertTrue(future.join().isEmpty());
+    }
+
+    @Test
+    void convertMapValidatesArguments() {
+        List<Object> sources = Collections.emptyList();
+        assertThrows(IllegalArgumentException.class, () -> ConvertMap.toMapListAsync(null, Object.class, Runnable::run));
+        assertThrows(IllegalArgumentException.class, () -> ConvertMap.toMapListAsync(sources, Object.class, null));
+        assertThrows(IllegalArgumentException.class, () -> ConvertMap.toMapListAsync(sources, Object.class, Runnable::run, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> ConvertMap.toMapListAsync(sources, Object.class, Runnable::run, 1, 0));
+    }
+
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    private static List<String> expected(List<Integer> sources) {
+        List<String> expected = new ArrayList<>(sources.size());
+        for (Integer source : sources) {
+            expected.add(String.valueOf(source));
+        }
+        return expected;
+    }
+
+
+    /**
+     * 只在测试显式调用时执行任务的线程池，用于观察排队的块数量
+     */
+    private static final class ManualExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        private int executed;
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        int queued() {
+            return tasks.size();
+        }
+
+        boolean runNext() {
+            Runnable task = tasks.poll();
+            if (task == null) {
+                return false;
+            }
+            executed++;
+            task.run();
+            return true;
+        }
+
+        void runAll() {
+            while (runNext()) {
+                // 执行期间提交的块也会被执行
+            }
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package cc.anqin.processor.base;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ConvertProcessor的测试
+ * <p>
+ * ConvertProcessor位于多版本 JAR 的{@code META-INF/versions/11}中，测试源码按 Java 8 编译时看不到它，
+ * 因此通过反射调用其工厂方法，之后只通过{@link Flow.Processor}接口使用。
+ * 测试直接调用处理器的订阅者方法模拟上游，可以精确控制信号的顺序。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+class ConvertProcessorTest {
+
+    private static final String PROCESSOR_CLASS = "cc.anqin.processor.base.ConvertProcessor";
+
+    @BeforeAll
+    static void register() {
+        ConvertMap.register(Item.class, new ItemConvert());
+    }
+
+
+    @Test
+    void publishesFullBatchesAndFlushesTheRemainder() {
+        Flow.Processor<Item, List<Map<String, Object>>> processor = create("toMapBatches", Item.class, 3);
+        Upstream upstream = new Upstream();
+        Recorder<List<Map<String, Object>>> downstream = new Recorder<>();
+        processor.onSubscribe(upstream);
+        processor.subscribe(downstream);
+
+        downstream.request(5);
+        for (int i = 0; i < 7; i++) {
+            processor.onNext(new Item("v" + i));
+        }
+        assertEquals(2, downstream.items.size());
+        processor.onComplete();
+
+        assertEquals(3, downstream.items.size());
+        assertEquals(3, downstream.items.get(0).size());
+        assertEquals(1, downstream.items.get(2).size());
+        assertEquals("v6", downstream.items.get(2).get(0).get("value"));
+        assertTrue(downstream.completed);
+    }
+
+    @Test
+    void translatesDemandIntoBatchSizedUpstreamRequests() {
+        Flow.Processor<Item, List<Map<String, Object>>> processor = create("toMapBatches", Item.class, 4);
+        Upstream upstream = new Upstream();
+        Recorder<List<Map<String, Object>>> downstream = new Recorder<>();
+        processor.subscribe(downstream);
+
+        downstream.request(2);
+        processor.onSubscribe(upstream);
+        assertEquals(8, upstream.requested);
+
+        downstream.request(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, upstream.requested);
+    }
+
+    @Test
+    void convertsItemsOneByOne() {
+        Flow.Processor<Map<String, Object>, Item> processor = create("toBean", Item.class);
+        Upstream upstream = new Upstream();
+        Recorder<Item> downstream = new Recorder<>();
+        processor.onSubscribe(upstream);
+        processor.subscribe(downstream);
+
+        downstream.request(1);
+        assertEquals(1, upstream.requested);
+        processor.onNext(Collections.singletonMap("value", "a"));
+        processor.onNext(Collections.singletonMap("value", "b"));
+        processor.onComplete();
+
+        assertEquals(2, downstream.items.size());
+        assertEquals("b", downstream.items.get(1).value);
+        assertTrue(downstream.completed);
+    }
+
+    @Test
+    void cancellationDropsLateItems() {
+        Flow.Processor<Item, List<Map<String, Object>>> processor = create("toMapBatches", Item.class, 2);
+        Upstream upstream = new Upstream();
+        Recorder<List<Map<String, Object>>> downstream = new Recorder<>();
+        processor.onSubscribe(upstream);
+        processor.subscribe(downstream);
+        downstream.request(3);
+
+        processor.onNext(new Item("a"));
+        processor.onNext(new Item("b"));
+        downstream.subscription.cancel();
+        // 上游在取消生效前仍可能发来元素和完成信号
+        processor.onNext(new Item("c"));
+        processor.onNext(new Item("d"));
+        processor.onNext(new Item("e"));
+        processor.onComplete();
+
+        assertTrue(upstream.cancelled);
+        assertEquals(1, downstream.items.size());
+        assertFalse(downstream.completed);
+        assertNull(downstream.error);
+    }
+
+    @Test
+    void conversionFailureCancelsUpstream() {
+        Flow.Processor<Item, List<Map<String, Object>>> processor = create("toMapBatches", Item.class, 2);
+        Upstream upstream = new Upstream();
+        Recorder<List<Map<String, Object>>> downstream = new Recorder<>();
+        processor.onSubscribe(upstream);
+        processor.subscribe(downstream);
+        downstream.request(10);
+
+        processor.onNext(new Item("a"));
+        processor.onNext(new Item(ItemConvert.BROKEN));
+        processor.onNext(new Item("b"));
+        processor.onComplete();
+
+        assertTrue(upstream.cancelled);
+        assertTrue(downstream.items.isEmpty());
+        assertInstanceOf(IllegalStateException.class, downstream.error);
+        assertFalse(downstream.completed);
+    }
+
+    @Test
+    void upstreamErrorsDiscardThePendingBatch() {
+        Flow.Processor<Item, List<Map<String, Object>>> processor = create("toMapBatches", Item.class, 3);
+        Upstream upstream = new Upstream();
+        Recorder<List<Map<String, Object>>> downstream = new Recorder<>();
+        processor.onSubscribe(upstream);
+        processor.subscribe(downstream);
+        downstream.request(1);
+
+        processor.onNext(new Item("a"));
+        RuntimeException failure = new RuntimeException("upstream");
+        processor.onError(failure);
+
+        assertTrue(downstream.items.isEmpty());
+        assertSame(failure, downstream.error);
+    }
+
+    @Test
+    void terminalSignalsBeforeSubscriptionAreReplayed() {
+        Flow.Processor<Item, Map<String, Object>> completed = create("toMap", Item.class);
+        completed.onSubscribe(new Upstream());
+        completed.onComplete();
+        Recorder<Map<String, Object>> first = new Recorder<>();
+        completed.subscribe(first);
+        assertTrue(first.completed);
+
+        Flow.Processor<Item, Map<String, Object>> failed = create("toMap", Item.class);
+        failed.onSubscribe(new Upstream());
+        RuntimeException failure = new RuntimeException("early");
+        failed.onError(failure);
+        Recorder<Map<String, Object>> second = new Recorder<>();
+        failed.subscribe(second);
+        assertSame(failure, second.error);
+    }
+
+    @Test
+    void rejectsInvalidRequestsAndExtraSubscribers() {
+        Flow.Processor<Item, Map<String, Object>> processor = create("toMap", Item.class);
+        Upstream upstream = new Upstream();
+        Recorder<Map<String, Object>> downstream = new Recorder<>();
+        processor.onSubscribe(upstream);
+        processor.subscribe(downstream);
+
+        Recorder<Map<String, Object>> extra = new Recorder<>();
+        processor.subscribe(extra);
+        assertInstanceOf(IllegalStateException.class, extra.error);
+
+        downstream.request(0);
+        assertInstanceOf(IllegalArgumentException.class, downstream.error);
+        assertTrue(upstream.cancelled);
+    }
+
+    @Test
+    void rejectsInvalidBatchSizes() {
+        assertThrows(IllegalArgumentException.class, () -> create("toMapBatches", Item.class, 0));
+        assertThrows(IllegalArgumentException.class, () -> create("toBeanBatches", Item.class, -1));
+    }
+
+
+    /**
+     * 通过反射调用ConvertProcessor的工厂方法
+     *
+     * @param factory   工厂方法名
+     * @param type      实体类型
+     * @param batchSize 批量工厂方法的批大小，逐个模式不传
+     * @return 处理器
+     */
+    @SuppressWarnings("unchecked")
+    private static <S, O> Flow.Processor<S, O> create(String factory, Class<?> type, int... batchSize) {
+        try {
+            Class<?> processorClass = Class.forName(PROCESSOR_CLASS);
+            if (batchSize.length == 0) {
+                Method method = processorClass.getMethod(factory, Class.class);
+                return (Flow.Processor<S, O>) method.invoke(null, type);
+            }
+            Method method = processorClass.getMethod(factory, Class.class, int.class);
+            return (Flow.Processor<S, O>) method.invoke(null, type, batchSize[0]);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    /**
+     * 记录请求数量和取消信号的上游订阅
+     */
+    private static final class Upstream implements Flow.Subscription {
+
+        private long requested;
+
+        private boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    /**
+     * 记录收到的信号的下游订阅者
+     */
+    private static final class Recorder<T> implements Flow.Subscriber<T> {
+
+        private final List<T> items = new ArrayList<>();
+
+        private Flow.Subscription subscription;
+
+        private boolean completed;
+
+        private Throwable error;
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    /**
+     * 测试实体
+     */
+    static final class Item {
+
+        private String value;
+
+        Item() {
+        }
+
+        Item(String value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * 手写的测试转换器，遇到{@link #BROKEN}时转换失败
+     */
+    static final class ItemConvert implements MappingConvert<Item> {
+
+        static final String BROKEN = "broken";
+
+        @Override
+        public Map<String, Object> toMap(Item entity) {
+            if (BROKEN.equals(entity.value)) {
+                throw new IllegalStateException("无法转换: " + entity.value);
+            }
+            Map<String, Object> map = new HashMap<>(2);
+            map.put("value", entity.value);
+            return map;
+        }
+
+        @Override
+        public Item toBean(Map<String, Object> dataMap) {
+            return new Item((String) dataMap.get("value"));
+        }
+
+        @Override
+        public Class<Item> getTargetClass() {
+            return Item.class;
+        }
+    }
+}
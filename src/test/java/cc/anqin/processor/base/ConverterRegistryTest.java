@@ -0,0 +1,209 @@
+package cc.anqin.processor.base;
+
+import cc.anqin.processor.FixtureCompiler;
+import cc.anqin.processor.util.ConfigLoader;
+import cc.anqin.processor.util.LazyMappingConvert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConverterRegistry}的测试
+ * <p>
+ * 每个测试用新的类加载器加载编译好的夹具，模拟多模块和热部署环境中的同名实体类。
+ * </p>
+ *
+ * @author Mr.An
+ * @since 2025/09/10
+ */
+class ConverterRegistryTest {
+
+    private static final String ACCOUNT = "fixture.registry.Account";
+
+    private static FixtureCompiler.Compilation compilation;
+
+    @BeforeAll
+    static void compile() {
+        compilation = FixtureCompiler.compile("registry");
+    }
+
+
+    @Test
+    void resolvesGeneratedConvertersByNamingRule() throws Exception {
+        URLClassLoader loader = compilation.newClassLoader();
+        Class<?> account = loader.loadClass(ACCOUNT);
+
+        MappingConvert<?> convert = ConverterRegistry.find(account);
+
+        assertNotNull(convert);
+        assertEquals(ConfigLoader.PACKAGE_PREFIX + ACCOUNT, convert.getClass().getName());
+        assertSame(loader, convert.getClass().getClassLoader());
+        assertSame(convert, ConverterRegistry.find(account));
+    }
+
+    @Test
+    void sameNamedClassesInDifferentLoadersAreIsolated() throws Exception {
+        Class<?> first = compilation.newClassLoader().loadClass(ACCOUNT);
+        Class<?> second = compilation.newClassLoader().loadClass(ACCOUNT);
+
+        MappingConvert<?> firstConvert = ConverterRegistry.find(first);
+        MappingConvert<?> secondConvert = ConverterRegistry.find(second);
+
+        assertNotSame(firstConvert, secondConvert);
+        assertSame(first, firstConvert.getTargetClass());
+        assertSame(second, secondConvert.getTargetClass());
+
+        ConverterRegistry.unregisterAll(first.getClassLoader());
+        assertNull(ConverterRegistry.find(first));
+        assertSame(secondConvert, ConverterRegistry.find(second));
+    }
+
+    @Test
+    void registerReplacesAndUnregisterRemoves() {
+        assertNull(ConverterRegistry.find(Plain.class));
+
+        PlainConvert convert = new PlainConvert();
+        ConverterRegistry.register(Plain.class, convert);
+        assertSame(convert, ConverterRegistry.find(Plain.class));
+        assertTrue(ConverterRegistry.snapshot().containsKey(Plain.class.getName()));
+
+        PlainConvert replacement = new PlainConvert();
+        ConverterRegistry.register(Plain.class, replacement);
+        assertSame(replacement, ConverterRegistry.find(Plain.class));
+
+        ConverterRegistry.unregister(Plain.class);
+        assertNull(ConverterRegistry.find(Plain.class));
+        assertFalse(ConverterRegistry.snapshot().containsKey(Plain.class.getName()));
+    }
+
+    @Test
+    void unregisteredLoadersCanBeRegisteredAgain() throws Exception {
+        URLClassLoader loader = compilation.newClassLoader();
+        Class<?> account = loader.loadClass(ACCOUNT);
+        assertNotNull(ConverterRegistry.find(account));
+
+        ConverterRegistry.unregisterAll(loader);
+        assertNull(ConverterRegistry.find(account));
+
+        ConverterRegistry.registerAll(loader, ConfigLoader.loadAllConfigsAsSingleMap(loader));
+        MappingConvert<?> convert = ConverterRegistry.find(account);
+        assertNotNull(convert);
+        assertSame(account, convert.getTargetClass());
+    }
+
+    @Test
+    void lazyConvertersStayPendingUntilFirstLookup() throws Exception {
+        URLClassLoader loader = compilation.newClassLoader();
+        Map<String, MappingConvert<?>> converters = loadLazily(loader);
+        LazyMappingConvert<?> lazy = assertInstanceOf(LazyMappingConvert.class, converters.get(ACCOUNT));
+
+        ConverterRegistry.registerAll(loader, converters);
+        assertFalse(lazy.isLoaded());
+
+        Class<?> account = loader.loadClass(ACCOUNT);
+        assertSame(lazy, ConverterRegistry.find(account));
+        assertFalse(lazy.isLoaded());
+        assertSame(account, lazy.getTargetClass());
+        assertTrue(lazy.isLoaded());
+    }
+
+    @Test
+    void lazyConvertersReplaceExistingSlots() throws Exception {
+        URLClassLoader loader = compilation.newClassLoader();
+        Class<?> account = loader.loadClass(ACCOUNT);
+        assertNotNull(ConverterRegistry.find(account));
+        ConverterRegistry.unregisterAll(loader);
+
+        Map<String, MappingConvert<?>> converters = loadLazily(loader);
+        ConverterRegistry.registerAll(loader, converters);
+
+        assertSame(converters.get(ACCOUNT), ConverterRegistry.find(account));
+    }
+
+    @Test
+    void childLoadersApplyToEntitiesOfTheirParents() throws Exception {
+        URLClassLoader parent = compilation.newClassLoader();
+        URLClassLoader child = new URLClassLoader(new URL[0], parent);
+        Class<?> account = parent.loadClass(ACCOUNT);
+
+        Map<String, MappingConvert<?>> converters = loadLazily(child);
+        ConverterRegistry.registerAll(child, converters);
+
+        assertSame(converters.get(ACCOUNT), ConverterRegistry.find(account));
+
+        ConverterRegistry.unregisterAll(child);
+        assertNull(ConverterRegistry.find(account));
+    }
+
+    @Test
+    void handWrittenConvertersAreRegisteredByTargetClass() {
+        PlainConvert convert = new PlainConvert();
+        ConverterRegistry.registerAll(Plain.class.getClassLoader(), Collections.singletonMap(Plain.class.getName(), convert));
+        try {
+            assertSame(convert, ConverterRegistry.find(Plain.class));
+        } finally {
+            ConverterRegistry.unregister(Plain.class);
+        }
+    }
+
+
+    private static Map<String, MappingConvert<?>> loadLazily(ClassLoader loader) {
+        String previous = System.setProperty(ConfigLoader.LAZY_PROPERTY, "true");
+        try {
+            return ConfigLoader.loadAllConfigsAsSingleMap(loader);
+        } finally {
+            if (previous == null) {
+                System.clearProperty(ConfigLoader.LAZY_PROPERTY);
+            } else {
+                System.setProperty(ConfigLoader.LAZY_PROPERTY, previous);
+            }
+        }
+    }
+
+
+    /**
+     * 没有生成转换器的实体类
+     */
+    static class Plain {
+        String value;
+    }
+
+    /**
+     * 手写的转换器
+     */
+    static class PlainConvert implements MappingConvert<Plain> {
+
+        @Override
+        public Map<String, Object> toMap(Plain entity) {
+            Map<String, Object> map = new HashMap<>(2);
+            map.put("value", entity.value);
+            return map;
+        }
+
+        @Override
+        public Plain toBean(Map<String, Object> dataMap) {
+            Plain plain = new Plain();
+            plain.value = (String) dataMap.get("value");
+            return plain;
+        }
+
+        @Override
+        public Class<Plain> getTargetClass() {
+            return Plain.class;
+        }
+    }
+}
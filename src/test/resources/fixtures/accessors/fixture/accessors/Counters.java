@@ -0,0 +1,20 @@
+package fixture.accessors;
+
+import cc.anqin.processor.annotation.AutoToMap;
+import lombok.Data;
+
+@Data
+@AutoToMap
+public class Counters {
+    public static final String KIND = "counters";
+    private static int total;
+    private String name;
+
+    public static int getTotal() {
+        return total;
+    }
+
+    public static void setTotal(int total) {
+        Counters.total = total;
+    }
+}
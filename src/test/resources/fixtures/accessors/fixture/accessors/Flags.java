@@ -0,0 +1,40 @@
+package fixture.accessors;
+
+import cc.anqin.processor.annotation.AutoToMap;
+
+@AutoToMap
+public class Flags {
+    private boolean active;
+    private Boolean verified;
+    private boolean isAdmin;
+    public String label;
+    private final String code = "X";
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public Boolean getVerified() {
+        return verified;
+    }
+
+    public void setVerified(Boolean verified) {
+        this.verified = verified;
+    }
+
+    public boolean isAdmin() {
+        return isAdmin;
+    }
+
+    public void setAdmin(boolean admin) {
+        this.isAdmin = admin;
+    }
+
+    public String getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,12 @@
+package fixture.accessors;
+
+import cc.anqin.processor.annotation.AutoToMap;
+import lombok.Data;
+
+@Data
+@AutoToMap
+public class LombokFlags {
+    private boolean deleted;
+    private boolean isPrimary;
+    private Boolean archived;
+}
@@ -0,0 +1,19 @@
+package fixture.accessors;
+
+import cc.anqin.processor.annotation.AutoToMap;
+import lombok.Data;
+
+@Data
+@AutoToMap(ignoreStatic = true)
+public class Settings {
+    private static String region = "eu";
+    private String name;
+
+    public static String getRegion() {
+        return region;
+    }
+
+    public static void setRegion(String region) {
+        Settings.region = region;
+    }
+}
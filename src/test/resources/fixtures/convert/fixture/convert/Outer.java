@@ -0,0 +1,14 @@
+package fixture.convert;
+
+import cc.anqin.processor.annotation.AutoToMap;
+import lombok.Data;
+
+public class Outer {
+
+    @Data
+    @AutoToMap
+    public static class Inner {
+        private String code;
+        private int level;
+    }
+}
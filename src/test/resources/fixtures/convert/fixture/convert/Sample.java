@@ -0,0 +1,28 @@
+package fixture.convert;
+
+import cc.anqin.processor.annotation.AutoToMap;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@AutoToMap
+public class Sample {
+    private String name;
+    private int count;
+    private Long total;
+    private double ratio;
+    private boolean active;
+    private BigDecimal amount;
+    private Level level;
+    private List<String> tags;
+    private Map<String, Integer> scores;
+    private Set<Long> ids;
+
+    public enum Level {
+        LOW, HIGH
+    }
+}
@@ -0,0 +1,12 @@
+package fixture.creators;
+
+import cc.anqin.processor.annotation.AutoToMap;
+import lombok.Value;
+
+@Value
+@AutoToMap
+public class Coordinate {
+    double lat;
+    double lng;
+    String label;
+}
@@ -0,0 +1,34 @@
+package fixture.creators;
+
+import cc.anqin.processor.annotation.AutoToMap;
+import cc.anqin.processor.annotation.IgnoreToBean;
+
+@AutoToMap(errors = true, primitives = true)
+public class Money {
+    private final String currency;
+    private final long amount;
+    @IgnoreToBean
+    private final String note;
+
+    public Money(String currency, long amount, String note) {
+        this.currency = currency;
+        this.amount = amount;
+        this.note = note;
+    }
+
+    public Money(String currency) {
+        this(currency, 0, null);
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public String getNote() {
+        return note;
+    }
+}
@@ -0,0 +1,15 @@
+package fixture.creators;
+
+import cc.anqin.processor.annotation.AutoToMap;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(setterPrefix = "with")
+@AutoToMap
+public class Order {
+    private final String id;
+    private final long amount;
+    @Builder.Default
+    private final String status = "NEW";
+}
@@ -0,0 +1,18 @@
+package fixture.creators;
+
+import cc.anqin.processor.annotation.AutoToMap;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Builder(builderMethodName = "create", buildMethodName = "done", builderClassName = "Maker")
+@AutoToMap
+public class Shipment {
+    private final String id;
+    private final int count;
+    @Builder.Default
+    private final List<String> items = new ArrayList<>();
+}
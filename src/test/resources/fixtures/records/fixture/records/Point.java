@@ -0,0 +1,17 @@
+package fixture.records;
+
+import cc.anqin.processor.annotation.AutoToMap;
+
+import java.util.List;
+
+@AutoToMap
+public record Point(int x, long y, String name, boolean visible, List<String> tags) {
+
+    public static final Point ORIGIN = new Point(0, 0, "origin", true, List.of());
+
+    public Point {
+        if (name == null) {
+            name = "unnamed";
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package fixture.registry;
+
+import cc.anqin.processor.annotation.AutoToMap;
+import lombok.Data;
+
+@Data
+@AutoToMap
+public class Account {
+    private String id;
+    private int balance;
+}